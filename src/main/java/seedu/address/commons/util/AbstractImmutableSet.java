@@ -0,0 +1,48 @@
+package seedu.address.commons.util;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.function.Predicate;
+
+/**
+ * A skeletal immutable set whose mutators all throw {@code UnsupportedOperationException}.
+ *
+ * @param <E> the type of elements in the set
+ */
+abstract class AbstractImmutableSet<E> extends AbstractSet<E> {
+
+    @Override
+    public final boolean add(E e) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public final boolean remove(Object o) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public final boolean addAll(Collection<? extends E> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public final boolean removeAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public final boolean retainAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public final boolean removeIf(Predicate<? super E> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public final void clear() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,204 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * An immutable set that keeps insertion order, stored as a plain array of its elements.
+ * <p>
+ * Most sets of tags and projects hold only a few elements, for which a {@code LinkedHashSet} spends far more
+ * memory on its table and entries than on the elements themselves. The factory methods here return the shared
+ * empty set or a {@code CompactSet} for sets of up to {@value #MAX_ARRAY_SIZE} elements, where a linear scan is
+ * as fast as hashing, and a {@link PersistentOrderedSet} for larger sets, so that deriving an updated set from a
+ * large one copies only O(log n) of it rather than the whole set.
+ *
+ * @param <E> the type of elements in the set
+ */
+public final class CompactSet<E> extends AbstractImmutableSet<E> {
+
+    public static final int MAX_ARRAY_SIZE = 8;
+
+    private static final CompactSet<?> EMPTY = new CompactSet<>(new Object[0]);
+
+    private final Object[] elements;
+
+    private CompactSet(Object[] elements) {
+        this.elements = elements;
+    }
+
+    /**
+     * Returns the empty set.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> Set<E> of() {
+        return (Set<E>) EMPTY;
+    }
+
+    /**
+     * Returns an immutable set of the distinct elements of {@code elements}, in iteration order.
+     * Where elements are equal, the first one is kept.
+     */
+    public static <E> Set<E> copyOf(Collection<? extends E> elements) {
+        requireNonNull(elements);
+        if (elements instanceof CompactSet || elements instanceof PersistentOrderedSet) {
+            @SuppressWarnings("unchecked")
+            Set<E> immutableSet = (Set<E>) elements;
+            return immutableSet;
+        }
+        if (elements.size() <= MAX_ARRAY_SIZE) {
+            return fromDistinct(distinct(elements.toArray(), elements.size()));
+        }
+        return shrink(PersistentOrderedSet.copyOf(elements));
+    }
+
+    /**
+     * Returns an immutable set of the elements of {@code base} followed by those of {@code added} not already in it.
+     */
+    public static <E> Set<E> union(Set<? extends E> base, Collection<? extends E> added) {
+        requireNonNull(base);
+        requireNonNull(added);
+        if (added.isEmpty()) {
+            return copyOf(base);
+        }
+        if (base.size() + added.size() <= MAX_ARRAY_SIZE) {
+            Object[] combined = Arrays.copyOf(base.toArray(), base.size() + added.size());
+            System.arraycopy(added.toArray(), 0, combined, base.size(), added.size());
+            return fromDistinct(distinct(combined, combined.length));
+        }
+        return shrink(PersistentOrderedSet.<E>copyOf(base).plusAll(added));
+    }
+
+    /**
+     * Returns an immutable set of the elements of {@code base} that are not in {@code removed}, in order.
+     */
+    public static <E> Set<E> difference(Set<? extends E> base, Collection<?> removed) {
+        requireNonNull(base);
+        requireNonNull(removed);
+        if (base.size() > MAX_ARRAY_SIZE) {
+            return shrink(PersistentOrderedSet.<E>copyOf(base).minusAll(removed));
+        }
+        Object[] remaining = base.toArray();
+        int remainingCount = 0;
+        for (Object element : remaining) {
+            if (!containsEqual(removed, element)) {
+                remaining[remainingCount++] = element;
+            }
+        }
+        return fromDistinct(distinct(remaining, remainingCount));
+    }
+
+    /**
+     * Returns an immutable set of the elements of {@code base} with the element equal to {@code element}, if any,
+     * replaced by {@code element} and moved to the end.
+     */
+    public static <E> Set<E> replace(Set<? extends E> base, E element) {
+        requireNonNull(base);
+        requireNonNull(element);
+        if (base.size() > MAX_ARRAY_SIZE) {
+            return PersistentOrderedSet.<E>copyOf(base).replace(element);
+        }
+        Object[] replaced = base.toArray();
+        int index = indexOf(replaced, replaced.length, element);
+        if (index >= 0) {
+            System.arraycopy(replaced, index + 1, replaced, index, replaced.length - index - 1);
+            replaced[replaced.length - 1] = element;
+        }
+        return fromDistinct(distinct(replaced, replaced.length));
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < elements.length;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return (E) elements[next++];
+            }
+        };
+    }
+
+    @Override
+    public int size() {
+        return elements.length;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(elements, elements.length, o) >= 0;
+    }
+
+    @Override
+    public Object[] toArray() {
+        return elements.clone();
+    }
+
+    /**
+     * Moves the distinct elements among the first {@code length} of {@code candidates} to its front, in order,
+     * and returns them as an array of their own.
+     */
+    private static Object[] distinct(Object[] candidates, int length) {
+        int distinctCount = 0;
+        for (int i = 0; i < length; i++) {
+            requireNonNull(candidates[i]);
+            if (indexOf(candidates, distinctCount, candidates[i]) < 0) {
+                candidates[distinctCount++] = candidates[i];
+            }
+        }
+        return Arrays.copyOf(candidates, distinctCount);
+    }
+
+    /**
+     * Returns the index of the first of the first {@code length} elements that {@code o} equals, or -1 if none.
+     * Compares in the same direction as {@code HashSet}, which matters for tags, as a {@code Tag} may equal a
+     * {@code Project} that does not equal it.
+     */
+    private static int indexOf(Object[] elements, int length, Object o) {
+        if (o == null) {
+            return -1;
+        }
+        for (int i = 0; i < length; i++) {
+            if (o.equals(elements[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static <E> Set<E> fromDistinct(Object[] distinctElements) {
+        return distinctElements.length == 0 ? of() : new CompactSet<>(distinctElements);
+    }
+
+    /**
+     * Returns whether any of {@code candidates} equals {@code element}, comparing as {@link #indexOf} does.
+     */
+    private static boolean containsEqual(Collection<?> candidates, Object element) {
+        for (Object candidate : candidates) {
+            if (candidate != null && candidate.equals(element)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns {@code set}, or a {@code CompactSet} of its elements if it is small enough to be one.
+     */
+    private static <E> Set<E> shrink(PersistentOrderedSet<E> set) {
+        return set.size() <= MAX_ARRAY_SIZE ? fromDistinct(set.toArray()) : set;
+    }
+}
@@ -0,0 +1,354 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable set that keeps insertion order, whose updates return a new version sharing most of its structure
+ * with the old one.
+ * <p>
+ * Each element is given a sequence number when added. A hash array mapped trie maps the elements to their
+ * sequence numbers, and a {@link PersistentVector} holds the elements by sequence number, with removed elements
+ * leaving an empty slot. {@link #plus(Object)}, {@link #minus(Object)} and {@link #contains(Object)} therefore
+ * take O(log n) time and copy only O(log n) nodes. The set is rebuilt once more than half of its slots are empty,
+ * which keeps removals O(log n) amortized.
+ * <p>
+ * Membership compares as {@code HashSet} does: the object looked up is asked if it equals the element in the set.
+ *
+ * @param <E> the type of elements in the set
+ */
+public final class PersistentOrderedSet<E> extends AbstractImmutableSet<E> {
+
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+    private static final int MIN_SLOTS_TO_COMPACT = 1 << BITS;
+
+    private static final PersistentOrderedSet<?> EMPTY =
+            new PersistentOrderedSet<>(BitmapNode.EMPTY, PersistentVector.empty(), 0);
+
+    private final Node index;
+    private final PersistentVector<E> slots;
+    private final int size;
+
+    private PersistentOrderedSet(Node index, PersistentVector<E> slots, int size) {
+        this.index = index;
+        this.slots = slots;
+        this.size = size;
+    }
+
+    /**
+     * Returns the empty set.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentOrderedSet<E> empty() {
+        return (PersistentOrderedSet<E>) EMPTY;
+    }
+
+    /**
+     * Returns a set of the distinct elements of {@code elements}, in iteration order.
+     */
+    public static <E> PersistentOrderedSet<E> copyOf(Iterable<? extends E> elements) {
+        requireNonNull(elements);
+        if (elements instanceof PersistentOrderedSet) {
+            @SuppressWarnings("unchecked")
+            PersistentOrderedSet<E> set = (PersistentOrderedSet<E>) elements;
+            return set;
+        }
+        return PersistentOrderedSet.<E>empty().plusAll(elements);
+    }
+
+    /**
+     * Returns a set with {@code element} added at the end, or this set if it already contains {@code element}.
+     */
+    public PersistentOrderedSet<E> plus(E element) {
+        requireNonNull(element);
+        if (contains(element)) {
+            return this;
+        }
+        Node newIndex = index.assoc(0, hash(element), element, slots.size());
+        return new PersistentOrderedSet<>(newIndex, slots.append(element), size + 1);
+    }
+
+    /**
+     * Returns a set with the elements of {@code elements} not in this set added at the end, in order.
+     */
+    public PersistentOrderedSet<E> plusAll(Iterable<? extends E> elements) {
+        requireNonNull(elements);
+        PersistentOrderedSet<E> result = this;
+        for (E element : elements) {
+            result = result.plus(element);
+        }
+        return result;
+    }
+
+    /**
+     * Returns a set without the element equal to {@code o}, or this set if there is no such element.
+     */
+    public PersistentOrderedSet<E> minus(Object o) {
+        Integer sequenceNumber = o == null ? null : index.find(0, hash(o), o);
+        if (sequenceNumber == null) {
+            return this;
+        } else if (size == 1) {
+            // the index would be left without a root node
+            return empty();
+        }
+        PersistentOrderedSet<E> removed =
+                new PersistentOrderedSet<>(index.without(0, hash(o), o), slots.set(sequenceNumber, null), size - 1);
+        return removed.isSparse() ? removed.compacted() : removed;
+    }
+
+    /**
+     * Returns a set without the elements equal to any of {@code elements}.
+     */
+    public PersistentOrderedSet<E> minusAll(Collection<?> elements) {
+        requireNonNull(elements);
+        PersistentOrderedSet<E> result = this;
+        for (Object element : elements) {
+            result = result.minus(element);
+        }
+        return result;
+    }
+
+    /**
+     * Returns a set with the element equal to {@code element} replaced by {@code element} and moved to the end,
+     * or this set if there is no such element.
+     */
+    public PersistentOrderedSet<E> replace(E element) {
+        requireNonNull(element);
+        return contains(element) ? minus(element).plus(element) : this;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o != null && index.find(0, hash(o), o) != null;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        Iterator<E> slotIterator = slots.iterator();
+        return new Iterator<>() {
+            private int remaining = size;
+
+            @Override
+            public boolean hasNext() {
+                return remaining > 0;
+            }
+
+            @Override
+            public E next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                E element = slotIterator.next();
+                while (element == null) {
+                    element = slotIterator.next();
+                }
+                remaining--;
+                return element;
+            }
+        };
+    }
+
+    private boolean isSparse() {
+        return slots.size() >= MIN_SLOTS_TO_COMPACT && slots.size() > 2 * size;
+    }
+
+    private PersistentOrderedSet<E> compacted() {
+        return PersistentOrderedSet.<E>empty().plusAll(this);
+    }
+
+    private static int hash(Object o) {
+        int h = o.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * A node of the hash array mapped trie from elements to their sequence numbers.
+     */
+    private interface Node {
+        /**
+         * Returns the sequence number of the element that {@code key} equals, or null if there is none.
+         */
+        Integer find(int shift, int hash, Object key);
+
+        /**
+         * Returns a node that also maps {@code key}, which it does not contain, to {@code sequenceNumber}.
+         */
+        Node assoc(int shift, int hash, Object key, int sequenceNumber);
+
+        /**
+         * Returns a node without the element that {@code key} equals, or null if that leaves the node empty.
+         */
+        Node without(int shift, int hash, Object key);
+    }
+
+    /**
+     * A node holding up to 32 entries, one for each 5-bit fragment of the hashes at its depth that is present.
+     * Each entry is a pair of array slots: either an element and its sequence number, or null and a child node.
+     */
+    private static final class BitmapNode implements Node {
+        private static final BitmapNode EMPTY = new BitmapNode(0, new Object[0]);
+
+        private final int bitmap;
+        private final Object[] array;
+
+        private BitmapNode(int bitmap, Object[] array) {
+            this.bitmap = bitmap;
+            this.array = array;
+        }
+
+        @Override
+        public Integer find(int shift, int hash, Object key) {
+            int bit = bitFor(shift, hash);
+            if ((bitmap & bit) == 0) {
+                return null;
+            }
+            int i = 2 * entryIndex(bit);
+            if (array[i] == null) {
+                return ((Node) array[i + 1]).find(shift + BITS, hash, key);
+            }
+            return key.equals(array[i]) ? (Integer) array[i + 1] : null;
+        }
+
+        @Override
+        public Node assoc(int shift, int hash, Object key, int sequenceNumber) {
+            int bit = bitFor(shift, hash);
+            int i = 2 * entryIndex(bit);
+            if ((bitmap & bit) == 0) {
+                Object[] newArray = new Object[array.length + 2];
+                System.arraycopy(array, 0, newArray, 0, i);
+                newArray[i] = key;
+                newArray[i + 1] = sequenceNumber;
+                System.arraycopy(array, i, newArray, i + 2, array.length - i);
+                return new BitmapNode(bitmap | bit, newArray);
+            }
+
+            Object[] newArray = array.clone();
+            if (array[i] == null) {
+                newArray[i + 1] = ((Node) array[i + 1]).assoc(shift + BITS, hash, key, sequenceNumber);
+            } else {
+                newArray[i] = null;
+                newArray[i + 1] = createNode(shift + BITS, array[i], (Integer) array[i + 1],
+                        hash, key, sequenceNumber);
+            }
+            return new BitmapNode(bitmap, newArray);
+        }
+
+        @Override
+        public Node without(int shift, int hash, Object key) {
+            int bit = bitFor(shift, hash);
+            if ((bitmap & bit) == 0) {
+                return this;
+            }
+            int i = 2 * entryIndex(bit);
+            if (array[i] == null) {
+                Node child = (Node) array[i + 1];
+                Node newChild = child.without(shift + BITS, hash, key);
+                if (newChild == child) {
+                    return this;
+                } else if (newChild != null) {
+                    Object[] newArray = array.clone();
+                    newArray[i + 1] = newChild;
+                    return new BitmapNode(bitmap, newArray);
+                }
+            } else if (!key.equals(array[i])) {
+                return this;
+            }
+
+            if (bitmap == bit) {
+                return null;
+            }
+            Object[] newArray = new Object[array.length - 2];
+            System.arraycopy(array, 0, newArray, 0, i);
+            System.arraycopy(array, i + 2, newArray, i, array.length - i - 2);
+            return new BitmapNode(bitmap ^ bit, newArray);
+        }
+
+        private int entryIndex(int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        private static int bitFor(int shift, int hash) {
+            return 1 << ((hash >>> shift) & MASK);
+        }
+
+        /**
+         * Returns a node holding both given elements, which are different.
+         */
+        private static Node createNode(int shift, Object key1, int sequenceNumber1,
+                int hash2, Object key2, int sequenceNumber2) {
+            int hash1 = hash(key1);
+            if (hash1 == hash2) {
+                return new CollisionNode(hash1, new Object[] {key1, sequenceNumber1, key2, sequenceNumber2});
+            }
+            return EMPTY.assoc(shift, hash1, key1, sequenceNumber1).assoc(shift, hash2, key2, sequenceNumber2);
+        }
+    }
+
+    /**
+     * A node holding the elements that share a full hash, as pairs of an element and its sequence number.
+     */
+    private static final class CollisionNode implements Node {
+        private final int hash;
+        private final Object[] array;
+
+        private CollisionNode(int hash, Object[] array) {
+            this.hash = hash;
+            this.array = array;
+        }
+
+        @Override
+        public Integer find(int shift, int hash, Object key) {
+            int i = indexOf(hash, key);
+            return i < 0 ? null : (Integer) array[i + 1];
+        }
+
+        @Override
+        public Node assoc(int shift, int hash, Object key, int sequenceNumber) {
+            if (hash == this.hash) {
+                Object[] newArray = Arrays.copyOf(array, array.length + 2);
+                newArray[array.length] = key;
+                newArray[array.length + 1] = sequenceNumber;
+                return new CollisionNode(hash, newArray);
+            }
+            // nest this node below a bitmap node, where the hashes differ
+            return new BitmapNode(BitmapNode.bitFor(shift, this.hash), new Object[] {null, this})
+                    .assoc(shift, hash, key, sequenceNumber);
+        }
+
+        @Override
+        public Node without(int shift, int hash, Object key) {
+            int i = indexOf(hash, key);
+            if (i < 0) {
+                return this;
+            } else if (array.length == 2) {
+                return null;
+            }
+            Object[] newArray = new Object[array.length - 2];
+            System.arraycopy(array, 0, newArray, 0, i);
+            System.arraycopy(array, i + 2, newArray, i, array.length - i - 2);
+            return new CollisionNode(this.hash, newArray);
+        }
+
+        private int indexOf(int hash, Object key) {
+            if (hash != this.hash) {
+                return -1;
+            }
+            for (int i = 0; i < array.length; i += 2) {
+                if (key.equals(array[i])) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package seedu.address.commons.util;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable indexed sequence whose updates return a new version sharing most of its structure with the old one.
+ * <p>
+ * Elements are kept in the leaves of a trie with {@value #BRANCHING} children per node, so {@link #get(int)},
+ * {@link #set(int, Object)} and {@link #append(Object)} all take O(log n) time, and an update copies only the
+ * nodes on the path to the changed element. Elements may be null.
+ *
+ * @param <E> the type of elements in the vector
+ */
+public final class PersistentVector<E> implements Iterable<E> {
+
+    private static final int BITS = 5;
+    private static final int BRANCHING = 1 << BITS;
+    private static final int MASK = BRANCHING - 1;
+
+    private static final PersistentVector<?> EMPTY = new PersistentVector<>(0, 0, new Object[BRANCHING]);
+
+    private final int size;
+    private final int shift;
+    private final Object[] root;
+
+    private PersistentVector(int size, int shift, Object[] root) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty vector.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentVector<E> empty() {
+        return (PersistentVector<E>) EMPTY;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the element at {@code index}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not within the vector
+     */
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        return (E) leafFor(index)[index & MASK];
+    }
+
+    /**
+     * Returns a vector with the element at {@code index} replaced by {@code element}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not within the vector
+     */
+    public PersistentVector<E> set(int index, E element) {
+        checkIndex(index);
+        return new PersistentVector<>(size, shift, setIn(root, shift, index, element));
+    }
+
+    /**
+     * Returns a vector with {@code element} added at the end.
+     */
+    public PersistentVector<E> append(E element) {
+        if (size == 1 << (shift + BITS)) {
+            // the trie is full, so grow it by one level
+            Object[] newRoot = new Object[BRANCHING];
+            newRoot[0] = root;
+            newRoot[1] = pathTo(shift, element);
+            return new PersistentVector<>(size + 1, shift + BITS, newRoot);
+        }
+        return new PersistentVector<>(size + 1, shift, appendIn(root, shift, size, element));
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private int next = 0;
+            private Object[] leaf;
+
+            @Override
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                if ((next & MASK) == 0 || leaf == null) {
+                    leaf = leafFor(next);
+                }
+                return (E) leaf[next++ & MASK];
+            }
+        };
+    }
+
+    private Object[] leafFor(int index) {
+        checkIndex(index);
+        Object[] node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Object[]) node[(index >>> level) & MASK];
+        }
+        return node;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    private static Object[] setIn(Object[] node, int level, int index, Object element) {
+        Object[] copy = node.clone();
+        if (level == 0) {
+            copy[index & MASK] = element;
+        } else {
+            int child = (index >>> level) & MASK;
+            copy[child] = setIn((Object[]) node[child], level - BITS, index, element);
+        }
+        return copy;
+    }
+
+    private static Object[] appendIn(Object[] node, int level, int index, Object element) {
+        Object[] copy = node.clone();
+        if (level == 0) {
+            copy[index & MASK] = element;
+        } else {
+            int child = (index >>> level) & MASK;
+            copy[child] = copy[child] == null
+                    ? pathTo(level - BITS, element)
+                    : appendIn((Object[]) copy[child], level - BITS, index, element);
+        }
+        return copy;
+    }
+
+    /**
+     * Returns a new branch of the given {@code level} holding only {@code element}, at its first position.
+     */
+    private static Object[] pathTo(int level, Object element) {
+        Object[] node = new Object[BRANCHING];
+        node[0] = level == 0 ? element : pathTo(level - BITS, element);
+        return node;
+    }
+}
@@ -5,7 +5,9 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 /**
  * Helper functions for handling strings.
@@ -38,6 +40,65 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns the words in {@code sentence}, i.e. its maximal runs of non-whitespace characters, in order.
+     * Equivalent to splitting the trimmed sentence on {@code \\s+}, without the cost of a regex.
+     *   <br>examples:<pre>
+     *       splitIntoWords(" ABc  def ") == [ABc, def]
+     *       splitIntoWords("   ") == []
+     *       </pre>
+     * @param sentence cannot be null
+     */
+    public static List<String> splitIntoWords(String sentence) {
+        requireNonNull(sentence);
+        List<String> words = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i < sentence.length(); i++) {
+            boolean isWhitespace = Character.isWhitespace(sentence.charAt(i));
+            if (isWhitespace && start != -1) {
+                words.add(sentence.substring(start, i));
+                start = -1;
+            } else if (!isWhitespace && start == -1) {
+                start = i;
+            }
+        }
+        if (start != -1) {
+            words.add(sentence.substring(start));
+        }
+        return words;
+    }
+
+    /**
+     * Returns the Levenshtein distance between {@code first} and {@code second}, i.e. the fewest single-character
+     * insertions, deletions and substitutions that turn one into the other. Case-sensitive.
+     *   <br>examples:<pre>
+     *       editDistance("bernise", "bernice") == 1
+     *       editDistance("kitten", "sitting") == 3
+     *       </pre>
+     * @param first cannot be null
+     * @param second cannot be null
+     */
+    public static int editDistance(String first, String second) {
+        requireNonNull(first);
+        requireNonNull(second);
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= second.length(); j++) {
+                int substitution = previous[j - 1] + (first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[second.length()];
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
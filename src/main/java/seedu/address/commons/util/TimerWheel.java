@@ -0,0 +1,257 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.function.Consumer;
+
+/**
+ * A hierarchical timer wheel, which holds timers that each expire at a whole tick and fires them as its time is
+ * advanced.
+ * <p>
+ * The wheel has {@value #LEVELS} levels of {@value #SLOTS} slots. A timer is kept at the level of the highest
+ * {@value #BITS}-bit digit in which its expiry differs from the current time, in the slot given by that digit of its
+ * expiry, so scheduling and cancelling a timer is a constant-time link into or out of a slot's list. When the time
+ * reaches the start of a slot above the lowest level, the timers in it are moved down to the levels they now
+ * belong to, and the timers in the lowest level's slot for the current tick are fired. Each level marks its
+ * non-empty slots in a bitmap, so advancing skips straight to the next slot holding timers rather than stepping
+ * through every tick. Timers too far ahead for the top level wait in an overflow list until the top level wraps.
+ * <p>
+ * Timers fire in order of expiry, and timers with the same expiry fire in the order they were scheduled.
+ *
+ * @param <T> the type of the values the timers carry
+ */
+public class TimerWheel<T> {
+
+    public static final String MESSAGE_CONSTRAINTS = "The time of a timer wheel cannot be negative.";
+
+    private static final int BITS = 6;
+    private static final int SLOTS = 1 << BITS;
+    private static final int MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    private static final int OVERFLOW_LIST = LEVELS * SLOTS;
+    private static final int DUE_LIST = OVERFLOW_LIST + 1;
+    private static final int UNSCHEDULED = -1;
+
+    @SuppressWarnings("unchecked")
+    private final Timer<T>[] heads = (Timer<T>[]) new Timer<?>[DUE_LIST + 1];
+    @SuppressWarnings("unchecked")
+    private final Timer<T>[] tails = (Timer<T>[]) new Timer<?>[DUE_LIST + 1];
+    private final long[] occupiedSlots = new long[LEVELS];
+    private long time;
+    private int size;
+
+    /**
+     * Creates an empty {@code TimerWheel} whose time starts at the tick {@code time}.
+     */
+    public TimerWheel(long time) {
+        checkArgument(time >= 0, MESSAGE_CONSTRAINTS);
+        this.time = time;
+    }
+
+    public long getTime() {
+        return time;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Schedules a timer carrying {@code value} to fire once the time reaches {@code expiry}.
+     * A timer whose expiry is not after the current time fires on the next {@link #advanceTo(long, Consumer)}.
+     */
+    public Timer<T> schedule(long expiry, T value) {
+        requireNonNull(value);
+        Timer<T> timer = new Timer<>(expiry, value);
+        insert(timer);
+        size++;
+        return timer;
+    }
+
+    /**
+     * Cancels {@code timer}, which must have been scheduled on this wheel, so that it does not fire.
+     * Returns false if the timer has already fired or been cancelled.
+     */
+    public boolean cancel(Timer<T> timer) {
+        requireNonNull(timer);
+        if (!timer.isScheduled()) {
+            return false;
+        }
+        unlink(timer);
+        size--;
+        return true;
+    }
+
+    /**
+     * Cancels every timer on the wheel.
+     */
+    public void clear() {
+        for (int list = 0; list < heads.length; list++) {
+            while (heads[list] != null) {
+                unlink(heads[list]);
+            }
+        }
+        size = 0;
+    }
+
+    /**
+     * Moves the time forward to {@code target}, giving the value of each timer that expires on the way to
+     * {@code onExpiry}. Does nothing to the time if {@code target} is not after it, but still fires the timers that
+     * are already due. {@code onExpiry} may schedule and cancel timers.
+     */
+    public void advanceTo(long target, Consumer<? super T> onExpiry) {
+        requireNonNull(onExpiry);
+        fireAll(DUE_LIST, onExpiry);
+        while (time < target) {
+            long next = nextSlotStart();
+            if (next > target) {
+                time = target;
+                break;
+            }
+            time = next;
+            for (int level = LEVELS - 1; level > 0; level--) {
+                if ((time & ((1L << (level * BITS)) - 1)) == 0) {
+                    cascade(level * SLOTS + digitOf(time, level));
+                }
+            }
+            if ((time & ((1L << (LEVELS * BITS)) - 1)) == 0) {
+                cascade(OVERFLOW_LIST);
+            }
+            fireAll(digitOf(time, 0), onExpiry);
+            fireAll(DUE_LIST, onExpiry);
+        }
+    }
+
+    /**
+     * Returns the earliest tick after the current time at which a slot holding timers starts, or
+     * {@code Long.MAX_VALUE} if no timers are waiting.
+     */
+    private long nextSlotStart() {
+        long next = Long.MAX_VALUE;
+        for (int level = 0; level < LEVELS; level++) {
+            int digit = digitOf(time, level);
+            long laterSlots = digit == MASK ? 0 : occupiedSlots[level] & (-1L << (digit + 1));
+            if (laterSlots == 0) {
+                continue;
+            }
+            int shift = (level + 1) * BITS;
+            long blockStart = (time >>> shift) << shift;
+            next = Math.min(next, blockStart | ((long) Long.numberOfTrailingZeros(laterSlots) << (level * BITS)));
+        }
+        if (heads[OVERFLOW_LIST] != null) {
+            int shift = LEVELS * BITS;
+            next = Math.min(next, ((time >>> shift) + 1) << shift);
+        }
+        return next;
+    }
+
+    /**
+     * Moves the timers in {@code list} to where they now belong. The list is detached first, as timers still too
+     * far ahead go back into the overflow list.
+     */
+    private void cascade(int list) {
+        Timer<T> timer = heads[list];
+        heads[list] = null;
+        tails[list] = null;
+        if (list < OVERFLOW_LIST) {
+            occupiedSlots[list / SLOTS] &= ~(1L << (list % SLOTS));
+        }
+        while (timer != null) {
+            Timer<T> nextTimer = timer.next;
+            insert(timer);
+            timer = nextTimer;
+        }
+    }
+
+    private void fireAll(int list, Consumer<? super T> onExpiry) {
+        while (heads[list] != null) {
+            Timer<T> timer = heads[list];
+            unlink(timer);
+            size--;
+            onExpiry.accept(timer.value);
+        }
+    }
+
+    private void insert(Timer<T> timer) {
+        long expiry = timer.expiry;
+        if (expiry <= time) {
+            link(timer, DUE_LIST);
+            return;
+        }
+        int level = (Long.SIZE - 1 - Long.numberOfLeadingZeros(expiry ^ time)) / BITS;
+        link(timer, level < LEVELS ? level * SLOTS + digitOf(expiry, level) : OVERFLOW_LIST);
+    }
+
+    private void link(Timer<T> timer, int list) {
+        timer.list = list;
+        timer.prev = tails[list];
+        timer.next = null;
+        if (tails[list] == null) {
+            heads[list] = timer;
+        } else {
+            tails[list].next = timer;
+        }
+        tails[list] = timer;
+        if (list < OVERFLOW_LIST) {
+            occupiedSlots[list / SLOTS] |= 1L << (list % SLOTS);
+        }
+    }
+
+    private void unlink(Timer<T> timer) {
+        int list = timer.list;
+        if (timer.prev == null) {
+            heads[list] = timer.next;
+        } else {
+            timer.prev.next = timer.next;
+        }
+        if (timer.next == null) {
+            tails[list] = timer.prev;
+        } else {
+            timer.next.prev = timer.prev;
+        }
+        if (list < OVERFLOW_LIST && heads[list] == null) {
+            occupiedSlots[list / SLOTS] &= ~(1L << (list % SLOTS));
+        }
+        timer.prev = null;
+        timer.next = null;
+        timer.list = UNSCHEDULED;
+    }
+
+    private static int digitOf(long tick, int level) {
+        return (int) ((tick >>> (level * BITS)) & MASK);
+    }
+
+    /**
+     * A timer on a {@code TimerWheel}, which can be used to cancel it.
+     *
+     * @param <T> the type of the value the timer carries
+     */
+    public static final class Timer<T> {
+        private final long expiry;
+        private final T value;
+        private Timer<T> prev;
+        private Timer<T> next;
+        private int list = UNSCHEDULED;
+
+        private Timer(long expiry, T value) {
+            this.expiry = expiry;
+            this.value = value;
+        }
+
+        public long getExpiry() {
+            return expiry;
+        }
+
+        public T getValue() {
+            return value;
+        }
+
+        /**
+         * Returns true if the timer has neither fired nor been cancelled.
+         */
+        public boolean isScheduled() {
+            return list != UNSCHEDULED;
+        }
+    }
+}
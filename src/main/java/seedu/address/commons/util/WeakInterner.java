@@ -0,0 +1,39 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * A pool of canonical instances of immutable values, so that equal values can share one instance.
+ * The pool holds its instances weakly, so an instance no longer used anywhere else can be garbage collected.
+ *
+ * @param <T> the type of value pooled; its {@code equals} and {@code hashCode} decide which values share an instance
+ */
+public class WeakInterner<T> {
+
+    private final Map<T, WeakReference<T>> pool = new WeakHashMap<>();
+
+    /**
+     * Returns the pooled instance equal to {@code value}, pooling {@code value} itself if there is none.
+     */
+    public synchronized T intern(T value) {
+        requireNonNull(value);
+        WeakReference<T> pooledReference = pool.get(value);
+        T pooled = pooledReference == null ? null : pooledReference.get();
+        if (pooled != null) {
+            return pooled;
+        }
+        pool.put(value, new WeakReference<>(value));
+        return value;
+    }
+
+    /**
+     * Returns the number of instances currently pooled.
+     */
+    public synchronized int size() {
+        return pool.size();
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -8,6 +10,10 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.index.DeadlineEvent;
+import seedu.address.model.index.Facets;
+import seedu.address.model.index.ProjectStatistics;
+import seedu.address.model.index.Workload;
 import seedu.address.model.person.Person;
 
 /**
@@ -33,6 +39,48 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
+    /**
+     * Returns how the persons in the filtered list break down by tag and by project status.
+     *
+     * @see seedu.address.model.Model#getFilteredPersonFacets()
+     */
+    Facets getFilteredPersonFacets();
+
+    /**
+     * Returns the running totals over every project in the address book.
+     *
+     * @see seedu.address.model.Model#getProjectStatistics()
+     */
+    ProjectStatistics getProjectStatistics();
+
+    /**
+     * Returns the events of the projects that became due soon or overdue since this was last called.
+     *
+     * @see seedu.address.model.Model#advanceDeadlines()
+     */
+    List<DeadlineEvent> advanceDeadlines();
+
+    /**
+     * Returns the names of the incomplete projects whose deadline is less than a day away.
+     *
+     * @see seedu.address.model.Model#getDueSoonProjectNames()
+     */
+    Set<String> getDueSoonProjectNames();
+
+    /**
+     * Returns the names of the incomplete projects whose deadline has passed.
+     *
+     * @see seedu.address.model.Model#getOverdueProjectNames()
+     */
+    Set<String> getOverdueProjectNames();
+
+    /**
+     * Returns the incomplete projects due in each of the {@code weekCount} weeks from this week.
+     *
+     * @see seedu.address.model.Model#getWorkload(int, int)
+     */
+    Workload getWorkload(int weekCount, int weeklyCapacity);
+
     /**
      * Returns the user prefs' address book file path.
      */
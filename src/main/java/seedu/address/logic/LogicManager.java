@@ -3,6 +3,8 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -16,6 +18,10 @@ import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.index.DeadlineEvent;
+import seedu.address.model.index.Facets;
+import seedu.address.model.index.ProjectStatistics;
+import seedu.address.model.index.Workload;
 import seedu.address.model.person.Person;
 import seedu.address.storage.Storage;
 
@@ -56,6 +62,7 @@ public class LogicManager implements Logic {
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
         commandResult = command.execute(model);
+        model.commitAddressBook();
 
         try {
             String[] commandType = commandText.split(" ");
@@ -82,6 +89,36 @@ public class LogicManager implements Logic {
         return model.getFilteredPersonList();
     }
 
+    @Override
+    public Facets getFilteredPersonFacets() {
+        return model.getFilteredPersonFacets();
+    }
+
+    @Override
+    public ProjectStatistics getProjectStatistics() {
+        return model.getProjectStatistics();
+    }
+
+    @Override
+    public List<DeadlineEvent> advanceDeadlines() {
+        return model.advanceDeadlines();
+    }
+
+    @Override
+    public Set<String> getDueSoonProjectNames() {
+        return model.getDueSoonProjectNames();
+    }
+
+    @Override
+    public Set<String> getOverdueProjectNames() {
+        return model.getOverdueProjectNames();
+    }
+
+    @Override
+    public Workload getWorkload(int weekCount, int weeklyCapacity) {
+        return model.getWorkload(weekCount, weeklyCapacity);
+    }
+
     @Override
     public Path getAddressBookFilePath() {
         return model.getAddressBookFilePath();
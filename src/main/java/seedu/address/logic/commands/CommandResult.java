@@ -3,8 +3,10 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Objects;
+import java.util.Optional;
 
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.index.Workload;
 
 /**
  * Represents the result of a command execution.
@@ -22,6 +24,9 @@ public class CommandResult {
     /** Should change current save file status */
     private final boolean isSaveLocationModified;
 
+    /** The workload to be shown to the user, if any. */
+    private final Workload workload;
+
     /**
      * Constructs a {@code CommandResult} with the specified fields.
      */
@@ -30,6 +35,19 @@ public class CommandResult {
         this.showHelp = showHelp;
         this.exit = exit;
         this.isSaveLocationModified = saveLocationModified;
+        this.workload = null;
+    }
+
+    /**
+     * Constructs a {@code CommandResult} with the specified {@code feedbackToUser} and a {@code workload} to be
+     * shown to the user, and other fields set to their default value.
+     */
+    public CommandResult(String feedbackToUser, Workload workload) {
+        this.feedbackToUser = requireNonNull(feedbackToUser);
+        this.showHelp = false;
+        this.exit = false;
+        this.isSaveLocationModified = false;
+        this.workload = requireNonNull(workload);
     }
 
     /**
@@ -60,6 +78,13 @@ public class CommandResult {
         return isSaveLocationModified;
     }
 
+    /**
+     * Returns the workload to be shown to the user, if any.
+     */
+    public Optional<Workload> getWorkload() {
+        return Optional.ofNullable(workload);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -67,14 +92,15 @@ public class CommandResult {
         } else if (other instanceof CommandResult otherCommandResult) {
             return feedbackToUser.equals(otherCommandResult.feedbackToUser)
                     && showHelp == otherCommandResult.showHelp
-                    && exit == otherCommandResult.exit;
+                    && exit == otherCommandResult.exit
+                    && Objects.equals(workload, otherCommandResult.workload);
         }
         return false;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(feedbackToUser, showHelp, exit);
+        return Objects.hash(feedbackToUser, showHelp, exit, workload);
     }
 
     @Override
@@ -83,6 +109,7 @@ public class CommandResult {
                 .add("feedbackToUser", feedbackToUser)
                 .add("showHelp", showHelp)
                 .add("exit", exit)
+                .add("workload", workload)
                 .toString();
     }
 
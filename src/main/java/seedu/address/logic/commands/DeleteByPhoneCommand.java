@@ -23,10 +23,7 @@ public class DeleteByPhoneCommand extends DeleteCommand {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        Person personToDelete = model.getFilteredPersonList()
-            .stream()
-            .filter(x -> x.hasSamePhone(phone))
-            .findFirst()
+        Person personToDelete = model.findByPhone(phone)
             .orElseThrow(() -> new CommandException(Messages.MESSAGE_ABSENT_PHONE_NUMBER));
 
         model.deletePerson(personToDelete);
@@ -0,0 +1,45 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.model.Model;
+import seedu.address.model.index.ProjectDeadline;
+import seedu.address.model.person.DeadlineInRangePredicate;
+
+/**
+ * Finds and lists all persons in address book with a project due within a time range,
+ * and lists those projects in deadline order.
+ */
+public class FindByDeadlineCommand extends FindCommand {
+
+    public static final String MESSAGE_DUE_PROJECTS = "Projects due, by deadline:";
+
+    private final DeadlineInRangePredicate predicate;
+
+    /**
+     * Creates a FindByDeadlineCommand to find the persons with a project matching {@code predicate}.
+     */
+    public FindByDeadlineCommand(DeadlineInRangePredicate predicate) {
+        super(predicate);
+        this.predicate = predicate;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        CommandResult listedResult = super.execute(model);
+        List<ProjectDeadline> dueProjects = model.findProjectsDueBetween(predicate.getFrom(), predicate.getTo());
+        if (dueProjects.isEmpty()) {
+            return listedResult;
+        }
+
+        StringBuilder feedback = new StringBuilder(listedResult.getFeedbackToUser())
+                .append("\n").append(MESSAGE_DUE_PROJECTS);
+        for (int i = 0; i < dueProjects.size(); i++) {
+            feedback.append("\n").append(i + 1).append(". ").append(dueProjects.get(i));
+        }
+        return new CommandResult(feedback.toString());
+    }
+}
@@ -18,9 +18,25 @@ public class FindCommand extends Command {
     public static final String COMMAND_WORD = "find";
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Displays all contacts whose names or phone numbers "
             + "contain any of the provided search terms (case-insensitive). "
-            + "Parameters: n/NAME [NAME]... OR p/PHONE [PHONE]... \n"
+            + "A name ending with '*' matches names containing it anywhere. "
+            + "A name ending with '~' matches names with a word at most 1 edit from it, or '~2' for 2 edits, "
+            + "up to '~3'. "
+            + "A phone ending or starting with '*' matches phone numbers starting or ending with it. "
+            + "Alternatively, filters contacts having any of the given tags and a project with the given payment "
+            + "and progress status; these filters can be combined. "
+            + "Alternatively, lists the contacts and projects due from and/or by the given times, in deadline order. "
+            + "Search terms can also be combined with AND, OR, NOT and brackets, using the prefixes above, "
+            + "e/ for emails and proj/ for project names. Search terms written next to each other must all match. "
+            + "Parameters: n/NAME [NAME]... OR p/PHONE [PHONE]... "
+            + "OR [t/TAG [TAG]...] [pay/PAYMENT] [prog/PROGRESS] "
+            + "OR [from/DEADLINE] [by/DEADLINE] OR QUERY \n"
             + "Example 1: " + COMMAND_WORD + " n/alice bob charlie \n"
-            + "Example 2: " + COMMAND_WORD + " p/87438807 88888888";
+            + "Example 2: " + COMMAND_WORD + " n/ali* bernise~ \n"
+            + "Example 3: " + COMMAND_WORD + " p/87438807 88888888 \n"
+            + "Example 4: " + COMMAND_WORD + " p/9123* *4567 \n"
+            + "Example 5: " + COMMAND_WORD + " t/client pay/unpaid \n"
+            + "Example 6: " + COMMAND_WORD + " from/01 Apr 2026 0000 by/07 Apr 2026 2359 \n"
+            + "Example 7: " + COMMAND_WORD + " n/alice AND (t/friends OR NOT pay/paid)";
 
     private final Predicate<Person> predicate;
 
@@ -32,8 +48,17 @@ public class FindCommand extends Command {
     public CommandResult execute(Model model) {
         requireNonNull(model);
         model.updateFilteredPersonList(predicate);
-        return new CommandResult(
-                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+        return new CommandResult(formatListed(model));
+    }
+
+    /**
+     * Returns how many persons the filtered person list of {@code model} shows, and how they break down by tag and
+     * by project status if there are any.
+     */
+    static String formatListed(Model model) {
+        int listedCount = model.getFilteredPersonList().size();
+        String overview = String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, listedCount);
+        return listedCount == 0 ? overview : overview + "\n" + model.getFilteredPersonFacets();
     }
 
     @Override
@@ -0,0 +1,114 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_INVOICED;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PAID;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PROJECT;
+
+import java.util.List;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Ledger;
+import seedu.address.model.tag.LedgerEntry;
+import seedu.address.model.tag.Project;
+
+/**
+ * Enters amounts invoiced and paid in the ledger of a project of the person identified by the index number used in
+ * the displayed person list.
+ */
+public class LedgerCommand extends Command {
+
+    public static final String COMMAND_WORD = "ledger";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Enters an amount invoiced, an amount paid, or "
+            + "both in the ledger of the specified project of the person identified by the index number used in the "
+            + "displayed person list, for everyone on the project. "
+            + "At least one of the optional fields must be provided. "
+            + "The project is paid once nothing invoiced is outstanding.\n"
+            + "Parameters: INDEX (must be a positive integer) "
+            + PREFIX_PROJECT + "PROJECT "
+            + "[" + PREFIX_INVOICED + "AMOUNT] "
+            + "[" + PREFIX_PAID + "AMOUNT]\n"
+            + "Example: " + COMMAND_WORD + " 1 "
+            + PREFIX_PROJECT + "mural "
+            + PREFIX_INVOICED + "1200 "
+            + PREFIX_PAID + "400.50";
+
+    public static final String MESSAGE_NO_ENTRY = "At least one amount invoiced or paid must be provided.";
+    public static final String MESSAGE_SUCCESS = "Ledger of %1$s updated: %2$s";
+
+    private final Index index;
+    private final String projectName;
+    private final List<LedgerEntry> entries;
+
+    /**
+     * Creates a LedgerCommand to enter {@code entries}, in order, in the ledger of the specified {@code Project}.
+     */
+    public LedgerCommand(Index index, String projectName, List<LedgerEntry> entries) {
+        requireNonNull(index);
+        requireNonNull(projectName);
+        requireNonNull(entries);
+
+        this.index = index;
+        this.projectName = projectName;
+        this.entries = List.copyOf(entries);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Person> lastShownList = model.getFilteredPersonList();
+
+        if (index.getZeroBased() >= lastShownList.size()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+        }
+
+        Person person = lastShownList.get(index.getZeroBased());
+        Project projectToEdit = person.getProjects()
+                .stream()
+                .filter(x -> x.hasSameName(projectName))
+                .findFirst()
+                .orElseThrow(() -> new CommandException(Messages.MESSAGE_ABSENT_PROJECT));
+
+        Project editedProject = projectToEdit;
+        try {
+            for (LedgerEntry entry : entries) {
+                editedProject = editedProject.createProjectWithLedgerEntry(entry);
+            }
+        } catch (IllegalArgumentException e) {
+            throw new CommandException(Ledger.MESSAGE_TOTAL_CONSTRAINTS);
+        }
+
+        // The ledger is shared by everyone on the project, like its status
+        model.setProjectStatus(editedProject);
+
+        return new CommandResult(String.format(MESSAGE_SUCCESS, editedProject.getTagName(),
+                editedProject.getLedger().getTotals()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        } else if (other instanceof LedgerCommand otherLedgerCommand) {
+            return index.equals(otherLedgerCommand.index)
+                    && projectName.equals(otherLedgerCommand.projectName)
+                    && entries.equals(otherLedgerCommand.entries);
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("index", index)
+                .add("projectName", projectName)
+                .add("entries", entries)
+                .toString();
+    }
+}
@@ -0,0 +1,83 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.index.ScoredPerson;
+import seedu.address.model.person.PersonIdPredicate;
+
+/**
+ * Lists the persons in address book that best match the keywords in their name, tags or project names,
+ * from most to least relevant.
+ */
+public class SearchCommand extends Command {
+
+    public static final String COMMAND_WORD = "search";
+    public static final int DEFAULT_LIMIT = 10;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Displays up to " + DEFAULT_LIMIT + " contacts whose "
+            + "names, tags or project names best match the keywords (case-insensitive), ranked by relevance. "
+            + "Matches in names count the most, then matches in project names, then in tags. "
+            + "Parameters: KEYWORD [KEYWORD]...\n"
+            + "Example: " + COMMAND_WORD + " alice friends project-x";
+
+    public static final String MESSAGE_RANKED_PERSONS = "Best matches:";
+
+    private final List<String> keywords;
+    private final int limit;
+
+    /**
+     * Creates a SearchCommand to list the {@code limit} persons most relevant to the {@code keywords}.
+     */
+    public SearchCommand(List<String> keywords, int limit) {
+        requireNonNull(keywords);
+        this.keywords = keywords;
+        this.limit = limit;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<ScoredPerson> ranked = model.searchPersons(keywords, limit);
+        Map<Integer, Integer> ranksById = new HashMap<>();
+        for (int i = 0; i < ranked.size(); i++) {
+            ranksById.put(ranked.get(i).person().getId(), i);
+        }
+        // Ranks are kept by id, so that the persons stay in rank order as they are edited
+        model.updateFilteredPersonList(new PersonIdPredicate(ranksById.keySet()),
+                Comparator.comparingInt(person -> ranksById.getOrDefault(person.getId(), Integer.MAX_VALUE)));
+
+        StringBuilder feedback = new StringBuilder(FindCommand.formatListed(model));
+        if (!ranked.isEmpty()) {
+            feedback.append("\n").append(MESSAGE_RANKED_PERSONS);
+        }
+        for (int i = 0; i < ranked.size(); i++) {
+            feedback.append("\n").append(i + 1).append(". ").append(ranked.get(i));
+        }
+        return new CommandResult(feedback.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        } else if (other instanceof SearchCommand otherSearchCommand) {
+            return keywords.equals(otherSearchCommand.keywords) && limit == otherSearchCommand.limit;
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("keywords", keywords)
+                .add("limit", limit)
+                .toString();
+    }
+}
@@ -5,7 +5,6 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_DEADLINE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PAYMENT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PROGRESS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PROJECT;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import java.util.List;
 
@@ -25,7 +24,8 @@ public class SetStatusCommand extends Command {
     public static final String COMMAND_WORD = "setstatus";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sets the status of specified project of the "
-            + "person identified by the index number used in the displayed person list. "
+            + "person identified by the index number used in the displayed person list, "
+            + "for everyone on the project. "
             + "At least one of the optional fields must be provided. "
             + "Existing values will be overwritten by the input values.\n"
             + "Parameters: INDEX (must be a positive integer) "
@@ -76,12 +76,10 @@ public class SetStatusCommand extends Command {
 
         Project editedProject = projectToEdit.createEditedProject(setStatusDescriptor);
 
-        // Create new person with updated project, to replace old person with old project
-        // This will ensure a new objectID and allow JavaFX to detect the change and update UI
-        Person editedPerson = personToEdit.replaceProject(editedProject);
-        model.setPerson(personToEdit, editedPerson);
+        // The status is shared by everyone on the project, so each of them is replaced with a version holding
+        // the edited project, which also lets JavaFX detect the change and update the UI
+        model.setProjectStatus(editedProject);
 
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         return new CommandResult(String.format(MESSAGE_SUCCESS, editedProject));
     }
 }
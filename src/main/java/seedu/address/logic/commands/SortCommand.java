@@ -0,0 +1,65 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.person.SortField;
+
+/**
+ * Sorts the displayed person list by one or more fields, or restores the order the persons were added in.
+ */
+public class SortCommand extends Command {
+
+    public static final String COMMAND_WORD = "sort";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sorts the displayed contacts by the given fields, "
+            + "each one breaking ties in the ones before it. "
+            + "Fields: name, phone, projects (most projects first), deadline (nearest deadline of an incomplete "
+            + "project first), unpaid (contacts with unpaid projects first). "
+            + "Without fields, restores the order the contacts were added in.\n"
+            + "Parameters: [FIELD]...\n"
+            + "Example: " + COMMAND_WORD + " unpaid deadline name";
+
+    public static final String MESSAGE_SUCCESS = "Sorted contacts by %1$s";
+    public static final String MESSAGE_UNSORTED = "Contacts are back in the order they were added";
+
+    private final List<SortField> sortFields;
+
+    /**
+     * Creates a SortCommand to sort the displayed persons by each of {@code sortFields} in turn.
+     */
+    public SortCommand(List<SortField> sortFields) {
+        requireNonNull(sortFields);
+        this.sortFields = sortFields;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.sortFilteredPersonList(sortFields);
+        if (sortFields.isEmpty()) {
+            return new CommandResult(MESSAGE_UNSORTED);
+        }
+        String fields = sortFields.stream().map(SortField::getKeyword).collect(Collectors.joining(", then "));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, fields));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        } else if (other instanceof SortCommand otherSortCommand) {
+            return sortFields.equals(otherSortCommand.sortFields);
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("sortFields", sortFields).toString();
+    }
+}
@@ -51,10 +51,7 @@ public class SwitchContactCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        Person personToSwitchPrefContact = model.getFilteredPersonList()
-                .stream()
-                .filter(x -> x.getPhone().equals(phone))
-                .findFirst()
+        Person personToSwitchPrefContact = model.findByPhone(phone)
                 .orElseThrow(() -> new CommandException(Messages.MESSAGE_ABSENT_PHONE_NUMBER));
 
         // Check if the email is present
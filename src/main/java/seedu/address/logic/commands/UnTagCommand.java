@@ -4,7 +4,6 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PROJECT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import java.util.List;
 import java.util.Optional;
@@ -54,10 +53,7 @@ public class UnTagCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        Person personToUnTag = model.getFilteredPersonList()
-                .stream()
-                .filter(x -> x.hasSamePhone(phone))
-                .findFirst()
+        Person personToUnTag = model.findByPhone(phone)
                 .orElseThrow(() -> new CommandException(Messages.MESSAGE_ABSENT_PHONE_NUMBER));
 
         Optional<String> optionalMissingTagsProjects = findMissingTagsProjects(personToUnTag);
@@ -71,7 +67,6 @@ public class UnTagCommand extends Command {
         Person untaggedPerson = personToUnTag.unTagPerson(this.tags, this.projects);
 
         model.setPerson(personToUnTag, untaggedPerson);
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         return new CommandResult(String.format(MESSAGE_SUCCESS, untaggedPerson.getName()));
     }
 
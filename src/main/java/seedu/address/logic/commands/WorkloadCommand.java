@@ -0,0 +1,59 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.index.Workload;
+
+/**
+ * Shows how many incomplete projects fall due in each week of the coming year, flagging the overloaded weeks.
+ */
+public class WorkloadCommand extends Command {
+
+    public static final String COMMAND_WORD = "workload";
+
+    public static final int WEEKS = 52;
+    public static final int DEFAULT_WEEKLY_CAPACITY = 5;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows how many incomplete projects fall due in "
+            + "each week of the next year, and flags the weeks with more than CAPACITY projects due.\n"
+            + "Parameters: [CAPACITY] (must be a positive integer, " + DEFAULT_WEEKLY_CAPACITY + " if not given)\n"
+            + "Example: " + COMMAND_WORD + " 3";
+
+    public static final String MESSAGE_CONSTRAINTS = "The weekly capacity must be a positive integer.";
+    public static final String MESSAGE_SUCCESS = "Workload:\n%1$s";
+
+    private final int weeklyCapacity;
+
+    /**
+     * Creates a WorkloadCommand that flags the weeks with more than {@code weeklyCapacity} projects due.
+     */
+    public WorkloadCommand(int weeklyCapacity) {
+        checkArgument(weeklyCapacity > 0, MESSAGE_CONSTRAINTS);
+        this.weeklyCapacity = weeklyCapacity;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        Workload workload = model.getWorkload(WEEKS, weeklyCapacity);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, workload), workload);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        } else if (other instanceof WorkloadCommand otherWorkloadCommand) {
+            return weeklyCapacity == otherWorkloadCommand.weeklyCapacity;
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("weeklyCapacity", weeklyCapacity).toString();
+    }
+}
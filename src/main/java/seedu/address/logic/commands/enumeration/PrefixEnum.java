@@ -10,6 +10,7 @@ public enum PrefixEnum {
     PREFIX_TAG("t/"),
     PREFIX_PROJECT("proj/"),
     PREFIX_DEADLINE("by/"),
+    PREFIX_DEADLINE_FROM("from/"),
     PREFIX_PAYMENT("pay/"),
     PREFIX_PROGRESS("prog/");
     private final String prefix;
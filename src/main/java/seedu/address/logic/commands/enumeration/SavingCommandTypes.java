@@ -12,7 +12,9 @@ public enum SavingCommandTypes {
     SETSTATUS("setstatus"),
     SWITCHCONTACT("switchcontact"),
     TAG("tag"),
-    UNTAG("untag");
+    UNTAG("untag"),
+    UNDO("undo"),
+    REDO("redo");
 
     private final String command;
 
@@ -16,13 +16,20 @@ import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.LedgerCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.SaveCommand;
+import seedu.address.logic.commands.SearchCommand;
 import seedu.address.logic.commands.SetStatusCommand;
 import seedu.address.logic.commands.SnapshotCommand;
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.SwitchContactCommand;
 import seedu.address.logic.commands.TagCommand;
 import seedu.address.logic.commands.UnTagCommand;
+import seedu.address.logic.commands.UndoCommand;
+import seedu.address.logic.commands.WorkloadCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.storage.Storage;
 
@@ -70,7 +77,11 @@ public class AddressBookParser {
         case DeleteCommand.COMMAND_WORD -> new DeleteCommandParser().parse(arguments);
         case ClearCommand.COMMAND_WORD -> new ClearCommand();
         case FindCommand.COMMAND_WORD -> new FindCommandParser().parse(arguments);
+        case SearchCommand.COMMAND_WORD -> new SearchCommandParser().parse(arguments);
         case ListCommand.COMMAND_WORD -> new ListCommand();
+        case SortCommand.COMMAND_WORD -> new SortCommandParser().parse(arguments);
+        case StatsCommand.COMMAND_WORD -> new StatsCommand();
+        case WorkloadCommand.COMMAND_WORD -> new WorkloadCommandParser().parse(arguments);
         case ExitCommand.COMMAND_WORD -> new ExitCommand();
         case HelpCommand.COMMAND_WORD -> new HelpCommand();
         case SaveCommand.COMMAND_WORD -> new SaveCommandParser(storage).parse(arguments);
@@ -79,6 +90,9 @@ public class AddressBookParser {
         case UnTagCommand.COMMAND_WORD -> new UnTagCommandParser().parse(arguments);
         case SnapshotCommand.COMMAND_WORD -> new SnapshotCommand(storage);
         case SetStatusCommand.COMMAND_WORD -> new SetStatusCommandParser().parse(arguments);
+        case LedgerCommand.COMMAND_WORD -> new LedgerCommandParser().parse(arguments);
+        case UndoCommand.COMMAND_WORD -> new UndoCommand();
+        case RedoCommand.COMMAND_WORD -> new RedoCommand();
         default -> {
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
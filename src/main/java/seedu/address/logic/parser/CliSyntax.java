@@ -13,6 +13,9 @@ public class CliSyntax {
 
     public static final Prefix PREFIX_PROJECT = new Prefix("proj/");
     public static final Prefix PREFIX_DEADLINE = new Prefix("by/");
+    public static final Prefix PREFIX_DEADLINE_FROM = new Prefix("from/");
     public static final Prefix PREFIX_PAYMENT = new Prefix("pay/");
     public static final Prefix PREFIX_PROGRESS = new Prefix("prog/");
+    public static final Prefix PREFIX_INVOICED = new Prefix("inv/");
+    public static final Prefix PREFIX_PAID = new Prefix("paid/");
 }
@@ -2,24 +2,40 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DEADLINE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DEADLINE_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PAYMENT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PROGRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PROJECT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 
 import seedu.address.commons.util.StringUtil;
-import seedu.address.logic.Messages;
+import seedu.address.logic.commands.FindByDeadlineCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.DeadlineInRangePredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.PhoneContainsKeywordsPredicate;
+import seedu.address.model.person.TagAndStatusPredicate;
+import seedu.address.model.query.Query;
+import seedu.address.model.query.TermQuery;
 
 /**
  * Parses input arguments and creates a new FindCommand object
  */
 public class FindCommandParser implements Parser<FindCommand> {
 
+    public static final String MESSAGE_INVALID_DEADLINE_RANGE = "The from/ time must not be after the by/ time.";
+
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
      * and returns a FindCommand object for execution.
@@ -28,39 +44,174 @@ public class FindCommandParser implements Parser<FindCommand> {
      */
     public FindCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_PHONE);
+        if (FindQueryParser.isQuery(args)) {
+            return parseQuery(args);
+        }
+
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL,
+                PREFIX_TAG, PREFIX_PROJECT, PREFIX_PAYMENT, PREFIX_PROGRESS, PREFIX_DEADLINE_FROM, PREFIX_DEADLINE);
         if (!argMultimap.getPreamble().isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
         Optional<String> optName = argMultimap.getValue(PREFIX_NAME);
         Optional<String> optPhone = argMultimap.getValue(PREFIX_PHONE);
+        boolean hasFilter = argMultimap.getValue(PREFIX_TAG).isPresent()
+                || argMultimap.getValue(PREFIX_PAYMENT).isPresent()
+                || argMultimap.getValue(PREFIX_PROGRESS).isPresent();
+        boolean hasDeadlineRange = argMultimap.getValue(PREFIX_DEADLINE_FROM).isPresent()
+                || argMultimap.getValue(PREFIX_DEADLINE).isPresent();
+        boolean hasQueryOnlyTerm = argMultimap.getValue(PREFIX_EMAIL).isPresent()
+                || argMultimap.getValue(PREFIX_PROJECT).isPresent();
+        int searchTypes = (optName.isPresent() ? 1 : 0) + (optPhone.isPresent() ? 1 : 0) + (hasFilter ? 1 : 0)
+                + (hasDeadlineRange ? 1 : 0);
 
-        if (optName.isPresent() && optPhone.isPresent()) { //different types of prefixes present
-            throw new ParseException(Messages.MESSAGE_MULTIPLE_PREFIXES_PROVIDED + "\n" + FindCommand.MESSAGE_USAGE);
+        if (searchTypes > 1 || hasQueryOnlyTerm) {
+            // Search terms of different types must all match, as they do when written next to each other in a query
+            return parseQuery(args);
+        } else if (hasDeadlineRange) {
+            return new FindByDeadlineCommand(parseDeadlineInRangePredicate(argMultimap));
+        } else if (hasFilter) {
+            return new FindCommand(parseTagAndStatusPredicate(argMultimap));
         } else if (optPhone.isPresent()) {
+            return new FindCommand(parsePhonePredicate(optPhone.get()));
+        } else if (optName.isPresent()) {
+            return new FindCommand(parseNamePredicate(optName.get()));
+        } else {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+    }
+
+    /**
+     * Parses {@code args} as a query. A query of a single deadline range lists the projects due in it too, as a
+     * plain find by deadline does.
+     *
+     * @throws ParseException if {@code args} is not a well-formed query, or a search term in it is invalid
+     */
+    private static FindCommand parseQuery(String args) throws ParseException {
+        Query query = new FindQueryParser().parse(args);
+        if (query instanceof TermQuery term && term.predicate() instanceof DeadlineInRangePredicate range) {
+            return new FindByDeadlineCommand(range);
+        }
+        return new FindCommand(query);
+    }
 
-            String trimmedPhone = optPhone.get().trim();
-            if (trimmedPhone.isEmpty()) {
-                throw new ParseException("Phone number must not be empty.");
+    /**
+     * Parses the space-separated names in {@code names} into a {@code NameContainsKeywordsPredicate}.
+     *
+     * @throws ParseException if there are no names, a partial name has nothing before its '*', or a fuzzy name
+     *     has nothing before its '~' or allows too many edits
+     */
+    static NameContainsKeywordsPredicate parseNamePredicate(String names) throws ParseException {
+        String trimmedName = names.trim();
+        if (trimmedName.isEmpty()) {
+            throw new ParseException("Name must not be empty.");
+        }
+
+        String[] keywords = trimmedName.split("\\s+");
+        for (String keyword : keywords) {
+            if (keyword.equals(NameContainsKeywordsPredicate.PARTIAL_MATCH_SUFFIX)) {
+                throw new ParseException("Partial name must have at least one character before '*'.");
             }
-            String[] keywords = optPhone.get().split("\\s+");
-            if (!StringUtil.isNumeric(keywords)) {
-                throw new ParseException("Phone number must be numeric.");
+            if (NameContainsKeywordsPredicate.isFuzzyKeyword(keyword)) {
+                if (NameContainsKeywordsPredicate.fuzzyWordOf(keyword).isEmpty()) {
+                    throw new ParseException("Fuzzy name must have at least one character before '~'.");
+                }
+                if (NameContainsKeywordsPredicate.fuzzyDistanceOf(keyword)
+                        > NameContainsKeywordsPredicate.MAX_FUZZY_DISTANCE) {
+                    throw new ParseException(String.format("Fuzzy name must allow at most %d edits.",
+                            NameContainsKeywordsPredicate.MAX_FUZZY_DISTANCE));
+                }
             }
-            return new FindCommand(new PhoneContainsKeywordsPredicate(Arrays.asList(keywords)));
-        } else if (optName.isPresent()) {
+        }
+        return new NameContainsKeywordsPredicate(Arrays.asList(keywords));
+    }
 
-            String trimmedName = optName.get().trim();
-            if (trimmedName.isEmpty()) {
-                throw new ParseException("Name must not be empty.");
-            }
+    /**
+     * Parses the space-separated phone numbers in {@code phones} into a {@code PhoneContainsKeywordsPredicate}.
+     *
+     * @throws ParseException if there are no phone numbers, or one is not numeric
+     */
+    static PhoneContainsKeywordsPredicate parsePhonePredicate(String phones) throws ParseException {
+        String trimmedPhone = phones.trim();
+        if (trimmedPhone.isEmpty()) {
+            throw new ParseException("Phone number must not be empty.");
+        }
+        String[] keywords = trimmedPhone.split("\\s+");
+        String[] digits = Arrays.stream(keywords)
+                .map(PhoneContainsKeywordsPredicate::digitsOf)
+                .toArray(String[]::new);
+        if (!StringUtil.isNumeric(digits)) {
+            throw new ParseException("Phone number must be numeric.");
+        }
+        return new PhoneContainsKeywordsPredicate(Arrays.asList(keywords));
+    }
 
-            String[] keywords = optName.get().split("\\s+");
-            return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(keywords)));
-        } else {
-            throw new ParseException(
-                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    /**
+     * Parses the space-separated tag names in {@code tags} into their valid forms.
+     *
+     * @throws ParseException if there are no tag names, or one is invalid
+     */
+    static List<String> parseTagNames(String tags) throws ParseException {
+        if (tags.trim().isEmpty()) {
+            throw new ParseException("Tag must not be empty.");
+        }
+        List<String> tagNames = new ArrayList<>();
+        for (String keyword : tags.trim().split("\\s+")) {
+            tagNames.add(ParserUtil.parseTag(keyword).getTagName());
+        }
+        return tagNames;
+    }
+
+    /**
+     * Parses the tag, payment and progress filters in {@code argMultimap} into a {@code TagAndStatusPredicate}.
+     *
+     * @throws ParseException if a filter is repeated or has an invalid value
+     */
+    private static TagAndStatusPredicate parseTagAndStatusPredicate(ArgumentMultimap argMultimap)
+            throws ParseException {
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_TAG, PREFIX_PAYMENT, PREFIX_PROGRESS);
+
+        List<String> tagKeywords = new ArrayList<>();
+        Optional<String> optTags = argMultimap.getValue(PREFIX_TAG);
+        if (optTags.isPresent()) {
+            tagKeywords = parseTagNames(optTags.get());
         }
+
+        Optional<Boolean> isPaid = Optional.empty();
+        if (argMultimap.getValue(PREFIX_PAYMENT).isPresent()) {
+            isPaid = Optional.of(ParserUtil.parsePayment(argMultimap.getValue(PREFIX_PAYMENT).get()));
+        }
+        Optional<Boolean> isComplete = Optional.empty();
+        if (argMultimap.getValue(PREFIX_PROGRESS).isPresent()) {
+            isComplete = Optional.of(ParserUtil.parseProgress(argMultimap.getValue(PREFIX_PROGRESS).get()));
+        }
+
+        return new TagAndStatusPredicate(tagKeywords, isPaid, isComplete);
+    }
+
+    /**
+     * Parses the start and end of the deadline range in {@code argMultimap} into a {@code DeadlineInRangePredicate}.
+     *
+     * @throws ParseException if a bound is repeated or invalid, or the range starts after it ends
+     */
+    private static DeadlineInRangePredicate parseDeadlineInRangePredicate(ArgumentMultimap argMultimap)
+            throws ParseException {
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_DEADLINE_FROM, PREFIX_DEADLINE);
+
+        Optional<LocalDateTime> from = Optional.empty();
+        if (argMultimap.getValue(PREFIX_DEADLINE_FROM).isPresent()) {
+            from = Optional.of(ParserUtil.parseDeadline(argMultimap.getValue(PREFIX_DEADLINE_FROM).get()));
+        }
+        Optional<LocalDateTime> to = Optional.empty();
+        if (argMultimap.getValue(PREFIX_DEADLINE).isPresent()) {
+            to = Optional.of(ParserUtil.parseDeadline(argMultimap.getValue(PREFIX_DEADLINE).get()));
+        }
+        if (from.isPresent() && to.isPresent() && from.get().isAfter(to.get())) {
+            throw new ParseException(MESSAGE_INVALID_DEADLINE_RANGE);
+        }
+
+        return new DeadlineInRangePredicate(from, to);
     }
 }
@@ -0,0 +1,247 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DEADLINE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DEADLINE_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PAYMENT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PROGRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PROJECT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.DeadlineInRangePredicate;
+import seedu.address.model.person.EmailContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.ProjectNamePredicate;
+import seedu.address.model.person.TagAndStatusPredicate;
+import seedu.address.model.query.AndQuery;
+import seedu.address.model.query.NotQuery;
+import seedu.address.model.query.OrQuery;
+import seedu.address.model.query.Query;
+import seedu.address.model.query.TermQuery;
+
+/**
+ * Parses a boolean query for the find command, such as {@code n/alice AND (t/friends OR NOT pay/paid)}.
+ * <p>
+ * A query combines search terms with {@value #AND}, {@value #OR} and {@value #NOT}, which bind from tightest to
+ * loosest as NOT, AND, then OR, and can be grouped with brackets. Search terms written next to each other without an
+ * operator must all match. Each search term is a prefix followed by the words up to the next operator, bracket or
+ * prefix, and matches as the same prefix does in a plain find command. Likewise, a {@code from/} term written
+ * right next to a {@code by/} term is read as a single range, matching persons with a project due between the two.
+ */
+public class FindQueryParser {
+
+    public static final String AND = "AND";
+    public static final String OR = "OR";
+    public static final String NOT = "NOT";
+
+    public static final String MESSAGE_MISSING_TERM = "Expected a search term after '%s'.";
+    public static final String MESSAGE_UNEXPECTED_TOKEN = "Unexpected '%s' in query. Each search term must start "
+            + "with one of n/ p/ e/ t/ proj/ pay/ prog/ from/ by/.";
+    public static final String MESSAGE_UNCLOSED_BRACKET = "Every '(' in the query must be closed by a ')'.";
+
+    private static final String OPEN_BRACKET = "(";
+    private static final String CLOSE_BRACKET = ")";
+    private static final List<Prefix> TERM_PREFIXES = List.of(PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_TAG,
+            PREFIX_PROJECT, PREFIX_PAYMENT, PREFIX_PROGRESS, PREFIX_DEADLINE_FROM, PREFIX_DEADLINE);
+
+    private List<String> tokens;
+    private int position;
+
+    /**
+     * Returns true if {@code args} uses an operator or bracket, and so should be parsed as a query.
+     */
+    public static boolean isQuery(String args) {
+        requireNonNull(args);
+        return tokenize(args).stream().anyMatch(FindQueryParser::isOperatorOrBracket);
+    }
+
+    /**
+     * Parses {@code args} into a {@code Query}.
+     *
+     * @throws ParseException if {@code args} is not a well-formed query, or a search term in it is invalid
+     */
+    public Query parse(String args) throws ParseException {
+        requireNonNull(args);
+        tokens = tokenize(args);
+        position = 0;
+        if (tokens.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_MISSING_TERM, "find"));
+        }
+
+        Query query = parseOr();
+        if (position < tokens.size()) {
+            throw new ParseException(String.format(MESSAGE_UNEXPECTED_TOKEN, tokens.get(position)));
+        }
+        return query;
+    }
+
+    private Query parseOr() throws ParseException {
+        List<Query> operands = new ArrayList<>(List.of(parseAnd()));
+        while (accept(OR)) {
+            operands.add(parseAnd());
+        }
+        return operands.size() == 1 ? operands.get(0) : new OrQuery(operands);
+    }
+
+    private Query parseAnd() throws ParseException {
+        List<Query> operands = new ArrayList<>(List.of(parseNot()));
+        while (accept(AND) || startsOperand()) {
+            operands.add(parseNot());
+        }
+        return operands.size() == 1 ? operands.get(0) : new AndQuery(operands);
+    }
+
+    private Query parseNot() throws ParseException {
+        if (accept(NOT)) {
+            return new NotQuery(parseNot());
+        }
+        return parseOperand();
+    }
+
+    private Query parseOperand() throws ParseException {
+        if (position >= tokens.size()) {
+            throw new ParseException(String.format(MESSAGE_MISSING_TERM, tokens.get(position - 1)));
+        }
+        if (accept(OPEN_BRACKET)) {
+            Query query = parseOr();
+            if (!accept(CLOSE_BRACKET)) {
+                throw new ParseException(MESSAGE_UNCLOSED_BRACKET);
+            }
+            return query;
+        }
+
+        String token = tokens.get(position);
+        Optional<Prefix> prefix = prefixOf(token);
+        if (prefix.isEmpty()) {
+            String previous = position == 0 ? "find" : tokens.get(position - 1);
+            throw new ParseException(isOperatorOrBracket(token)
+                    ? String.format(MESSAGE_MISSING_TERM, previous)
+                    : String.format(MESSAGE_UNEXPECTED_TOKEN, token));
+        }
+        if (prefix.get().equals(PREFIX_DEADLINE_FROM) || prefix.get().equals(PREFIX_DEADLINE)) {
+            return new TermQuery(parseDeadlineRange());
+        }
+        return new TermQuery(parseTerm(prefix.get(), readValue(prefix.get())));
+    }
+
+    /**
+     * Parses the deadline bound at the current position, together with the opposite bound if it comes right after,
+     * into a single range.
+     */
+    private DeadlineInRangePredicate parseDeadlineRange() throws ParseException {
+        Optional<LocalDateTime> from = Optional.empty();
+        Optional<LocalDateTime> to = Optional.empty();
+        while (position < tokens.size()) {
+            String token = tokens.get(position);
+            if (from.isEmpty() && token.startsWith(PREFIX_DEADLINE_FROM.prefix())) {
+                from = Optional.of(ParserUtil.parseDeadline(readValue(PREFIX_DEADLINE_FROM)));
+            } else if (to.isEmpty() && token.startsWith(PREFIX_DEADLINE.prefix())) {
+                to = Optional.of(ParserUtil.parseDeadline(readValue(PREFIX_DEADLINE)));
+            } else {
+                break;
+            }
+        }
+        if (from.isPresent() && to.isPresent() && from.get().isAfter(to.get())) {
+            throw new ParseException(FindCommandParser.MESSAGE_INVALID_DEADLINE_RANGE);
+        }
+        return new DeadlineInRangePredicate(from, to);
+    }
+
+    /**
+     * Returns the value of the search term at the current position, which starts with {@code prefix}: the rest of
+     * its first word and the words after it up to the next operator, bracket or prefix.
+     */
+    private String readValue(Prefix prefix) {
+        List<String> words = new ArrayList<>();
+        words.add(tokens.get(position++).substring(prefix.prefix().length()));
+        while (position < tokens.size() && !isOperatorOrBracket(tokens.get(position))
+                && prefixOf(tokens.get(position)).isEmpty()) {
+            words.add(tokens.get(position++));
+        }
+        return String.join(" ", words).trim();
+    }
+
+    /**
+     * Returns the predicate of the search term with the given {@code prefix} and {@code value}.
+     */
+    private static Predicate<Person> parseTerm(Prefix prefix, String value) throws ParseException {
+        if (prefix.equals(PREFIX_NAME)) {
+            return FindCommandParser.parseNamePredicate(value);
+        } else if (prefix.equals(PREFIX_PHONE)) {
+            return FindCommandParser.parsePhonePredicate(value);
+        } else if (prefix.equals(PREFIX_EMAIL)) {
+            if (value.isEmpty()) {
+                throw new ParseException("Email must not be empty.");
+            }
+            return new EmailContainsKeywordsPredicate(Arrays.asList(value.split("\\s+")));
+        } else if (prefix.equals(PREFIX_TAG)) {
+            return new TagAndStatusPredicate(FindCommandParser.parseTagNames(value), Optional.empty(),
+                    Optional.empty());
+        } else if (prefix.equals(PREFIX_PROJECT)) {
+            if (value.isEmpty()) {
+                throw new ParseException("Project must not be empty.");
+            }
+            List<String> projectNames = new ArrayList<>();
+            for (String projectName : value.split("\\s+")) {
+                projectNames.add(ParserUtil.parseProject(projectName).getTagName());
+            }
+            return new ProjectNamePredicate(projectNames);
+        } else if (prefix.equals(PREFIX_PAYMENT)) {
+            return new TagAndStatusPredicate(List.of(), Optional.of(ParserUtil.parsePayment(value)),
+                    Optional.empty());
+        } else {
+            assert prefix.equals(PREFIX_PROGRESS);
+            return new TagAndStatusPredicate(List.of(), Optional.empty(),
+                    Optional.of(ParserUtil.parseProgress(value)));
+        }
+    }
+
+    private boolean accept(String expected) {
+        if (position < tokens.size() && tokens.get(position).equals(expected)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if the next token starts an operand, which is then implicitly joined with AND.
+     */
+    private boolean startsOperand() {
+        if (position >= tokens.size()) {
+            return false;
+        }
+        String token = tokens.get(position);
+        return token.equals(NOT) || token.equals(OPEN_BRACKET) || prefixOf(token).isPresent();
+    }
+
+    private static Optional<Prefix> prefixOf(String token) {
+        return TERM_PREFIXES.stream().filter(prefix -> token.startsWith(prefix.prefix())).findFirst();
+    }
+
+    private static boolean isOperatorOrBracket(String token) {
+        return token.equals(AND) || token.equals(OR) || token.equals(NOT)
+                || token.equals(OPEN_BRACKET) || token.equals(CLOSE_BRACKET);
+    }
+
+    /**
+     * Splits {@code args} into words, with each bracket as a word of its own.
+     */
+    private static List<String> tokenize(String args) {
+        String spaced = args.replace(OPEN_BRACKET, " " + OPEN_BRACKET + " ")
+                .replace(CLOSE_BRACKET, " " + CLOSE_BRACKET + " ")
+                .trim();
+        return spaced.isEmpty() ? List.of() : Arrays.asList(spaced.split("\\s+"));
+    }
+}
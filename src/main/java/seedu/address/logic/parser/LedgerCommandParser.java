@@ -0,0 +1,65 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_INVOICED;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PAID;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PROJECT;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.LedgerCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.tag.LedgerEntry;
+import seedu.address.model.tag.LedgerEntry.Kind;
+
+/**
+ * Parses input arguments and creates a new LedgerCommand object
+ */
+public class LedgerCommandParser implements Parser<LedgerCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the LedgerCommand
+     * and returns a LedgerCommand object for execution.
+     * The amount invoiced, if any, is entered before the amount paid.
+     *
+     * @throws ParseException if the user input does not conform to the expected format
+     */
+    public LedgerCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap =
+                ArgumentTokenizer.tokenize(args, PREFIX_PROJECT, PREFIX_INVOICED, PREFIX_PAID);
+
+        Index index;
+        String projectName;
+
+        try {
+            index = ParserUtil.parseIndex(argMultimap.getPreamble());
+            projectName = argMultimap.getValue(PREFIX_PROJECT).get();
+        } catch (NoSuchElementException | ParseException e) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, LedgerCommand.MESSAGE_USAGE), e);
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_PROJECT, PREFIX_INVOICED, PREFIX_PAID);
+
+        Optional<String> optInvoicedString = argMultimap.getValue(PREFIX_INVOICED);
+        Optional<String> optPaidString = argMultimap.getValue(PREFIX_PAID);
+
+        List<LedgerEntry> entries = new ArrayList<>();
+        if (optInvoicedString.isPresent()) {
+            entries.add(new LedgerEntry(Kind.INVOICED, ParserUtil.parseAmount(optInvoicedString.get())));
+        }
+        if (optPaidString.isPresent()) {
+            entries.add(new LedgerEntry(Kind.PAID, ParserUtil.parseAmount(optPaidString.get())));
+        }
+        if (entries.isEmpty()) {
+            throw new ParseException(LedgerCommand.MESSAGE_NO_ENTRY);
+        }
+
+        return new LedgerCommand(index, projectName, entries);
+    }
+}
@@ -14,6 +14,7 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Phone;
+import seedu.address.model.tag.LedgerEntry;
 import seedu.address.model.tag.Project;
 import seedu.address.model.tag.Tag;
 
@@ -111,6 +112,21 @@ public class ParserUtil {
         throw new ParseException(Project.MESSAGE_PAYMENT_CONSTRAINTS);
     }
 
+    /**
+     * Parses a {@code String amount} in dollars and cents into a number of cents.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code String amount} is invalid.
+     */
+    public static long parseAmount(String amount) throws ParseException {
+        requireNonNull(amount);
+        String trimmedAmount = amount.trim();
+        if (!LedgerEntry.isValidAmount(trimmedAmount)) {
+            throw new ParseException(LedgerEntry.MESSAGE_CONSTRAINTS);
+        }
+        return LedgerEntry.toCents(trimmedAmount);
+    }
+
     /**
      * Parses a {@code String progress} into a boolean value.
      * Leading and trailing whitespaces will be trimmed.
@@ -158,7 +174,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
 
@@ -0,0 +1,36 @@
+package seedu.address.logic.parser;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.SortField;
+
+/**
+ * Parses input arguments and creates a new SortCommand object
+ */
+public class SortCommandParser implements Parser<SortCommand> {
+
+    public static final String MESSAGE_DUPLICATE_FIELD = "Each field can only be sorted by once.";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SortCommand
+     * and returns a SortCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public SortCommand parse(String args) throws ParseException {
+        List<SortField> sortFields = new ArrayList<>();
+        for (String keyword : StringUtil.splitIntoWords(args)) {
+            SortField field = SortField.fromKeyword(keyword)
+                    .orElseThrow(() -> new ParseException(SortField.MESSAGE_CONSTRAINTS + "\n"
+                            + SortCommand.MESSAGE_USAGE));
+            if (sortFields.contains(field)) {
+                throw new ParseException(MESSAGE_DUPLICATE_FIELD);
+            }
+            sortFields.add(field);
+        }
+        return new SortCommand(sortFields);
+    }
+}
@@ -0,0 +1,29 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.WorkloadCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new WorkloadCommand object
+ */
+public class WorkloadCommandParser implements Parser<WorkloadCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the WorkloadCommand
+     * and returns a WorkloadCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public WorkloadCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            return new WorkloadCommand(WorkloadCommand.DEFAULT_WEEKLY_CAPACITY);
+        }
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedArgs)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, WorkloadCommand.MESSAGE_USAGE));
+        }
+        return new WorkloadCommand(Integer.parseInt(trimmedArgs));
+    }
+}
@@ -2,12 +2,41 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.index.Facets;
+import seedu.address.model.index.NameBkTree;
+import seedu.address.model.index.NameTokenIndex;
+import seedu.address.model.index.NameTrigramIndex;
+import seedu.address.model.index.PersonBitmapIndex;
+import seedu.address.model.index.PersonChangeLog;
+import seedu.address.model.index.PersonChangeLog.Change;
+import seedu.address.model.index.PersonIndex;
+import seedu.address.model.index.PersonTextIndex;
+import seedu.address.model.index.PhoneDigitTrie;
+import seedu.address.model.index.ProjectAggregates;
+import seedu.address.model.index.ProjectDeadline;
+import seedu.address.model.index.ProjectDeadlineIndex;
+import seedu.address.model.index.ProjectStatistics;
+import seedu.address.model.index.ProjectTable;
+import seedu.address.model.index.ScoredPerson;
+import seedu.address.model.index.Workload;
+import seedu.address.model.index.WorkloadIndex;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.query.PersonScanner;
+import seedu.address.model.tag.Project;
 
 /**
  * Wraps all data at the address-book level
@@ -16,6 +45,18 @@ import seedu.address.model.person.UniquePersonList;
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
+    private final NameTokenIndex nameTokenIndex = new NameTokenIndex();
+    private final NameTrigramIndex nameTrigramIndex = new NameTrigramIndex();
+    private final NameBkTree nameBkTree = new NameBkTree();
+    private final PhoneDigitTrie phoneDigitTrie = new PhoneDigitTrie();
+    private final PersonBitmapIndex personBitmapIndex = new PersonBitmapIndex();
+    private final ProjectDeadlineIndex projectDeadlineIndex = new ProjectDeadlineIndex();
+    private final PersonTextIndex personTextIndex = new PersonTextIndex();
+    private final PersonChangeLog personChangeLog = new PersonChangeLog();
+    private final ProjectTable projectTable = new ProjectTable();
+    private final ProjectAggregates projectAggregates = new ProjectAggregates();
+    private final WorkloadIndex workloadIndex = new WorkloadIndex();
+    private PersonScanner personScanner = new PersonScanner(PersonScanner.DEFAULT_PARALLEL_THRESHOLD);
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -26,6 +67,10 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     {
         persons = new UniquePersonList();
+        List<PersonIndex> indexes = List.of(nameTokenIndex, nameTrigramIndex, nameBkTree, phoneDigitTrie,
+                personBitmapIndex, projectDeadlineIndex, personTextIndex, personChangeLog, projectTable,
+                projectAggregates, workloadIndex);
+        indexes.forEach(persons::addIndex);
     }
 
     public AddressBook() {}
@@ -67,6 +112,271 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.contains(person);
     }
 
+    /**
+     * Returns the person in the address book with the given {@code phone}, if any.
+     */
+    public Optional<Person> findByPhone(Phone phone) {
+        requireNonNull(phone);
+        return persons.findByPhone(phone);
+    }
+
+    /**
+     * Returns the person in the address book with the given {@code id}, if any.
+     */
+    public Optional<Person> findById(int id) {
+        return persons.findById(id);
+    }
+
+    /**
+     * Returns the persons whose phone number starts with {@code prefix}.
+     */
+    public Set<Person> findByPhonePrefix(String prefix) {
+        requireNonNull(prefix);
+        return phoneDigitTrie.findByPrefix(prefix);
+    }
+
+    /**
+     * Returns the persons whose phone number ends with {@code suffix}.
+     */
+    public Set<Person> findByPhoneSuffix(String suffix) {
+        requireNonNull(suffix);
+        return phoneDigitTrie.findBySuffix(suffix);
+    }
+
+    /**
+     * Returns the number of persons whose phone number starts with {@code prefix}.
+     */
+    public int countByPhonePrefix(String prefix) {
+        requireNonNull(prefix);
+        return phoneDigitTrie.countByPrefix(prefix);
+    }
+
+    /**
+     * Returns the number of persons whose phone number ends with {@code suffix}.
+     */
+    public int countByPhoneSuffix(String suffix) {
+        requireNonNull(suffix);
+        return phoneDigitTrie.countBySuffix(suffix);
+    }
+
+    /**
+     * Returns the persons whose name contains any of the {@code keywords} as a full word, ignoring case.
+     */
+    public Set<Person> findByNameKeywords(List<String> keywords) {
+        requireNonNull(keywords);
+        return nameTokenIndex.findAny(keywords);
+    }
+
+    /**
+     * Returns an upper bound on the number of persons whose name contains any of the {@code keywords} as a full
+     * word, ignoring case.
+     */
+    public int estimateByNameKeywords(List<String> keywords) {
+        requireNonNull(keywords);
+        return Math.min(nameTokenIndex.estimateAny(keywords), getPersonList().size());
+    }
+
+    /**
+     * Returns the persons whose name contains {@code fragment} anywhere, ignoring case.
+     */
+    public Set<Person> findByNameFragment(String fragment) {
+        requireNonNull(fragment);
+        return nameTrigramIndex.findContaining(fragment);
+    }
+
+    /**
+     * Returns an upper bound on the number of persons whose name contains {@code fragment} anywhere, ignoring case.
+     */
+    public int estimateByNameFragment(String fragment) {
+        requireNonNull(fragment);
+        return Math.min(nameTrigramIndex.estimateContaining(fragment), getPersonList().size());
+    }
+
+    /**
+     * Returns the persons whose name contains a word within {@code maxDistance} edits of {@code word}, ignoring case.
+     */
+    public Set<Person> findByNameWithin(String word, int maxDistance) {
+        requireNonNull(word);
+        return nameBkTree.findWithin(word, maxDistance);
+    }
+
+    /**
+     * Returns an upper bound on the number of persons whose name contains a word within {@code maxDistance} edits
+     * of {@code word}, ignoring case.
+     */
+    public int estimateByNameWithin(String word, int maxDistance) {
+        requireNonNull(word);
+        return Math.min(nameBkTree.estimateWithin(word, maxDistance), getPersonList().size());
+    }
+
+    /**
+     * Returns the project named {@code projectName}, ignoring case, if anyone is on it.
+     */
+    public Optional<Project> getProject(String projectName) {
+        requireNonNull(projectName);
+        return projectTable.get(projectName.toLowerCase());
+    }
+
+    /**
+     * Returns the persons on the project named {@code projectName}, ignoring case.
+     */
+    public Set<Person> getProjectMembers(String projectName) {
+        requireNonNull(projectName);
+        return projectTable.membersOf(projectName.toLowerCase());
+    }
+
+    /**
+     * Returns {@code person} with each of its projects that someone in the address book is already on replaced by
+     * the address book's copy, so that the person shares that project's status.
+     */
+    public Person withSharedProjects(Person person) {
+        requireNonNull(person);
+        return projectTable.share(person);
+    }
+
+    /**
+     * Gives everyone on the project named as {@code editedProject} its status.
+     * Each person on the project is replaced with a version holding {@code editedProject}.
+     */
+    public void setProjectStatus(Project editedProject) {
+        requireNonNull(editedProject);
+        for (Person member : List.copyOf(projectTable.membersOf(editedProject.getTagName()))) {
+            setPerson(member, member.replaceProject(editedProject));
+        }
+    }
+
+    /**
+     * Returns the persons with any of the given {@code tagNames}, and with a project in each of the given statuses.
+     * An empty {@code tagNames} or status places no restriction.
+     */
+    public Set<Person> findByTagsAndStatus(List<String> tagNames, Optional<Boolean> isPaid,
+            Optional<Boolean> isComplete) {
+        return personBitmapIndex.personsIn(tagsAndStatusBitmap(tagNames, isPaid, isComplete));
+    }
+
+    /**
+     * Returns the number of persons with any of the given {@code tagNames}, and with a project in each of the given
+     * statuses. An empty {@code tagNames} or status places no restriction.
+     */
+    public int countByTagsAndStatus(List<String> tagNames, Optional<Boolean> isPaid, Optional<Boolean> isComplete) {
+        return tagsAndStatusBitmap(tagNames, isPaid, isComplete).cardinality();
+    }
+
+    /**
+     * Returns the persons with a project of any of the given {@code projectNames}, ignoring case.
+     */
+    public Set<Person> findByProjectNames(List<String> projectNames) {
+        requireNonNull(projectNames);
+        Set<Person> matches = new HashSet<>();
+        for (String projectName : projectNames) {
+            matches.addAll(projectTable.membersOf(projectName.toLowerCase()));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the number of persons with a project of any of the given {@code projectNames}, ignoring case.
+     */
+    public int countByProjectNames(List<String> projectNames) {
+        requireNonNull(projectNames);
+        return personBitmapIndex.withAnyProject(projectNames).cardinality();
+    }
+
+    /**
+     * Returns up to {@code limit} of the persons whose name, tags or projects contain any of the {@code keywords},
+     * ignoring case, most relevant first.
+     */
+    public List<ScoredPerson> searchPersons(List<String> keywords, int limit) {
+        requireNonNull(keywords);
+        return personTextIndex.search(keywords, limit);
+    }
+
+    /**
+     * Returns the persons that satisfy {@code predicate}, in list order, testing every person.
+     * Large address books are tested in parallel, as set by {@link #setParallelScanThreshold(int)}.
+     */
+    public List<Person> scan(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        return personScanner.scan(persons.asUnmodifiableObservableList(), predicate);
+    }
+
+    /**
+     * Makes {@link #scan(Predicate)} test the persons in parallel once there are at least {@code parallelThreshold}
+     * of them.
+     */
+    public void setParallelScanThreshold(int parallelThreshold) {
+        personScanner = new PersonScanner(parallelThreshold);
+    }
+
+    /**
+     * Returns the version of the persons in this address book, which changes whenever a person is added, edited or
+     * removed.
+     */
+    public long getVersion() {
+        return personChangeLog.getVersion();
+    }
+
+    /**
+     * Returns the persons added and removed since {@code sinceVersion}, in order, or an empty {@code Optional} if
+     * those changes are no longer kept. Editing a person is the removal of the old version followed by the addition
+     * of the new one.
+     */
+    public Optional<List<Change>> changesSince(long sinceVersion) {
+        return personChangeLog.changesSince(sinceVersion);
+    }
+
+    /**
+     * Returns how the given {@code persons}, which must be in this address book, break down by tag and by project
+     * status.
+     */
+    public Facets facetsOf(Collection<Person> persons) {
+        requireNonNull(persons);
+        return personBitmapIndex.facetsOf(persons);
+    }
+
+    /**
+     * Returns the projects due between {@code from} and {@code to}, both inclusive, in deadline order.
+     * An absent bound leaves that end of the range open.
+     */
+    public List<ProjectDeadline> findProjectsDueBetween(Optional<LocalDateTime> from, Optional<LocalDateTime> to) {
+        return projectDeadlineIndex.findDueBetween(from, to);
+    }
+
+    /**
+     * Returns the number of projects due between {@code from} and {@code to}, both inclusive.
+     * An absent bound leaves that end of the range open.
+     */
+    public int countProjectsDueBetween(Optional<LocalDateTime> from, Optional<LocalDateTime> to) {
+        return projectDeadlineIndex.countDueBetween(from, to);
+    }
+
+    /**
+     * Returns the running totals over the projects in the address book, with projects counted as overdue if their
+     * deadline is before {@code now}.
+     */
+    public ProjectStatistics getProjectStatistics(LocalDateTime now) {
+        return projectAggregates.statisticsAt(now);
+    }
+
+    /**
+     * Returns the incomplete projects due in each of the {@code weekCount} weeks from the week of {@code from},
+     * with the weeks in which more than {@code weeklyCapacity} are due flagged as overloaded.
+     */
+    public Workload getWorkload(LocalDate from, int weekCount, int weeklyCapacity) {
+        return workloadIndex.workloadFrom(from, weekCount, weeklyCapacity);
+    }
+
+    private BitSet tagsAndStatusBitmap(List<String> tagNames, Optional<Boolean> isPaid,
+            Optional<Boolean> isComplete) {
+        requireNonNull(tagNames);
+        requireNonNull(isPaid);
+        requireNonNull(isComplete);
+        BitSet matches = tagNames.isEmpty() ? personBitmapIndex.all() : personBitmapIndex.withAnyTag(tagNames);
+        isPaid.ifPresent(paid -> matches.and(personBitmapIndex.withProjectPayment(paid)));
+        isComplete.ifPresent(complete -> matches.and(personBitmapIndex.withProjectProgress(complete)));
+        return matches;
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
@@ -75,6 +385,21 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.add(p);
     }
 
+    /**
+     * Inserts a person into the address book at {@code position} of its person list.
+     * The person must not already exist in the address book.
+     */
+    void addPerson(int position, Person p) {
+        persons.add(position, p);
+    }
+
+    /**
+     * Returns the position in the person list of the person equal to {@code person}, or -1 if there is none.
+     */
+    int indexOf(Person person) {
+        return persons.indexOf(person);
+    }
+
     /**
      * Replaces the given person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -108,6 +433,11 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.asUnmodifiableObservableList();
     }
 
+    @Override
+    public List<Project> getProjectList() {
+        return projectTable.getProjects();
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
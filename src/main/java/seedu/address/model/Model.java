@@ -1,11 +1,25 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.index.DeadlineEvent;
+import seedu.address.model.index.Facets;
+import seedu.address.model.index.ProjectDeadline;
+import seedu.address.model.index.ProjectStatistics;
+import seedu.address.model.index.ScoredPerson;
+import seedu.address.model.index.Workload;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.SortField;
+import seedu.address.model.tag.Project;
 
 /**
  * The API of the Model component.
@@ -57,6 +71,23 @@ public interface Model {
      */
     boolean hasPerson(Person person);
 
+    /**
+     * Returns the person in the address book with the given {@code phone}, if any.
+     */
+    Optional<Person> findByPhone(Phone phone);
+
+    /**
+     * Returns the projects in the address book due between {@code from} and {@code to}, both inclusive,
+     * in deadline order. An absent bound leaves that end of the range open.
+     */
+    List<ProjectDeadline> findProjectsDueBetween(Optional<LocalDateTime> from, Optional<LocalDateTime> to);
+
+    /**
+     * Returns up to {@code limit} of the persons in the address book whose name, tags or projects contain any of the
+     * {@code keywords}, ignoring case, ranked from most to least relevant.
+     */
+    List<ScoredPerson> searchPersons(List<String> keywords, int limit);
+
     /**
      * Deletes the given person.
      * The person must exist in the address book.
@@ -76,12 +107,92 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
-    /** Returns an unmodifiable view of the filtered person list */
+    /**
+     * Gives everyone on the project named as {@code editedProject} its status.
+     * Persons added to the project later, or given it by an edit, take on the same status.
+     */
+    void setProjectStatus(Project editedProject);
+
+    /**
+     * Returns true if the address book has a previous state to restore.
+     */
+    boolean canUndoAddressBook();
+
+    /**
+     * Returns true if the address book has an undone state to restore.
+     */
+    boolean canRedoAddressBook();
+
+    /**
+     * Restores the address book to its previous state.
+     */
+    void undoAddressBook();
+
+    /**
+     * Restores the address book to its most recently undone state.
+     */
+    void redoAddressBook();
+
+    /**
+     * Saves the current state of the address book, so that the changes since the last saved state can be undone.
+     */
+    void commitAddressBook();
+
+    /** Returns an unmodifiable view of the filtered person list, in its sorted order */
     ObservableList<Person> getFilteredPersonList();
 
+    /**
+     * Returns how the persons in the filtered person list break down by tag and by project status.
+     */
+    Facets getFilteredPersonFacets();
+
+    /**
+     * Returns the running totals over every project in the address book, with overdue projects counted as of now.
+     */
+    ProjectStatistics getProjectStatistics();
+
+    /**
+     * Returns the events of the projects that became due soon or overdue since this was last called, in the order
+     * they happened.
+     */
+    List<DeadlineEvent> advanceDeadlines();
+
+    /**
+     * Returns the names of the incomplete projects whose deadline is less than a day away, as of the last time the
+     * deadlines were advanced.
+     */
+    Set<String> getDueSoonProjectNames();
+
+    /**
+     * Returns the names of the incomplete projects whose deadline has passed, as of the last time the deadlines were
+     * advanced.
+     */
+    Set<String> getOverdueProjectNames();
+
+    /**
+     * Returns the incomplete projects due in each of the {@code weekCount} weeks from this week, with the weeks in
+     * which more than {@code weeklyCapacity} are due flagged as overloaded.
+     * @throws IllegalArgumentException if {@code weekCount} or {@code weeklyCapacity} is not positive.
+     */
+    Workload getWorkload(int weekCount, int weeklyCapacity);
+
     /**
      * Updates the filter of the filtered person list to filter by the given {@code predicate}.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
+
+    /**
+     * Updates the filter of the filtered person list to filter by the given {@code predicate}, and orders it by
+     * {@code order} instead of the sort fields until the filter is next updated.
+     * @throws NullPointerException if {@code predicate} or {@code order} is null.
+     */
+    void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> order);
+
+    /**
+     * Sorts the filtered person list by each of {@code sortFields} in turn, or back into the order of the address
+     * book if {@code sortFields} is empty. The order is kept as the filter and the address book change.
+     * @throws NullPointerException if {@code sortFields} is null.
+     */
+    void sortFilteredPersonList(List<SortField> sortFields);
 }
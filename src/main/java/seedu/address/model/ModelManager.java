@@ -4,14 +4,33 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.index.DeadlineEvent;
+import seedu.address.model.index.DeadlineScheduler;
+import seedu.address.model.index.Facets;
+import seedu.address.model.index.PersonChangeLog.Change;
+import seedu.address.model.index.ProjectDeadline;
+import seedu.address.model.index.ProjectStatistics;
+import seedu.address.model.index.ScoredPerson;
+import seedu.address.model.index.Workload;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.SortField;
+import seedu.address.model.tag.Project;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -19,21 +38,42 @@ import seedu.address.model.person.Person;
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
-    private final AddressBook addressBook;
+    private final VersionedAddressBook versionedAddressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    private final SortedList<Person> sortedPersons;
+    private final QueryCache queryCache = new QueryCache();
+    private final Clock clock;
+    private final DeadlineScheduler deadlineScheduler;
+    private long deadlineSchedulerVersion;
+    private PersonFilter activeFilter;
+    private Comparator<Person> sortOrder;
 
     /**
-     * Initializes a ModelManager with the given addressBook and userPrefs.
+     * Initializes a ModelManager with the given addressBook and userPrefs, telling the time by the system clock.
      */
     public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
-        requireAllNonNull(addressBook, userPrefs);
+        this(addressBook, userPrefs, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Initializes a ModelManager with the given addressBook and userPrefs, telling the time by {@code clock}.
+     * The deadline reminders start from the time the ModelManager is created.
+     */
+    public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs, Clock clock) {
+        requireAllNonNull(addressBook, userPrefs, clock);
 
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
-        this.addressBook = new AddressBook(addressBook);
+        versionedAddressBook = new VersionedAddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        versionedAddressBook.setParallelScanThreshold(this.userPrefs.getParallelScanThreshold());
+        activeFilter = new PersonFilter(PREDICATE_SHOW_ALL_PERSONS);
+        filteredPersons = new FilteredList<>(versionedAddressBook.getPersonList(), activeFilter);
+        sortedPersons = new SortedList<>(filteredPersons);
+        this.clock = clock;
+        deadlineScheduler = new DeadlineScheduler(LocalDateTime.now(clock));
+        rebuildDeadlineScheduler();
     }
 
     public ModelManager() {
@@ -46,6 +86,7 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        versionedAddressBook.setParallelScanThreshold(this.userPrefs.getParallelScanThreshold());
     }
 
     @Override
@@ -79,28 +120,46 @@ public class ModelManager implements Model {
 
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
-        this.addressBook.resetData(addressBook);
+        versionedAddressBook.resetData(addressBook);
     }
 
     @Override
     public ReadOnlyAddressBook getAddressBook() {
-        return addressBook;
+        return versionedAddressBook;
     }
 
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
-        return addressBook.hasPerson(person);
+        return versionedAddressBook.hasPerson(person);
+    }
+
+    @Override
+    public Optional<Person> findByPhone(Phone phone) {
+        requireNonNull(phone);
+        return versionedAddressBook.findByPhone(phone);
+    }
+
+    @Override
+    public List<ProjectDeadline> findProjectsDueBetween(Optional<LocalDateTime> from, Optional<LocalDateTime> to) {
+        requireAllNonNull(from, to);
+        return versionedAddressBook.findProjectsDueBetween(from, to);
+    }
+
+    @Override
+    public List<ScoredPerson> searchPersons(List<String> keywords, int limit) {
+        requireNonNull(keywords);
+        return versionedAddressBook.searchPersons(keywords, limit);
     }
 
     @Override
     public void deletePerson(Person target) {
-        addressBook.removePerson(target);
+        versionedAddressBook.removePerson(target);
     }
 
     @Override
     public void addPerson(Person person) {
-        addressBook.addPerson(person);
+        versionedAddressBook.addPerson(versionedAddressBook.withSharedProjects(person));
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
@@ -108,24 +167,158 @@ public class ModelManager implements Model {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        addressBook.setPerson(target, editedPerson);
+        versionedAddressBook.setPerson(target, versionedAddressBook.withSharedProjects(editedPerson));
+    }
+
+    @Override
+    public void setProjectStatus(Project editedProject) {
+        requireNonNull(editedProject);
+
+        versionedAddressBook.setProjectStatus(editedProject);
+    }
+
+    @Override
+    public boolean canUndoAddressBook() {
+        return versionedAddressBook.canUndo();
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        return versionedAddressBook.canRedo();
+    }
+
+    @Override
+    public void undoAddressBook() {
+        versionedAddressBook.undo();
+    }
+
+    @Override
+    public void redoAddressBook() {
+        versionedAddressBook.redo();
+    }
+
+    @Override
+    public void commitAddressBook() {
+        versionedAddressBook.commit();
     }
 
     //=========== Filtered Person List Accessors =============================================================
 
     /**
      * Returns an unmodifiable view of the list of {@code Person} backed by the internal list of
-     * {@code versionedAddressBook}
+     * {@code versionedAddressBook}, filtered and then sorted
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return sortedPersons;
+    }
+
+    @Override
+    public Facets getFilteredPersonFacets() {
+        return versionedAddressBook.facetsOf(filteredPersons);
     }
 
+    @Override
+    public ProjectStatistics getProjectStatistics() {
+        return versionedAddressBook.getProjectStatistics(LocalDateTime.now(clock));
+    }
+
+    @Override
+    public List<DeadlineEvent> advanceDeadlines() {
+        syncDeadlineScheduler();
+        return deadlineScheduler.advanceTo(LocalDateTime.now(clock));
+    }
+
+    @Override
+    public Set<String> getDueSoonProjectNames() {
+        syncDeadlineScheduler();
+        return deadlineScheduler.getDueSoonProjectNames();
+    }
+
+    @Override
+    public Set<String> getOverdueProjectNames() {
+        syncDeadlineScheduler();
+        return deadlineScheduler.getOverdueProjectNames();
+    }
+
+    @Override
+    public Workload getWorkload(int weekCount, int weeklyCapacity) {
+        return versionedAddressBook.getWorkload(LocalDate.now(clock), weekCount, weeklyCapacity);
+    }
+
+    /**
+     * Brings the deadline reminders up to date with the address book by replaying the persons added and removed
+     * since they were last synced, or by rescheduling every project if those changes are no longer in the log.
+     */
+    private void syncDeadlineScheduler() {
+        Optional<List<Change>> changes = versionedAddressBook.changesSince(deadlineSchedulerVersion);
+        if (changes.isEmpty()) {
+            rebuildDeadlineScheduler();
+            return;
+        }
+        for (Change change : changes.get()) {
+            if (change.isAdded()) {
+                deadlineScheduler.add(change.person());
+            } else {
+                deadlineScheduler.remove(change.person());
+            }
+        }
+        deadlineSchedulerVersion = versionedAddressBook.getVersion();
+    }
+
+    private void rebuildDeadlineScheduler() {
+        deadlineScheduler.clear();
+        versionedAddressBook.getPersonList().forEach(deadlineScheduler::add);
+        deadlineSchedulerVersion = versionedAddressBook.getVersion();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The filter stays in place as the address book changes, and the filtered list then only tests the persons
+     * that were added or replaced. Setting a filter equal to the current one leaves the filtered list as it is,
+     * since it already holds exactly the persons that satisfy it. The matches of recently used predicates are
+     * cached, so switching back to one of them only replays the changes made to the address book since.
+     */
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        setFilter(predicate);
+        sortedPersons.setComparator(sortOrder);
+    }
+
+    @Override
+    public void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> order) {
+        requireAllNonNull(predicate, order);
+        setFilter(predicate);
+        sortedPersons.setComparator(order);
+    }
+
+    private void setFilter(Predicate<Person> predicate) {
+        if (activeFilter.predicate.equals(predicate)) {
+            return;
+        }
+        PersonFilter filter = new PersonFilter(predicate);
+        if (predicate != PREDICATE_SHOW_ALL_PERSONS) {
+            // Answer from the cache or the indexes, so persons only need a membership check instead of a full test
+            filter.lookedUpMatches = queryCache.getMatches(predicate, versionedAddressBook);
+        }
+        filteredPersons.setPredicate(filter);
+        filter.lookedUpMatches = null;
+        activeFilter = filter;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Persons are compared by their {@link Person#getSortKey() sort keys}, which each version of a person computes
+     * once, so re-sorting after a change only computes the keys of the persons that were added or edited.
+     */
+    @Override
+    public void sortFilteredPersonList(List<SortField> sortFields) {
+        requireNonNull(sortFields);
+        sortOrder = sortFields.isEmpty() ? null : SortField.comparing(sortFields);
+        sortedPersons.setComparator(sortOrder);
     }
 
     @Override
@@ -133,11 +326,30 @@ public class ModelManager implements Model {
         if (other == this) {
             return true;
         } else if (other instanceof ModelManager otherModelManager) {
-            return addressBook.equals(otherModelManager.addressBook)
+            return versionedAddressBook.equals(otherModelManager.versionedAddressBook)
                     && userPrefs.equals(otherModelManager.userPrefs)
-                    && filteredPersons.equals(otherModelManager.filteredPersons);
+                    && sortedPersons.equals(otherModelManager.sortedPersons);
         }
         return false;
     }
 
+    /**
+     * The predicate of the filtered person list, which tests persons with the predicate given by the user.
+     * While the filtered list is rebuilt for a new predicate, persons are instead checked against the matches
+     * found by the {@link QueryCache}. Persons added to the address book afterwards are always tested
+     * with the user's predicate, as the looked up matches would not include them.
+     */
+    private static class PersonFilter implements Predicate<Person> {
+        private final Predicate<Person> predicate;
+        private Set<Person> lookedUpMatches;
+
+        PersonFilter(Predicate<Person> predicate) {
+            this.predicate = predicate;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return lookedUpMatches != null ? lookedUpMatches.contains(person) : predicate.test(person);
+        }
+    }
 }
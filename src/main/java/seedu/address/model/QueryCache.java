@@ -0,0 +1,87 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.index.IndexedPredicate;
+import seedu.address.model.index.PersonChangeLog.Change;
+import seedu.address.model.person.Person;
+import seedu.address.model.query.Query;
+
+/**
+ * A least-recently-used cache of the persons matching the most recent predicates applied to an address book.
+ * <p>
+ * Predicates are keyed by equality, so re-running an equal query finds its earlier result. Each result is tagged
+ * with the {@link AddressBook#getVersion() version} of the address book it was found at. When the address book has
+ * changed since, the result is patched by replaying the changes in between, testing only the persons that were
+ * added; if those changes are no longer logged, the result is found afresh.
+ */
+class QueryCache {
+
+    static final int CAPACITY = 16;
+
+    private final Map<Predicate<Person>, CachedMatches> entries = new LinkedHashMap<>(CAPACITY, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Predicate<Person>, CachedMatches> eldest) {
+            return size() > CAPACITY;
+        }
+    };
+
+    /**
+     * Returns the persons in {@code addressBook} that satisfy {@code predicate}.
+     * The returned set must not be modified.
+     */
+    Set<Person> getMatches(Predicate<Person> predicate, AddressBook addressBook) {
+        requireAllNonNull(predicate, addressBook);
+        long version = addressBook.getVersion();
+        CachedMatches cached = entries.get(predicate);
+        if (cached != null && cached.version != version) {
+            Optional<List<Change>> changes = addressBook.changesSince(cached.version);
+            if (changes.isPresent()) {
+                cached.patch(predicate, changes.get(), version);
+            } else {
+                cached = null;
+            }
+        }
+
+        if (cached == null) {
+            Set<Person> matches = predicate instanceof IndexedPredicate indexedPredicate
+                    ? new HashSet<>(indexedPredicate.lookup(addressBook))
+                    : Query.scan(addressBook, predicate);
+            cached = new CachedMatches(matches, version);
+            entries.put(predicate, cached);
+        }
+        return cached.matches;
+    }
+
+    /**
+     * The persons found to match a predicate, as of a version of the address book.
+     */
+    private static class CachedMatches {
+        private final Set<Person> matches;
+        private long version;
+
+        CachedMatches(Set<Person> matches, long version) {
+            this.matches = matches;
+            this.version = version;
+        }
+
+        void patch(Predicate<Person> predicate, List<Change> changes, long newVersion) {
+            for (Change change : changes) {
+                if (!change.isAdded()) {
+                    matches.remove(change.person());
+                } else if (predicate.test(change.person())) {
+                    matches.add(change.person());
+                }
+            }
+            version = newVersion;
+        }
+    }
+}
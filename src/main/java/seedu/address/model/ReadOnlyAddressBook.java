@@ -1,7 +1,10 @@
 package seedu.address.model;
 
+import java.util.List;
+
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
+import seedu.address.model.tag.Project;
 
 /**
  * Unmodifiable view of an address book
@@ -14,4 +17,9 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Person> getPersonList();
 
+    /**
+     * Returns the projects that the persons are on, each once, holding the status shared by everyone on it.
+     */
+    List<Project> getProjectList();
+
 }
@@ -13,4 +13,9 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    /**
+     * Returns the number of persons from which a search that tests every person tests them in parallel.
+     */
+    int getParallelScanThreshold();
+
 }
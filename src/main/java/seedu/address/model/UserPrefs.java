@@ -1,12 +1,14 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.query.PersonScanner;
 
 /**
  * Represents User's preferences.
@@ -15,6 +17,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data", "arthive.json");
+    private int parallelScanThreshold = PersonScanner.DEFAULT_PARALLEL_THRESHOLD;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +39,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setParallelScanThreshold(newUserPrefs.getParallelScanThreshold());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,20 +60,30 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public int getParallelScanThreshold() {
+        return parallelScanThreshold;
+    }
+
+    public void setParallelScanThreshold(int parallelScanThreshold) {
+        checkArgument(parallelScanThreshold > 0, PersonScanner.MESSAGE_CONSTRAINTS);
+        this.parallelScanThreshold = parallelScanThreshold;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
             return true;
         } else if (other instanceof UserPrefs otherUserPrefs) {
             return guiSettings.equals(otherUserPrefs.guiSettings)
-                    && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                    && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                    && parallelScanThreshold == otherUserPrefs.parallelScanThreshold;
         }
         return false;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, parallelScanThreshold);
     }
 
     @Override
@@ -78,7 +92,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
                 .append("Gui Settings : ")
                 .append(guiSettings)
                 .append("\nLocal data file location : ")
-                .append(addressBookFilePath);
+                .append(addressBookFilePath)
+                .append("\nParallel scan threshold : ")
+                .append(parallelScanThreshold);
         return sb.toString();
     }
 
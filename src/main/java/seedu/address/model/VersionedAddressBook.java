@@ -0,0 +1,172 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.model.person.Person;
+
+/**
+ * An {@code AddressBook} that remembers its past versions, so that changes to it can be undone and redone.
+ * <p>
+ * Rather than a copy of the whole person list, each version keeps only the edits that lead to it from the
+ * previous version, each being a run of persons replaced at a position of the list. Persons are immutable, so an
+ * edit merely holds references to the persons it removed and added, and the history grows with the size of each
+ * change rather than with the size of the address book. Undoing or redoing a version replays just its edits, in
+ * reverse or in order, which also gives the observable person list the smallest change that restores it.
+ * <p>
+ * Changes made since the last {@link #commit()} are pending; committing them makes them the newest version and
+ * discards any versions that had been undone.
+ */
+public class VersionedAddressBook extends AddressBook {
+
+    private final List<List<Edit>> versions = new ArrayList<>();
+    private List<Edit> pendingEdits = new ArrayList<>();
+    private int currentVersion = 0;
+
+    /**
+     * Creates a {@code VersionedAddressBook} whose initial version holds the Persons in {@code initialState}.
+     */
+    public VersionedAddressBook(ReadOnlyAddressBook initialState) {
+        super();
+        resetData(initialState);
+        // the initial state is where history starts, not a change that can be undone
+        pendingEdits.clear();
+    }
+
+    /**
+     * Saves the changes made since the last commit as the newest version, discarding any undone versions.
+     * Does nothing if there are no such changes.
+     */
+    public void commit() {
+        if (pendingEdits.isEmpty()) {
+            return;
+        }
+        versions.subList(currentVersion, versions.size()).clear();
+        versions.add(pendingEdits);
+        currentVersion++;
+        pendingEdits = new ArrayList<>();
+    }
+
+    /**
+     * Returns true if there is a version before the current one to return to.
+     * Pending changes count as a version of their own.
+     */
+    public boolean canUndo() {
+        return currentVersion > 0 || !pendingEdits.isEmpty();
+    }
+
+    /**
+     * Returns true if there is an undone version to return to.
+     */
+    public boolean canRedo() {
+        return pendingEdits.isEmpty() && currentVersion < versions.size();
+    }
+
+    /**
+     * Restores the address book to its previous version, committing any pending changes first.
+     *
+     * @throws NoUndoableStateException if there is no previous version.
+     */
+    public void undo() {
+        if (!canUndo()) {
+            throw new NoUndoableStateException();
+        }
+        commit();
+        currentVersion--;
+        List<Edit> edits = versions.get(currentVersion);
+        for (int i = edits.size() - 1; i >= 0; i--) {
+            apply(edits.get(i).inverse());
+        }
+    }
+
+    /**
+     * Restores the address book to the version most recently undone.
+     *
+     * @throws NoRedoableStateException if there is no undone version, or there are pending changes.
+     */
+    public void redo() {
+        if (!canRedo()) {
+            throw new NoRedoableStateException();
+        }
+        versions.get(currentVersion).forEach(this::apply);
+        currentVersion++;
+    }
+
+    @Override
+    public void setPersons(List<Person> persons) {
+        List<Person> replaced = List.copyOf(getPersonList());
+        super.setPersons(persons);
+        pendingEdits.add(new Edit(0, replaced, List.copyOf(persons)));
+    }
+
+    @Override
+    public void addPerson(Person p) {
+        super.addPerson(p);
+        pendingEdits.add(new Edit(getPersonList().size() - 1, List.of(), List.of(p)));
+    }
+
+    @Override
+    public void setPerson(Person target, Person editedPerson) {
+        requireNonNull(target);
+        int position = indexOf(target);
+        Person replaced = position < 0 ? target : getPersonList().get(position);
+        super.setPerson(target, editedPerson);
+        pendingEdits.add(new Edit(position, List.of(replaced), List.of(editedPerson)));
+    }
+
+    @Override
+    public void removePerson(Person key) {
+        requireNonNull(key);
+        int position = indexOf(key);
+        Person removed = position < 0 ? key : getPersonList().get(position);
+        super.removePerson(key);
+        pendingEdits.add(new Edit(position, List.of(removed), List.of()));
+    }
+
+    /**
+     * Makes {@code edit} to the person list without recording it.
+     */
+    private void apply(Edit edit) {
+        int removedCount = edit.removed().size();
+        int addedCount = edit.added().size();
+        if (removedCount == 1 && addedCount == 1) {
+            super.setPerson(edit.removed().get(0), edit.added().get(0));
+        } else if (removedCount == 0 && addedCount == 1) {
+            super.addPerson(edit.position(), edit.added().get(0));
+        } else if (removedCount == 1 && addedCount == 0) {
+            super.removePerson(edit.removed().get(0));
+        } else {
+            super.setPersons(edit.added());
+        }
+    }
+
+    /**
+     * A change to the person list, in which the persons {@code removed} from {@code position} onwards were
+     * replaced by the persons {@code added}.
+     */
+    private record Edit(int position, List<Person> removed, List<Person> added) {
+        private Edit inverse() {
+            return new Edit(position, added, removed);
+        }
+    }
+
+    /**
+     * Thrown when trying to {@code undo()} but can't.
+     */
+    public static class NoUndoableStateException extends RuntimeException {
+        private NoUndoableStateException() {
+            super("Current state pointer at start of address book versions, unable to undo.");
+        }
+    }
+
+    /**
+     * Thrown when trying to {@code redo()} but can't.
+     */
+    public static class NoRedoableStateException extends RuntimeException {
+        private NoRedoableStateException() {
+            super("Current state pointer at end of address book versions, unable to redo.");
+        }
+    }
+}
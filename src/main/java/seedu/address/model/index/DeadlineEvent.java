@@ -0,0 +1,36 @@
+package seedu.address.model.index;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import seedu.address.model.tag.Project;
+
+/**
+ * A project reaching a point in the run-up to its deadline, as raised by a {@link DeadlineScheduler}.
+ */
+public record DeadlineEvent(Kind kind, Project project) {
+
+    /**
+     * The points in the run-up to a deadline that raise an event.
+     */
+    public enum Kind {
+        /** The deadline is less than a day away. */
+        DUE_SOON,
+        /** The deadline has passed while the project is still incomplete. */
+        OVERDUE
+    }
+
+    /**
+     * Every field must be present and not null.
+     */
+    public DeadlineEvent {
+        requireAllNonNull(kind, project);
+    }
+
+    @Override
+    public String toString() {
+        return switch (kind) {
+        case DUE_SOON -> "Project " + project.getTagName() + " is due soon, by " + project.getDeadlineString();
+        case OVERDUE -> "Project " + project.getTagName() + " is now overdue";
+        };
+    }
+}
@@ -0,0 +1,154 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.TimerWheel;
+import seedu.address.commons.util.TimerWheel.Timer;
+import seedu.address.model.tag.Project;
+
+/**
+ * Watches the deadlines of the incomplete projects in the address book, and raises an event when a project
+ * becomes due soon, {@value #DUE_SOON_MINUTES} minutes before its deadline, and when it becomes overdue.
+ * <p>
+ * A project's reminders are timers on a {@link TimerWheel} ticking by the minute, so scheduling them as projects
+ * are counted and cancelling them as projects are uncounted takes constant time, and moving the time forward only
+ * visits the reminders that fall due. A project whose deadline has already passed when it is scheduled is simply
+ * overdue, and one within a day of its deadline simply due soon, without raising an event, as events mark only
+ * the changes seen while the scheduler runs.
+ */
+public class DeadlineScheduler extends SharedProjectIndex {
+
+    public static final long DUE_SOON_MINUTES = 24 * 60;
+
+    private static final long SECONDS_PER_MINUTE = 60;
+
+    private final TimerWheel<DeadlineEvent> wheel;
+    private final Map<String, Reminders> reminders = new HashMap<>();
+    private final Set<String> dueSoonProjectNames = new LinkedHashSet<>();
+    private final Set<String> overdueProjectNames = new LinkedHashSet<>();
+
+    /**
+     * Creates a {@code DeadlineScheduler} whose time starts at {@code start}.
+     */
+    public DeadlineScheduler(LocalDateTime start) {
+        requireNonNull(start);
+        wheel = new TimerWheel<>(toEpochMinute(start));
+    }
+
+    /**
+     * Moves the time forward to {@code now}, and returns the events of the projects that became due soon or overdue
+     * on the way, in the order they happened.
+     */
+    public List<DeadlineEvent> advanceTo(LocalDateTime now) {
+        requireNonNull(now);
+        List<DeadlineEvent> events = new ArrayList<>();
+        wheel.advanceTo(toEpochMinute(now), event -> {
+            String projectName = event.project().getTagName();
+            if (event.kind() == DeadlineEvent.Kind.OVERDUE) {
+                dueSoonProjectNames.remove(projectName);
+                overdueProjectNames.add(projectName);
+            } else {
+                dueSoonProjectNames.add(projectName);
+            }
+            events.add(event);
+        });
+        return events;
+    }
+
+    /**
+     * Returns the names of the incomplete projects whose deadline is less than a day away.
+     */
+    public Set<String> getDueSoonProjectNames() {
+        return Collections.unmodifiableSet(dueSoonProjectNames);
+    }
+
+    /**
+     * Returns the names of the incomplete projects whose deadline has passed.
+     */
+    public Set<String> getOverdueProjectNames() {
+        return Collections.unmodifiableSet(overdueProjectNames);
+    }
+
+    /**
+     * Returns the number of reminders waiting to fire.
+     */
+    public int getPendingCount() {
+        return wheel.size();
+    }
+
+    @Override
+    protected void count(Project project, int delta) {
+        if (delta > 0) {
+            schedule(project);
+        } else {
+            unschedule(project);
+        }
+    }
+
+    @Override
+    protected void clearCounts() {
+        wheel.clear();
+        reminders.clear();
+        dueSoonProjectNames.clear();
+        overdueProjectNames.clear();
+    }
+
+    @Override
+    protected boolean hasSameStatus(Project counted, Project added) {
+        return counted.isComplete() == added.isComplete() && counted.getDeadline().equals(added.getDeadline());
+    }
+
+    private void schedule(Project project) {
+        if (project.isComplete()) {
+            return;
+        }
+        long deadline = toEpochMinute(project.getDeadline());
+        long dueSoon = deadline - DUE_SOON_MINUTES;
+        if (deadline <= wheel.getTime()) {
+            overdueProjectNames.add(project.getTagName());
+            return;
+        }
+        Reminders scheduled = new Reminders();
+        scheduled.overdueTimer = wheel.schedule(deadline, new DeadlineEvent(DeadlineEvent.Kind.OVERDUE, project));
+        if (dueSoon <= wheel.getTime()) {
+            dueSoonProjectNames.add(project.getTagName());
+        } else {
+            scheduled.dueSoonTimer = wheel.schedule(dueSoon, new DeadlineEvent(DeadlineEvent.Kind.DUE_SOON, project));
+        }
+        reminders.put(project.getTagName(), scheduled);
+    }
+
+    private void unschedule(Project project) {
+        Reminders scheduled = reminders.remove(project.getTagName());
+        if (scheduled != null) {
+            if (scheduled.dueSoonTimer != null) {
+                wheel.cancel(scheduled.dueSoonTimer);
+            }
+            wheel.cancel(scheduled.overdueTimer);
+        }
+        dueSoonProjectNames.remove(project.getTagName());
+        overdueProjectNames.remove(project.getTagName());
+    }
+
+    private static long toEpochMinute(LocalDateTime dateTime) {
+        return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), SECONDS_PER_MINUTE);
+    }
+
+    /**
+     * The reminders of a project that have yet to fire or be cancelled.
+     */
+    private static class Reminders {
+        private Timer<DeadlineEvent> dueSoonTimer;
+        private Timer<DeadlineEvent> overdueTimer;
+    }
+}
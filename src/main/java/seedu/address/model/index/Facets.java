@@ -0,0 +1,36 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * How a set of persons breaks down by tag and by project status, as counted by a {@link PersonBitmapIndex}.
+ * {@code tagCounts} maps each tag name to the number of persons with that tag, most common first. Each status count
+ * is the number of persons with at least one project in that status, so a person may count as both paid and unpaid.
+ */
+public record Facets(Map<String, Integer> tagCounts, int paidCount, int unpaidCount, int completeCount,
+        int incompleteCount) {
+
+    public static final Facets NONE = new Facets(Map.of(), 0, 0, 0, 0);
+
+    /**
+     * The tag counts must be present and not null.
+     */
+    public Facets {
+        requireNonNull(tagCounts);
+    }
+
+    @Override
+    public String toString() {
+        String tags = tagCounts.isEmpty()
+                ? "none"
+                : tagCounts.entrySet().stream()
+                        .map(entry -> entry.getKey() + " (" + entry.getValue() + ")")
+                        .collect(Collectors.joining(", "));
+        return "Tags: " + tags + "\n"
+                + "Projects: " + unpaidCount + " unpaid, " + paidCount + " paid; "
+                + incompleteCount + " incomplete, " + completeCount + " complete";
+    }
+}
@@ -0,0 +1,27 @@
+package seedu.address.model.index;
+
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * A {@code Predicate<Person>} whose matching persons can be looked up from the indexes of an
+ * {@code AddressBook}, instead of testing every person in it.
+ * {@link #lookup(AddressBook)} must return exactly the persons for which {@link #test(Object)} is true.
+ */
+public interface IndexedPredicate extends Predicate<Person> {
+
+    /**
+     * Returns the persons in {@code addressBook} that satisfy this predicate.
+     */
+    Set<Person> lookup(AddressBook addressBook);
+
+    /**
+     * Returns an upper bound on the number of persons in {@code addressBook} that satisfy this predicate, found from
+     * the sizes kept by the indexes without looking up the persons themselves.
+     * Used to decide which of several predicates to look up first.
+     */
+    int estimateMatches(AddressBook addressBook);
+}
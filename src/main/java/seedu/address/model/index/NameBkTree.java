@@ -0,0 +1,198 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.person.Person;
+
+/**
+ * A BK-tree over the words in each person's name, for finding the persons with a name word within a given
+ * edit distance of a keyword, ignoring case.
+ * <p>
+ * Each node holds a distinct word and the persons whose name contains it, and each child of a node is keyed by
+ * its word's {@link StringUtil#editDistance edit distance} from the node's word. By the triangle inequality, a
+ * word within distance {@code k} of a keyword that is distance {@code d} from a node's word can only be below
+ * the children keyed {@code d - k} to {@code d + k}, so a lookup visits only a small part of the tree for small
+ * {@code k}.
+ * <p>
+ * A word whose last person is removed keeps its node, which still routes lookups to its children, until more
+ * than half the words are unused, at which point the tree is rebuilt from the words still in use.
+ */
+public class NameBkTree implements PersonIndex {
+
+    private static final int MIN_WORDS_TO_REBUILD = 32;
+
+    private Node root;
+    private int wordCount = 0;
+    private int unusedWordCount = 0;
+
+    @Override
+    public void add(Person person) {
+        requireNonNull(person);
+        for (String word : NameTokenIndex.tokensOf(person)) {
+            Node node = insert(word);
+            if (node.persons.isEmpty()) {
+                unusedWordCount--;
+            }
+            node.persons.add(person);
+        }
+    }
+
+    @Override
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (String word : NameTokenIndex.tokensOf(person)) {
+            Node node = find(word);
+            if (node != null && node.persons.remove(person) && node.persons.isEmpty()) {
+                unusedWordCount++;
+            }
+        }
+        if (wordCount >= MIN_WORDS_TO_REBUILD && unusedWordCount > wordCount / 2) {
+            rebuild();
+        }
+    }
+
+    @Override
+    public void clear() {
+        root = null;
+        wordCount = 0;
+        unusedWordCount = 0;
+    }
+
+    /**
+     * Returns the persons whose name contains a word within {@code maxDistance} edits of {@code keyword},
+     * ignoring case.
+     */
+    public Set<Person> findWithin(String keyword, int maxDistance) {
+        Set<Person> matches = new HashSet<>();
+        for (Node node : nodesWithin(keyword, maxDistance)) {
+            matches.addAll(node.persons);
+        }
+        return matches;
+    }
+
+    /**
+     * Returns an upper bound on the number of persons whose name contains a word within {@code maxDistance} edits
+     * of {@code keyword}, ignoring case, found without collecting the persons.
+     */
+    public int estimateWithin(String keyword, int maxDistance) {
+        int estimate = 0;
+        for (Node node : nodesWithin(keyword, maxDistance)) {
+            estimate += node.persons.size();
+        }
+        return estimate;
+    }
+
+    private List<Node> nodesWithin(String keyword, int maxDistance) {
+        requireNonNull(keyword);
+        checkArgument(maxDistance >= 0, "Edit distance cannot be negative");
+        String word = NameTokenIndex.fold(keyword.trim());
+        List<Node> matches = new ArrayList<>();
+        if (root == null) {
+            return matches;
+        }
+
+        Deque<Node> toVisit = new ArrayDeque<>();
+        toVisit.push(root);
+        while (!toVisit.isEmpty()) {
+            Node node = toVisit.pop();
+            int distance = StringUtil.editDistance(word, node.word);
+            if (distance <= maxDistance && !node.persons.isEmpty()) {
+                matches.add(node);
+            }
+            for (Map.Entry<Integer, Node> child : node.children.entrySet()) {
+                if (Math.abs(child.getKey() - distance) <= maxDistance) {
+                    toVisit.push(child.getValue());
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the node of {@code word}, adding it as an unused word if the tree does not have it.
+     */
+    private Node insert(String word) {
+        if (root == null) {
+            root = newNode(word);
+            return root;
+        }
+        Node node = root;
+        while (true) {
+            int distance = StringUtil.editDistance(word, node.word);
+            if (distance == 0) {
+                return node;
+            }
+            Node child = node.children.get(distance);
+            if (child == null) {
+                child = newNode(word);
+                node.children.put(distance, child);
+                return child;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Returns the node of {@code word}, or null if the tree does not have it.
+     */
+    private Node find(String word) {
+        Node node = root;
+        while (node != null) {
+            int distance = StringUtil.editDistance(word, node.word);
+            if (distance == 0) {
+                return node;
+            }
+            node = node.children.get(distance);
+        }
+        return null;
+    }
+
+    private Node newNode(String word) {
+        wordCount++;
+        unusedWordCount++;
+        return new Node(word);
+    }
+
+    private void rebuild() {
+        List<Node> usedNodes = new ArrayList<>();
+        Deque<Node> toVisit = new ArrayDeque<>();
+        toVisit.push(root);
+        while (!toVisit.isEmpty()) {
+            Node node = toVisit.pop();
+            if (!node.persons.isEmpty()) {
+                usedNodes.add(node);
+            }
+            node.children.values().forEach(toVisit::push);
+        }
+
+        clear();
+        for (Node usedNode : usedNodes) {
+            insert(usedNode.word).persons.addAll(usedNode.persons);
+            unusedWordCount--;
+        }
+    }
+
+    /**
+     * A word of the tree, the persons whose name contains it, and its children keyed by their distance from it.
+     */
+    private static class Node {
+        private final String word;
+        private final Set<Person> persons = new HashSet<>();
+        private final Map<Integer, Node> children = new HashMap<>();
+
+        private Node(String word) {
+            this.word = word;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.person.Person;
+
+/**
+ * An inverted index from the words in each person's name to the persons whose name contains that word.
+ * Words are case-folded, so lookups ignore case but require a full word match, like
+ * {@link StringUtil#containsWordIgnoreCase(String, String)}.
+ */
+public class NameTokenIndex implements PersonIndex {
+
+    private final Map<String, Set<Person>> postings = new HashMap<>();
+
+    @Override
+    public void add(Person person) {
+        requireNonNull(person);
+        for (String token : tokensOf(person)) {
+            postings.computeIfAbsent(token, unused -> new HashSet<>()).add(person);
+        }
+    }
+
+    @Override
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (String token : tokensOf(person)) {
+            Set<Person> posting = postings.get(token);
+            if (posting == null) {
+                continue;
+            }
+            posting.remove(person);
+            if (posting.isEmpty()) {
+                postings.remove(token);
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        postings.clear();
+    }
+
+    /**
+     * Returns the persons whose name contains any of the {@code keywords} as a full word, ignoring case.
+     */
+    public Set<Person> findAny(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Set<Person> matches = new HashSet<>();
+        for (String keyword : keywords) {
+            Set<Person> posting = postings.get(fold(keyword.trim()));
+            if (posting != null) {
+                matches.addAll(posting);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns an upper bound on the number of persons whose name contains any of the {@code keywords} as a full
+     * word, ignoring case, found without collecting the persons.
+     */
+    public int estimateAny(Collection<String> keywords) {
+        requireNonNull(keywords);
+        int estimate = 0;
+        for (String keyword : keywords) {
+            Set<Person> posting = postings.get(fold(keyword.trim()));
+            estimate += posting == null ? 0 : posting.size();
+        }
+        return estimate;
+    }
+
+    /**
+     * Returns the distinct case-folded words of the name of {@code person}.
+     */
+    static Set<String> tokensOf(Person person) {
+        Set<String> tokens = new HashSet<>();
+        for (String word : StringUtil.splitIntoWords(person.getName().fullName)) {
+            tokens.add(fold(word));
+        }
+        return tokens;
+    }
+
+    static String fold(String word) {
+        return word.toLowerCase();
+    }
+}
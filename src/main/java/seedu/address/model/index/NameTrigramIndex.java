@@ -0,0 +1,145 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.person.Person;
+
+/**
+ * An index from the trigrams (three-character substrings) of each person's name to the persons whose name
+ * contains that trigram, used to find names containing a given fragment without scanning every name.
+ * <p>
+ * Names are case-folded and padded with a space on each side before being split into trigrams, so that every
+ * name has at least one trigram and fragments shorter than three characters can still be looked up.
+ * Candidates found through the trigrams are always verified against the full name before being returned.
+ */
+public class NameTrigramIndex implements PersonIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final Map<String, Set<Person>> postings = new HashMap<>();
+
+    @Override
+    public void add(Person person) {
+        requireNonNull(person);
+        for (String trigram : trigramsOf(pad(fold(person.getName().fullName)))) {
+            postings.computeIfAbsent(trigram, unused -> new HashSet<>()).add(person);
+        }
+    }
+
+    @Override
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (String trigram : trigramsOf(pad(fold(person.getName().fullName)))) {
+            Set<Person> posting = postings.get(trigram);
+            if (posting == null) {
+                continue;
+            }
+            posting.remove(person);
+            if (posting.isEmpty()) {
+                postings.remove(trigram);
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        postings.clear();
+    }
+
+    /**
+     * Returns the persons whose name contains {@code fragment}, ignoring case.
+     */
+    public Set<Person> findContaining(String fragment) {
+        requireNonNull(fragment);
+        String foldedFragment = fold(fragment);
+        Set<Person> candidates = foldedFragment.length() >= GRAM_LENGTH
+                ? intersectPostings(trigramsOf(foldedFragment))
+                : unionPostingsContaining(foldedFragment);
+
+        Set<Person> matches = new HashSet<>();
+        for (Person candidate : candidates) {
+            if (fold(candidate.getName().fullName).contains(foldedFragment)) {
+                matches.add(candidate);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns an upper bound on the number of persons whose name contains {@code fragment}, ignoring case, found
+     * from the size of the smallest posting of its trigrams. Returns {@code Integer.MAX_VALUE} for fragments too
+     * short to have a trigram of their own.
+     */
+    public int estimateContaining(String fragment) {
+        requireNonNull(fragment);
+        String foldedFragment = fold(fragment);
+        if (foldedFragment.length() < GRAM_LENGTH) {
+            return Integer.MAX_VALUE;
+        }
+        int estimate = Integer.MAX_VALUE;
+        for (String trigram : trigramsOf(foldedFragment)) {
+            Set<Person> posting = postings.get(trigram);
+            estimate = Math.min(estimate, posting == null ? 0 : posting.size());
+        }
+        return estimate;
+    }
+
+    /**
+     * Returns the persons found in the postings of all {@code trigrams}, starting from the smallest posting.
+     */
+    private Set<Person> intersectPostings(Set<String> trigrams) {
+        List<Set<Person>> trigramPostings = new ArrayList<>();
+        for (String trigram : trigrams) {
+            Set<Person> posting = postings.get(trigram);
+            if (posting == null) {
+                return Set.of();
+            }
+            trigramPostings.add(posting);
+        }
+        trigramPostings.sort(Comparator.comparingInt(Set::size));
+
+        Set<Person> candidates = new HashSet<>(trigramPostings.get(0));
+        for (int i = 1; i < trigramPostings.size() && !candidates.isEmpty(); i++) {
+            candidates.retainAll(trigramPostings.get(i));
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns the persons found in the postings of any trigram that contains {@code shortFragment}.
+     * Used for fragments too short to have a trigram of their own.
+     */
+    private Set<Person> unionPostingsContaining(String shortFragment) {
+        Set<Person> candidates = new HashSet<>();
+        postings.forEach((trigram, posting) -> {
+            if (trigram.contains(shortFragment)) {
+                candidates.addAll(posting);
+            }
+        });
+        return candidates;
+    }
+
+    private static Set<String> trigramsOf(String text) {
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            trigrams.add(text.substring(i, i + GRAM_LENGTH));
+        }
+        return trigrams;
+    }
+
+    private static String pad(String text) {
+        return " " + text + " ";
+    }
+
+    private static String fold(String text) {
+        return text.toLowerCase();
+    }
+}
@@ -0,0 +1,206 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Project;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Bitmap indexes over the persons in an address book, one per tag name, one per project name and one for each
+ * project status,
+ * so that filters on tags and project status can be combined with bitwise AND/OR instead of scanning every person.
+ * <p>
+ * Each person is represented by the bit at a slot of its own, the lowest free when it was added. Slots of removed
+ * persons are reused, so the bitmaps are as wide as the most persons ever indexed at once rather than growing with
+ * every {@link Person#getId() id} handed out in a session. A status bitmap has the bit of every person with at least
+ * one project in that status. All bitmaps returned are copies, so callers may combine them freely, but they are
+ * only meaningful until the index next changes.
+ */
+public class PersonBitmapIndex implements PersonIndex {
+
+    private final Map<Integer, Integer> slotsById = new HashMap<>();
+    private final List<Person> personsBySlot = new ArrayList<>();
+    private final BitSet usedSlots = new BitSet();
+    private final Map<String, BitSet> tagBitmaps = new HashMap<>();
+    private final Map<String, BitSet> projectBitmaps = new HashMap<>();
+    private final BitSet withCompleteProject = new BitSet();
+    private final BitSet withIncompleteProject = new BitSet();
+    private final BitSet withPaidProject = new BitSet();
+    private final BitSet withUnpaidProject = new BitSet();
+
+    @Override
+    public void add(Person person) {
+        requireNonNull(person);
+        int slot = usedSlots.nextClearBit(0);
+        usedSlots.set(slot);
+        slotsById.put(person.getId(), slot);
+        if (slot == personsBySlot.size()) {
+            personsBySlot.add(person);
+        } else {
+            personsBySlot.set(slot, person);
+        }
+        for (Tag tag : person.getTags()) {
+            tagBitmaps.computeIfAbsent(tag.getTagName(), unused -> new BitSet()).set(slot);
+        }
+        for (Project project : person.getProjects()) {
+            projectBitmaps.computeIfAbsent(project.getTagName(), unused -> new BitSet()).set(slot);
+            BitSet progressBitmap = project.isComplete() ? withCompleteProject : withIncompleteProject;
+            BitSet paymentBitmap = project.isPaid() ? withPaidProject : withUnpaidProject;
+            progressBitmap.set(slot);
+            paymentBitmap.set(slot);
+        }
+    }
+
+    @Override
+    public void remove(Person person) {
+        requireNonNull(person);
+        Integer slot = slotsById.remove(person.getId());
+        if (slot == null) {
+            return;
+        }
+        usedSlots.clear(slot);
+        personsBySlot.set(slot, null);
+        for (Tag tag : person.getTags()) {
+            clearFrom(tagBitmaps, tag.getTagName(), slot);
+        }
+        for (Project project : person.getProjects()) {
+            clearFrom(projectBitmaps, project.getTagName(), slot);
+        }
+        withCompleteProject.clear(slot);
+        withIncompleteProject.clear(slot);
+        withPaidProject.clear(slot);
+        withUnpaidProject.clear(slot);
+    }
+
+    @Override
+    public void clear() {
+        slotsById.clear();
+        personsBySlot.clear();
+        usedSlots.clear();
+        tagBitmaps.clear();
+        projectBitmaps.clear();
+        withCompleteProject.clear();
+        withIncompleteProject.clear();
+        withPaidProject.clear();
+        withUnpaidProject.clear();
+    }
+
+    /**
+     * Returns the bitmap of every indexed person.
+     */
+    public BitSet all() {
+        return (BitSet) usedSlots.clone();
+    }
+
+    /**
+     * Returns the bitmap of the persons with any of the given tags, ignoring case.
+     */
+    public BitSet withAnyTag(Collection<String> tagNames) {
+        requireNonNull(tagNames);
+        return unionOf(tagBitmaps, tagNames);
+    }
+
+    /**
+     * Returns the bitmap of the persons with a project of any of the given names, ignoring case.
+     */
+    public BitSet withAnyProject(Collection<String> projectNames) {
+        requireNonNull(projectNames);
+        return unionOf(projectBitmaps, projectNames);
+    }
+
+    /**
+     * Returns the bitmap of the persons with at least one project that is paid if {@code isPaid}, or unpaid if not.
+     */
+    public BitSet withProjectPayment(boolean isPaid) {
+        return (BitSet) (isPaid ? withPaidProject : withUnpaidProject).clone();
+    }
+
+    /**
+     * Returns the bitmap of the persons with at least one project that is complete if {@code isComplete},
+     * or incomplete if not.
+     */
+    public BitSet withProjectProgress(boolean isComplete) {
+        return (BitSet) (isComplete ? withCompleteProject : withIncompleteProject).clone();
+    }
+
+    /**
+     * Returns how the given {@code persons} break down by tag and by project status.
+     * Each person's tags and statuses are read directly, so this takes time proportional to the number of persons
+     * given rather than to the number of persons indexed.
+     */
+    public Facets facetsOf(Collection<Person> persons) {
+        requireNonNull(persons);
+        Map<String, Integer> tagCounts = new HashMap<>();
+        int paidCount = 0;
+        int unpaidCount = 0;
+        int completeCount = 0;
+        int incompleteCount = 0;
+        for (Person person : persons) {
+            for (Tag tag : person.getTags()) {
+                tagCounts.merge(tag.getTagName(), 1, Integer::sum);
+            }
+            Integer slot = slotsById.get(person.getId());
+            if (slot == null) {
+                continue;
+            }
+            paidCount += withPaidProject.get(slot) ? 1 : 0;
+            unpaidCount += withUnpaidProject.get(slot) ? 1 : 0;
+            completeCount += withCompleteProject.get(slot) ? 1 : 0;
+            incompleteCount += withIncompleteProject.get(slot) ? 1 : 0;
+        }
+
+        Map<String, Integer> sortedTagCounts = new LinkedHashMap<>();
+        tagCounts.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .forEach(entry -> sortedTagCounts.put(entry.getKey(), entry.getValue()));
+        return new Facets(Collections.unmodifiableMap(sortedTagCounts), paidCount, unpaidCount, completeCount,
+                incompleteCount);
+    }
+
+    /**
+     * Returns the persons whose bits are set in {@code bitmap}.
+     */
+    public Set<Person> personsIn(BitSet bitmap) {
+        requireNonNull(bitmap);
+        Set<Person> persons = new HashSet<>();
+        BitSet used = (BitSet) bitmap.clone();
+        used.and(usedSlots);
+        used.stream().mapToObj(personsBySlot::get).forEach(persons::add);
+        return persons;
+    }
+
+    private static BitSet unionOf(Map<String, BitSet> bitmaps, Collection<String> names) {
+        BitSet union = new BitSet();
+        for (String name : names) {
+            BitSet bitmap = bitmaps.get(name.trim().toLowerCase());
+            if (bitmap != null) {
+                union.or(bitmap);
+            }
+        }
+        return union;
+    }
+
+    private static void clearFrom(Map<String, BitSet> bitmaps, String name, int slot) {
+        BitSet bitmap = bitmaps.get(name);
+        if (bitmap == null) {
+            return;
+        }
+        bitmap.clear(slot);
+        if (bitmap.isEmpty()) {
+            bitmaps.remove(name);
+        }
+    }
+}
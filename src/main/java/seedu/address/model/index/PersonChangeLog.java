@@ -0,0 +1,84 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A log of the most recent persons added to and removed from a person list, numbered by a version that every
+ * change advances by one.
+ * <p>
+ * Something derived from the persons at an earlier version, such as the matches of a query, can be brought up to
+ * date by replaying just the changes since that version, instead of being derived again from every person. Only the
+ * last {@value #CAPACITY} changes are kept, and clearing the list drops them all, so {@link #changesSince(long)}
+ * cannot replay changes from before those.
+ */
+public class PersonChangeLog implements PersonIndex {
+
+    static final int CAPACITY = 256;
+
+    /**
+     * A person that was added to the person list, or removed from it if not {@code isAdded}.
+     */
+    public record Change(Person person, boolean isAdded) {}
+
+    private final Deque<Change> changes = new ArrayDeque<>();
+    private long version = 0;
+
+    @Override
+    public void add(Person person) {
+        requireNonNull(person);
+        record(new Change(person, true));
+    }
+
+    @Override
+    public void remove(Person person) {
+        requireNonNull(person);
+        record(new Change(person, false));
+    }
+
+    @Override
+    public void clear() {
+        changes.clear();
+        version++;
+    }
+
+    /**
+     * Returns the current version, which changes whenever a person is added or removed or the list is cleared.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the changes made since {@code sinceVersion}, in the order they were made, or an empty {@code Optional}
+     * if they are no longer all in the log.
+     */
+    public Optional<List<Change>> changesSince(long sinceVersion) {
+        long changeCount = version - sinceVersion;
+        if (changeCount < 0 || changeCount > changes.size()) {
+            return Optional.empty();
+        }
+        List<Change> since = new ArrayList<>();
+        Iterator<Change> newestFirst = changes.descendingIterator();
+        for (long i = 0; i < changeCount; i++) {
+            since.add(0, newestFirst.next());
+        }
+        return Optional.of(since);
+    }
+
+    private void record(Change change) {
+        changes.addLast(change);
+        if (changes.size() > CAPACITY) {
+            changes.removeFirst();
+        }
+        version++;
+    }
+}
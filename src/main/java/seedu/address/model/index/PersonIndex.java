@@ -0,0 +1,28 @@
+package seedu.address.model.index;
+
+import seedu.address.model.person.Person;
+
+/**
+ * An auxiliary lookup structure over the persons of a {@code UniquePersonList}.
+ * The list notifies each of its indexes of every person added to or removed from it, so that the index is
+ * kept in sync incrementally. Replacing a person is notified as the removal of the old version followed by
+ * the addition of the new one.
+ */
+public interface PersonIndex {
+
+    /**
+     * Adds {@code person} to the index.
+     */
+    void add(Person person);
+
+    /**
+     * Removes {@code person} from the index.
+     * {@code person} must have been added to the index.
+     */
+    void remove(Person person);
+
+    /**
+     * Removes all persons from the index.
+     */
+    void clear();
+}
@@ -0,0 +1,154 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.person.Person;
+
+/**
+ * A full-text index over the words of each person's name, tag names and project names, which ranks the persons
+ * matching a search by BM25 relevance.
+ * <p>
+ * Each field is weighted by its {@link Field#boost}, so a word in a person's name counts for more than the same word
+ * as a tag. The index keeps each word's weighted frequency for each person containing it, each person's weighted
+ * length, and the total length of all persons, updating them as persons are added and removed, so a search only
+ * visits the persons containing its words. The best {@code limit} matches are kept in a heap of that size while
+ * scoring, rather than sorting every match.
+ */
+public class PersonTextIndex implements PersonIndex {
+
+    /** Controls how quickly repeating a word stops raising the score. */
+    private static final double K1 = 1.2;
+
+    /** Controls how much a longer person's score is reduced for its length, from 0 (none) to 1 (in proportion). */
+    private static final double B = 0.75;
+
+    /**
+     * The fields of a person that are searched, with how much a word in each counts towards relevance.
+     */
+    public enum Field {
+        NAME(3.0),
+        PROJECT(2.0),
+        TAG(1.0);
+
+        private final double boost;
+
+        Field(double boost) {
+            this.boost = boost;
+        }
+    }
+
+    private final Map<String, Map<Person, Double>> postings = new HashMap<>();
+    private final Map<Person, Double> weightedLengths = new HashMap<>();
+    private double totalWeightedLength = 0;
+
+    @Override
+    public void add(Person person) {
+        requireNonNull(person);
+        double weightedLength = 0;
+        for (Field field : Field.values()) {
+            for (String word : wordsOf(person, field)) {
+                postings.computeIfAbsent(word, unused -> new HashMap<>()).merge(person, field.boost, Double::sum);
+                weightedLength += field.boost;
+            }
+        }
+        weightedLengths.put(person, weightedLength);
+        totalWeightedLength += weightedLength;
+    }
+
+    @Override
+    public void remove(Person person) {
+        requireNonNull(person);
+        Double weightedLength = weightedLengths.remove(person);
+        if (weightedLength == null) {
+            return;
+        }
+        totalWeightedLength -= weightedLength;
+        for (Field field : Field.values()) {
+            for (String word : wordsOf(person, field)) {
+                Map<Person, Double> posting = postings.get(word);
+                if (posting == null) {
+                    continue;
+                }
+                posting.remove(person);
+                if (posting.isEmpty()) {
+                    postings.remove(word);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        postings.clear();
+        weightedLengths.clear();
+        totalWeightedLength = 0;
+    }
+
+    /**
+     * Returns up to {@code limit} of the persons containing any of the {@code keywords}, ignoring case, most
+     * relevant first.
+     */
+    public List<ScoredPerson> search(Collection<String> keywords, int limit) {
+        requireNonNull(keywords);
+        checkArgument(limit > 0, "Limit must be positive");
+
+        Map<Person, Double> scores = new HashMap<>();
+        Set<String> words = new LinkedHashSet<>();
+        keywords.forEach(keyword -> words.add(NameTokenIndex.fold(keyword.trim())));
+        double averageLength = weightedLengths.isEmpty() ? 0 : totalWeightedLength / weightedLengths.size();
+        for (String word : words) {
+            Map<Person, Double> posting = postings.get(word);
+            if (posting == null) {
+                continue;
+            }
+            double idf = inverseDocumentFrequency(posting.size());
+            for (Map.Entry<Person, Double> entry : posting.entrySet()) {
+                double frequency = entry.getValue();
+                double lengthNorm = K1 * (1 - B + B * weightedLengths.get(entry.getKey()) / averageLength);
+                scores.merge(entry.getKey(), idf * frequency * (K1 + 1) / (frequency + lengthNorm), Double::sum);
+            }
+        }
+
+        // the least relevant of the best matches so far is at the head, to be replaced by any better match
+        PriorityQueue<ScoredPerson> best = new PriorityQueue<>(limit, ScoredPerson.BY_RELEVANCE.reversed());
+        for (Map.Entry<Person, Double> entry : scores.entrySet()) {
+            ScoredPerson candidate = new ScoredPerson(entry.getKey(), entry.getValue());
+            if (best.size() < limit) {
+                best.add(candidate);
+            } else if (ScoredPerson.BY_RELEVANCE.compare(candidate, best.peek()) < 0) {
+                best.poll();
+                best.add(candidate);
+            }
+        }
+        List<ScoredPerson> ranked = new ArrayList<>(best);
+        ranked.sort(ScoredPerson.BY_RELEVANCE);
+        return ranked;
+    }
+
+    private double inverseDocumentFrequency(int matchCount) {
+        int personCount = weightedLengths.size();
+        return Math.log(1 + (personCount - matchCount + 0.5) / (matchCount + 0.5));
+    }
+
+    private static List<String> wordsOf(Person person, Field field) {
+        return switch (field) {
+        case NAME -> StringUtil.splitIntoWords(person.getName().fullName).stream()
+                .map(NameTokenIndex::fold).toList();
+        case PROJECT -> person.getProjects().stream()
+                .map(project -> NameTokenIndex.fold(project.getTagName())).toList();
+        case TAG -> person.getTags().stream()
+                .map(tag -> NameTokenIndex.fold(tag.getTagName())).toList();
+        };
+    }
+}
@@ -0,0 +1,170 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import seedu.address.model.person.Person;
+
+/**
+ * An index of each person's phone number in two digit tries: one keyed by the digits in order, used to find
+ * phones with a given prefix, and one keyed by the digits in reverse, used to find phones with a given suffix.
+ * <p>
+ * A lookup walks one node per digit of the query and then collects the persons below that node, so its cost
+ * depends on the length of the query and the number of matches rather than on the size of the address book.
+ * Each node also counts the persons below it, so the number of matches can be found from the walk alone.
+ */
+public class PhoneDigitTrie implements PersonIndex {
+
+    private static final int RADIX = 10;
+
+    private Node prefixRoot = new Node();
+    private Node suffixRoot = new Node();
+
+    @Override
+    public void add(Person person) {
+        requireNonNull(person);
+        String digits = person.getPhone().value;
+        insert(prefixRoot, digits, person);
+        insert(suffixRoot, reverse(digits), person);
+    }
+
+    @Override
+    public void remove(Person person) {
+        requireNonNull(person);
+        String digits = person.getPhone().value;
+        delete(prefixRoot, digits, person);
+        delete(suffixRoot, reverse(digits), person);
+    }
+
+    @Override
+    public void clear() {
+        prefixRoot = new Node();
+        suffixRoot = new Node();
+    }
+
+    /**
+     * Returns the persons whose phone number starts with {@code prefix}.
+     * Returns no persons if {@code prefix} contains anything other than digits.
+     */
+    public Set<Person> findByPrefix(String prefix) {
+        requireNonNull(prefix);
+        return collect(descend(prefixRoot, prefix));
+    }
+
+    /**
+     * Returns the persons whose phone number ends with {@code suffix}.
+     * Returns no persons if {@code suffix} contains anything other than digits.
+     */
+    public Set<Person> findBySuffix(String suffix) {
+        requireNonNull(suffix);
+        return collect(descend(suffixRoot, reverse(suffix)));
+    }
+
+    /**
+     * Returns the number of persons whose phone number starts with {@code prefix}.
+     */
+    public int countByPrefix(String prefix) {
+        requireNonNull(prefix);
+        return countBelow(descend(prefixRoot, prefix));
+    }
+
+    /**
+     * Returns the number of persons whose phone number ends with {@code suffix}.
+     */
+    public int countBySuffix(String suffix) {
+        requireNonNull(suffix);
+        return countBelow(descend(suffixRoot, reverse(suffix)));
+    }
+
+    private static void insert(Node root, String digits, Person person) {
+        Node node = root;
+        node.count++;
+        for (int i = 0; i < digits.length(); i++) {
+            int digit = digitAt(digits, i);
+            if (node.children[digit] == null) {
+                node.children[digit] = new Node();
+            }
+            node = node.children[digit];
+            node.count++;
+        }
+        node.persons.add(person);
+    }
+
+    private static void delete(Node root, String digits, Person person) {
+        Node[] path = new Node[digits.length() + 1];
+        path[0] = root;
+        for (int i = 0; i < digits.length(); i++) {
+            path[i + 1] = path[i].children[digitAt(digits, i)];
+            if (path[i + 1] == null) {
+                return;
+            }
+        }
+        if (!path[digits.length()].persons.remove(person)) {
+            return;
+        }
+        for (Node node : path) {
+            node.count--;
+        }
+
+        // prune the branch that no longer leads to any person
+        for (int i = digits.length(); i > 0 && path[i].count == 0; i--) {
+            path[i - 1].children[digitAt(digits, i - 1)] = null;
+        }
+    }
+
+    /**
+     * Returns the node reached by following {@code digits} from {@code root}, or null if there is none.
+     */
+    private static Node descend(Node root, String digits) {
+        Node node = root;
+        for (int i = 0; i < digits.length() && node != null; i++) {
+            int digit = digitAt(digits, i);
+            if (digit < 0 || digit >= RADIX) {
+                return null;
+            }
+            node = node.children[digit];
+        }
+        return node;
+    }
+
+    private static int countBelow(Node node) {
+        return node == null ? 0 : node.count;
+    }
+
+    private static Set<Person> collect(Node node) {
+        Set<Person> matches = new HashSet<>();
+        if (node != null) {
+            collectInto(node, matches);
+        }
+        return matches;
+    }
+
+    private static void collectInto(Node node, Set<Person> matches) {
+        matches.addAll(node.persons);
+        for (Node child : node.children) {
+            if (child != null) {
+                collectInto(child, matches);
+            }
+        }
+    }
+
+    private static int digitAt(String digits, int index) {
+        return digits.charAt(index) - '0';
+    }
+
+    private static String reverse(String digits) {
+        return new StringBuilder(digits).reverse().toString();
+    }
+
+    /**
+     * A node of a digit trie, holding the persons whose phone number ends at this node, and counting the persons
+     * whose phone number ends at or below it.
+     */
+    private static class Node {
+        private final Node[] children = new Node[RADIX];
+        private final Set<Person> persons = new HashSet<>(1);
+        private int count;
+    }
+}
@@ -0,0 +1,117 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.LedgerTotals;
+import seedu.address.model.tag.Project;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Running totals over the projects in the address book, kept up to date as persons are added and removed so that
+ * reading them does not visit every person.
+ * <p>
+ * Adding or removing a person updates the totals for that person's projects and tags only. Whether a project is
+ * overdue depends on when the totals are read, so the deadlines of incomplete projects are kept in order and the
+ * overdue count is summed from those before the time asked for. The amounts invoiced and paid are summed from the
+ * running totals of each project's ledger, so that they too are updated without replaying any ledger.
+ */
+public class ProjectAggregates extends SharedProjectIndex {
+
+    private final NavigableMap<LocalDateTime, Integer> incompleteDeadlines = new TreeMap<>();
+    private final Map<String, Integer> unpaidClientsByTag = new HashMap<>();
+    private int unpaidCount;
+    private int incompleteCount;
+    private int unpaidClientCount;
+    private LedgerTotals ledgerTotals = LedgerTotals.NONE;
+
+    @Override
+    public void add(Person person) {
+        super.add(person);
+        if (hasUnpaidProject(person)) {
+            countUnpaidClient(person, 1);
+        }
+    }
+
+    @Override
+    public void remove(Person person) {
+        super.remove(person);
+        if (hasUnpaidProject(person)) {
+            countUnpaidClient(person, -1);
+        }
+    }
+
+    /**
+     * Returns the totals as they stand at {@code now}.
+     */
+    public ProjectStatistics statisticsAt(LocalDateTime now) {
+        requireNonNull(now);
+        int overdueCount = 0;
+        for (int count : incompleteDeadlines.headMap(now, false).values()) {
+            overdueCount += count;
+        }
+
+        Map<String, Integer> sortedUnpaidClientsByTag = new LinkedHashMap<>();
+        unpaidClientsByTag.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .forEach(entry -> sortedUnpaidClientsByTag.put(entry.getKey(), entry.getValue()));
+        return new ProjectStatistics(getProjectCount(), unpaidCount, incompleteCount, overdueCount,
+                unpaidClientCount, Collections.unmodifiableMap(sortedUnpaidClientsByTag), ledgerTotals);
+    }
+
+    @Override
+    protected void count(Project project, int delta) {
+        LedgerTotals projectTotals = project.getLedger().getTotals();
+        ledgerTotals = delta > 0 ? ledgerTotals.plus(projectTotals) : ledgerTotals.minus(projectTotals);
+        if (!project.isPaid()) {
+            unpaidCount += delta;
+        }
+        if (!project.isComplete()) {
+            incompleteCount += delta;
+            incompleteDeadlines.merge(project.getDeadline(), delta, SharedProjectIndex::sumOrNull);
+        }
+    }
+
+    @Override
+    protected void clearCounts() {
+        incompleteDeadlines.clear();
+        unpaidClientsByTag.clear();
+        unpaidCount = 0;
+        incompleteCount = 0;
+        unpaidClientCount = 0;
+        ledgerTotals = LedgerTotals.NONE;
+    }
+
+    @Override
+    protected boolean hasSameStatus(Project counted, Project added) {
+        return counted.isPaid() == added.isPaid()
+                && counted.isComplete() == added.isComplete()
+                && counted.getDeadline().equals(added.getDeadline())
+                && counted.getLedger().getTotals().equals(added.getLedger().getTotals());
+    }
+
+    private void countUnpaidClient(Person person, int delta) {
+        unpaidClientCount += delta;
+        for (Tag tag : person.getTags()) {
+            unpaidClientsByTag.merge(tag.getTagName(), delta, SharedProjectIndex::sumOrNull);
+        }
+    }
+
+    private static boolean hasUnpaidProject(Person person) {
+        for (Project project : person.getProjects()) {
+            if (!project.isPaid()) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
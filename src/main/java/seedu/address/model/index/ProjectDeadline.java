@@ -0,0 +1,24 @@
+package seedu.address.model.index;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Project;
+
+/**
+ * A project together with the person it belongs to, as listed by a {@link ProjectDeadlineIndex}.
+ */
+public record ProjectDeadline(Person person, Project project) {
+
+    /**
+     * Every field must be present and not null.
+     */
+    public ProjectDeadline {
+        requireAllNonNull(person, project);
+    }
+
+    @Override
+    public String toString() {
+        return project.getDeadlineString() + "hrs: " + project.getTagName() + " (" + person.getName() + ")";
+    }
+}
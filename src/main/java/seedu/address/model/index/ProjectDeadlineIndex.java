@@ -0,0 +1,104 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Project;
+
+/**
+ * An index of every person's projects ordered by deadline, used to find the projects due within a time range
+ * without scanning every person.
+ * <p>
+ * Deadlines are keyed by the minute, matching the precision with which deadlines are entered and shown, so a
+ * range lookup visits only the minutes in the range that have a project due.
+ */
+public class ProjectDeadlineIndex implements PersonIndex {
+
+    private static final long SECONDS_PER_MINUTE = 60;
+
+    private final NavigableMap<Long, Set<ProjectDeadline>> deadlines = new TreeMap<>();
+
+    @Override
+    public void add(Person person) {
+        requireNonNull(person);
+        for (Project project : person.getProjects()) {
+            deadlines.computeIfAbsent(toEpochMinute(project.getDeadline()), unused -> new LinkedHashSet<>())
+                    .add(new ProjectDeadline(person, project));
+        }
+    }
+
+    @Override
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (Project project : person.getProjects()) {
+            long minute = toEpochMinute(project.getDeadline());
+            Set<ProjectDeadline> due = deadlines.get(minute);
+            if (due == null) {
+                continue;
+            }
+            due.remove(new ProjectDeadline(person, project));
+            if (due.isEmpty()) {
+                deadlines.remove(minute);
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        deadlines.clear();
+    }
+
+    /**
+     * Returns the projects due within the minutes of {@code from} and {@code to}, both inclusive, in deadline order.
+     * An absent bound leaves that end of the range open.
+     */
+    public List<ProjectDeadline> findDueBetween(Optional<LocalDateTime> from, Optional<LocalDateTime> to) {
+        List<ProjectDeadline> due = new ArrayList<>();
+        dueBetween(from, to).values().forEach(due::addAll);
+        return due;
+    }
+
+    /**
+     * Returns the number of projects due within the minutes of {@code from} and {@code to}, both inclusive.
+     * An absent bound leaves that end of the range open.
+     */
+    public int countDueBetween(Optional<LocalDateTime> from, Optional<LocalDateTime> to) {
+        int count = 0;
+        for (Set<ProjectDeadline> due : dueBetween(from, to).values()) {
+            count += due.size();
+        }
+        return count;
+    }
+
+    private NavigableMap<Long, Set<ProjectDeadline>> dueBetween(Optional<LocalDateTime> from,
+            Optional<LocalDateTime> to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        if (from.isPresent() && to.isPresent() && from.get().isAfter(to.get())) {
+            return Collections.emptyNavigableMap();
+        }
+        NavigableMap<Long, Set<ProjectDeadline>> range = deadlines;
+        if (from.isPresent()) {
+            range = range.tailMap(toEpochMinute(from.get()), true);
+        }
+        if (to.isPresent()) {
+            range = range.headMap(toEpochMinute(to.get()), true);
+        }
+        return range;
+    }
+
+    private static long toEpochMinute(LocalDateTime dateTime) {
+        return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), SECONDS_PER_MINUTE);
+    }
+}
@@ -0,0 +1,50 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import seedu.address.model.tag.LedgerTotals;
+
+/**
+ * Running totals over the projects in the address book, as kept by {@link ProjectAggregates}.
+ * Each project is counted once however many persons are on it. A project is overdue if it is incomplete and its
+ * deadline has passed. {@code unpaidClientCount} is the number of persons with at least one unpaid project, and
+ * {@code unpaidClientsByTag} breaks those persons down by tag, most common first. {@code ledgerTotals} sums the
+ * ledgers of every project.
+ */
+public record ProjectStatistics(int projectCount, int unpaidCount, int incompleteCount, int overdueCount,
+        int unpaidClientCount, Map<String, Integer> unpaidClientsByTag, LedgerTotals ledgerTotals) {
+
+    public static final ProjectStatistics NONE = new ProjectStatistics(0, 0, 0, 0, 0, Map.of(), LedgerTotals.NONE);
+
+    /**
+     * The tag breakdown and ledger totals must be present and not null.
+     */
+    public ProjectStatistics {
+        requireNonNull(unpaidClientsByTag);
+        requireNonNull(ledgerTotals);
+    }
+
+    /**
+     * Returns the most pressing totals on one line, to be shown in the status bar.
+     */
+    public String toSummary() {
+        return projectCount + " projects: " + unpaidCount + " unpaid, " + overdueCount + " overdue";
+    }
+
+    @Override
+    public String toString() {
+        String tags = unpaidClientsByTag.isEmpty()
+                ? "none"
+                : unpaidClientsByTag.entrySet().stream()
+                        .map(entry -> entry.getKey() + " (" + entry.getValue() + ")")
+                        .collect(Collectors.joining(", "));
+        return "Projects: " + projectCount + " in total, " + unpaidCount + " unpaid, " + incompleteCount
+                + " incomplete, " + overdueCount + " overdue\n"
+                + "Clients with unpaid work: " + unpaidClientCount + "\n"
+                + "By tag: " + tags + "\n"
+                + "Ledgers: " + ledgerTotals;
+    }
+}
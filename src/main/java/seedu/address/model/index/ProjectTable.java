@@ -0,0 +1,113 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Project;
+
+/**
+ * The table of the projects in the address book, each kept once and shared by every person on it.
+ * <p>
+ * A project is identified by its name. Its record holds the project's status and the persons on the project, so
+ * finding a project or its members is a single lookup rather than a scan of every person. A record is created
+ * when the first person on a project is added and dropped when the last one is removed; when a person is added
+ * with a project that already has a record, the added copy becomes the project's status, as it is the most
+ * recent one.
+ */
+public class ProjectTable implements PersonIndex {
+
+    private final Map<String, ProjectRecord> records = new HashMap<>();
+
+    @Override
+    public void add(Person person) {
+        requireNonNull(person);
+        for (Project project : person.getProjects()) {
+            ProjectRecord record = records.computeIfAbsent(project.getTagName(), unused -> new ProjectRecord());
+            record.project = project;
+            record.members.add(person);
+        }
+    }
+
+    @Override
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (Project project : person.getProjects()) {
+            ProjectRecord record = records.get(project.getTagName());
+            if (record == null) {
+                continue;
+            }
+            record.members.remove(person);
+            if (record.members.isEmpty()) {
+                records.remove(project.getTagName());
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        records.clear();
+    }
+
+    /**
+     * Returns the project named {@code projectName}, if any person is on it.
+     */
+    public Optional<Project> get(String projectName) {
+        requireNonNull(projectName);
+        return Optional.ofNullable(records.get(projectName)).map(record -> record.project);
+    }
+
+    /**
+     * Returns the persons on the project named {@code projectName}, in the order they joined it.
+     */
+    public Set<Person> membersOf(String projectName) {
+        requireNonNull(projectName);
+        ProjectRecord record = records.get(projectName);
+        return record == null ? Collections.emptySet() : Collections.unmodifiableSet(record.members);
+    }
+
+    /**
+     * Returns every project that a person is on, ordered by name so that the order does not depend on when each
+     * project was last edited.
+     */
+    public List<Project> getProjects() {
+        List<Project> projects = new ArrayList<>(records.size());
+        records.values().forEach(record -> projects.add(record.project));
+        projects.sort(Comparator.comparing(Project::getTagName));
+        return projects;
+    }
+
+    /**
+     * Returns {@code person} with each of its projects that is already in the table replaced by the table's copy,
+     * so that the person takes on the status shared by the others on the project.
+     * Returns {@code person} itself if its projects are already the table's.
+     */
+    public Person share(Person person) {
+        requireNonNull(person);
+        Person shared = person;
+        for (Project project : person.getProjects()) {
+            ProjectRecord record = records.get(project.getTagName());
+            if (record != null && record.project != project) {
+                shared = shared.replaceProject(record.project);
+            }
+        }
+        return shared;
+    }
+
+    /**
+     * A project and the persons on it.
+     */
+    private static class ProjectRecord {
+        private final Set<Person> members = new LinkedHashSet<>();
+        private Project project;
+    }
+}
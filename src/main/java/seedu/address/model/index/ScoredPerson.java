@@ -0,0 +1,33 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A person together with how relevant it is to a search, as ranked by a {@link PersonTextIndex}.
+ */
+public record ScoredPerson(Person person, double score) {
+
+    /**
+     * Orders the most relevant persons first, breaking ties by name and then by phone, so that rankings are stable.
+     */
+    public static final Comparator<ScoredPerson> BY_RELEVANCE = Comparator
+            .comparingDouble(ScoredPerson::score).reversed()
+            .thenComparing(scoredPerson -> scoredPerson.person().getName().fullName)
+            .thenComparing(scoredPerson -> scoredPerson.person().getPhone().value);
+
+    /**
+     * The person must be present and not null.
+     */
+    public ScoredPerson {
+        requireNonNull(person);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s (%.2f)", person.getName(), score);
+    }
+}
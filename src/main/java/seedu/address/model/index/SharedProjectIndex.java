@@ -0,0 +1,107 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Project;
+
+/**
+ * An index that counts each project in the address book once, however many persons are on it.
+ * <p>
+ * A project is counted when the first person on it is added and uncounted when the last one is removed. A project
+ * shared by several persons is counted under the status of its most recently added copy, as in {@link ProjectTable}:
+ * when a person is added with a copy whose status differs in a way the index cares about, as told by
+ * {@link #hasSameStatus(Project, Project)}, the old copy is uncounted and the new one counted in its place.
+ * Subclasses only say how to count a single project, in {@link #count(Project, int)}.
+ */
+public abstract class SharedProjectIndex implements PersonIndex {
+
+    private final Map<String, CountedProject> projects = new HashMap<>();
+
+    @Override
+    public void add(Person person) {
+        requireNonNull(person);
+        for (Project project : person.getProjects()) {
+            CountedProject counted = projects.get(project.getTagName());
+            if (counted == null) {
+                counted = new CountedProject(project);
+                projects.put(project.getTagName(), counted);
+                count(project, 1);
+            } else if (!hasSameStatus(counted.project, project)) {
+                count(counted.project, -1);
+                count(project, 1);
+                counted.project = project;
+            }
+            counted.members++;
+        }
+    }
+
+    @Override
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (Project project : person.getProjects()) {
+            CountedProject counted = projects.get(project.getTagName());
+            if (counted == null) {
+                continue;
+            }
+            counted.members--;
+            if (counted.members == 0) {
+                count(counted.project, -1);
+                projects.remove(project.getTagName());
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        projects.clear();
+        clearCounts();
+    }
+
+    /**
+     * Returns the number of projects counted.
+     */
+    protected int getProjectCount() {
+        return projects.size();
+    }
+
+    /**
+     * Counts {@code project} once if {@code delta} is 1, or takes it back out of the count if {@code delta} is -1.
+     * A project is only taken out of the count with the copy it was counted with.
+     */
+    protected abstract void count(Project project, int delta);
+
+    /**
+     * Resets the counts kept by the subclass, as all projects are dropped.
+     */
+    protected abstract void clearCounts();
+
+    /**
+     * Returns true if {@code counted}, the copy of a project being counted, can go on being counted in place of
+     * {@code added}, a newer copy of it.
+     */
+    protected abstract boolean hasSameStatus(Project counted, Project added);
+
+    /**
+     * Returns the sum of the two counts, or null to drop the count once it is zero.
+     */
+    protected static Integer sumOrNull(Integer count, Integer delta) {
+        int sum = count + delta;
+        return sum == 0 ? null : sum;
+    }
+
+    /**
+     * The copy of a project that is counted, and the number of persons on it.
+     */
+    private static class CountedProject {
+        private Project project;
+        private int members;
+
+        CountedProject(Project project) {
+            this.project = project;
+        }
+    }
+}
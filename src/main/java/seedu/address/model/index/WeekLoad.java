@@ -0,0 +1,24 @@
+package seedu.address.model.index;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * The incomplete projects due in one week, as counted by a {@link WorkloadIndex}.
+ * {@code dailyCounts} holds the number due on each day from Monday to Sunday, and {@code count} their total. The
+ * week is overloaded if more projects are due in it than can be handled in a week.
+ */
+public record WeekLoad(LocalDate weekStart, List<Integer> dailyCounts, int count, boolean isOverloaded) {
+
+    public static final int DAYS_PER_WEEK = 7;
+
+    /**
+     * Every field must be present and not null, with a count for each day of the week.
+     */
+    public WeekLoad {
+        requireAllNonNull(weekStart, dailyCounts);
+        assert dailyCounts.size() == DAYS_PER_WEEK;
+    }
+}
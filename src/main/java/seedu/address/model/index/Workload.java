@@ -0,0 +1,58 @@
+package seedu.address.model.index;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * The incomplete projects due in each of a run of weeks, as counted by a {@link WorkloadIndex}, with the weeks
+ * in which more than {@code weeklyCapacity} are due flagged as overloaded.
+ */
+public record Workload(int weeklyCapacity, List<WeekLoad> weeks) {
+
+    private static final DateTimeFormatter WEEK_FORMAT = DateTimeFormatter.ofPattern("dd MMM uuuu", Locale.ENGLISH);
+
+    /**
+     * The weeks must be present and not null.
+     */
+    public Workload {
+        requireAllNonNull(weeks);
+    }
+
+    /**
+     * Returns the number of incomplete projects due over all the weeks.
+     */
+    public int getTotalCount() {
+        return weeks.stream().mapToInt(WeekLoad::count).sum();
+    }
+
+    /**
+     * Returns the weeks in which more than {@code weeklyCapacity} projects are due.
+     */
+    public List<WeekLoad> getOverloadedWeeks() {
+        return weeks.stream().filter(WeekLoad::isOverloaded).toList();
+    }
+
+    /**
+     * Returns {@code week}'s start date as shown to the user.
+     */
+    public static String formatWeek(WeekLoad week) {
+        return WEEK_FORMAT.format(week.weekStart());
+    }
+
+    @Override
+    public String toString() {
+        List<WeekLoad> overloadedWeeks = getOverloadedWeeks();
+        String overloaded = overloadedWeeks.isEmpty()
+                ? "none"
+                : overloadedWeeks.stream()
+                        .map(week -> "week of " + formatWeek(week) + " (" + week.count() + ")")
+                        .collect(Collectors.joining(", "));
+        return getTotalCount() + " incomplete projects due in the " + weeks.size() + " weeks from "
+                + (weeks.isEmpty() ? "now" : formatWeek(weeks.get(0))) + "\n"
+                + "Overloaded weeks (more than " + weeklyCapacity + " due): " + overloaded;
+    }
+}
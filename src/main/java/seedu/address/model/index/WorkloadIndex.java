@@ -0,0 +1,81 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import seedu.address.model.tag.Project;
+
+/**
+ * Counts the incomplete projects in the address book due on each day and in each week, so that the workload of
+ * the coming weeks can be read without visiting every person.
+ * <p>
+ * Adding, completing, rescheduling or removing a project moves one count on its day and on its week, and reading
+ * the workload of a run of weeks visits only those weeks and the days in them that have a project due. Weeks
+ * start on Monday.
+ */
+public class WorkloadIndex extends SharedProjectIndex {
+
+    public static final String MESSAGE_CONSTRAINTS = "The number of weeks and the weekly capacity must be positive.";
+
+    private final NavigableMap<LocalDate, Integer> dailyCounts = new TreeMap<>();
+    private final NavigableMap<LocalDate, Integer> weeklyCounts = new TreeMap<>();
+
+    /**
+     * Returns the incomplete projects due in each of the {@code weekCount} weeks from the week of {@code from},
+     * with the weeks in which more than {@code weeklyCapacity} are due flagged as overloaded.
+     */
+    public Workload workloadFrom(LocalDate from, int weekCount, int weeklyCapacity) {
+        requireNonNull(from);
+        checkArgument(weekCount > 0 && weeklyCapacity > 0, MESSAGE_CONSTRAINTS);
+        LocalDate start = weekOf(from);
+        LocalDate end = start.plusWeeks(weekCount);
+
+        List<WeekLoad> weeks = new ArrayList<>(weekCount);
+        Integer[] days = new Integer[WeekLoad.DAYS_PER_WEEK];
+        for (LocalDate weekStart = start; weekStart.isBefore(end); weekStart = weekStart.plusWeeks(1)) {
+            int count = weeklyCounts.getOrDefault(weekStart, 0);
+            Arrays.fill(days, 0);
+            if (count > 0) {
+                dailyCounts.subMap(weekStart, weekStart.plusWeeks(1))
+                        .forEach((day, dayCount) -> days[day.getDayOfWeek().getValue() - 1] = dayCount);
+            }
+            weeks.add(new WeekLoad(weekStart, List.of(days), count, count > weeklyCapacity));
+        }
+        return new Workload(weeklyCapacity, weeks);
+    }
+
+    @Override
+    protected void count(Project project, int delta) {
+        if (project.isComplete()) {
+            return;
+        }
+        LocalDate day = project.getDeadline().toLocalDate();
+        dailyCounts.merge(day, delta, SharedProjectIndex::sumOrNull);
+        weeklyCounts.merge(weekOf(day), delta, SharedProjectIndex::sumOrNull);
+    }
+
+    @Override
+    protected void clearCounts() {
+        dailyCounts.clear();
+        weeklyCounts.clear();
+    }
+
+    @Override
+    protected boolean hasSameStatus(Project counted, Project added) {
+        return counted.isComplete() == added.isComplete()
+                && counted.getDeadline().toLocalDate().equals(added.getDeadline().toLocalDate());
+    }
+
+    private static LocalDate weekOf(LocalDate day) {
+        return day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+}
@@ -0,0 +1,80 @@
+package seedu.address.model.person;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.AddressBook;
+import seedu.address.model.index.IndexedPredicate;
+import seedu.address.model.index.ProjectDeadline;
+
+/**
+ * Tests that a {@code Person} has a project due between the given times, both inclusive, to the minute.
+ * An absent bound leaves that end of the range open.
+ * Matches can be looked up from the deadline index of an {@code AddressBook}.
+ */
+public class DeadlineInRangePredicate implements IndexedPredicate {
+    private final Optional<LocalDateTime> from;
+    private final Optional<LocalDateTime> to;
+
+    /**
+     * Creates a predicate for persons with a project due between {@code from} and {@code to}.
+     */
+    public DeadlineInRangePredicate(Optional<LocalDateTime> from, Optional<LocalDateTime> to) {
+        this.from = from;
+        this.to = to;
+    }
+
+    public Optional<LocalDateTime> getFrom() {
+        return from;
+    }
+
+    public Optional<LocalDateTime> getTo() {
+        return to;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return person.getProjects().stream().anyMatch(project -> {
+            LocalDateTime deadline = project.getDeadline().truncatedTo(ChronoUnit.MINUTES);
+            return from.map(start -> !deadline.isBefore(start.truncatedTo(ChronoUnit.MINUTES))).orElse(true)
+                    && to.map(end -> !deadline.isAfter(end.truncatedTo(ChronoUnit.MINUTES))).orElse(true);
+        });
+    }
+
+    @Override
+    public Set<Person> lookup(AddressBook addressBook) {
+        return addressBook.findProjectsDueBetween(from, to).stream()
+                .map(ProjectDeadline::person)
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public int estimateMatches(AddressBook addressBook) {
+        return addressBook.countProjectsDueBetween(from, to);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        } else if (other instanceof DeadlineInRangePredicate otherPredicate) {
+            return from.equals(otherPredicate.from) && to.equals(otherPredicate.to);
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(from, to);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("from", from).add("to", to).toString();
+    }
+}
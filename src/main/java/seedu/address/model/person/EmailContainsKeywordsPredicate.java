@@ -0,0 +1,46 @@
+package seedu.address.model.person;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code Person}'s {@code Email} contains any of the keywords given, ignoring case.
+ * Persons without an email never match. There is no index of emails, so this predicate is tested on every person.
+ */
+public class EmailContainsKeywordsPredicate implements Predicate<Person> {
+    private final List<String> keywords;
+
+    public EmailContainsKeywordsPredicate(List<String> keywords) {
+        this.keywords = keywords;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return person.getEmail()
+                .map(email -> email.value.toLowerCase())
+                .map(email -> keywords.stream().anyMatch(keyword -> email.contains(keyword.toLowerCase())))
+                .orElse(false);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        } else if (other instanceof EmailContainsKeywordsPredicate otherPredicate) {
+            return keywords.equals(otherPredicate.keywords);
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("keywords", keywords).toString();
+    }
+}
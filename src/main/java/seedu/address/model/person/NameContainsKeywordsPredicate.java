@@ -1,15 +1,35 @@
 package seedu.address.model.person;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.AddressBook;
+import seedu.address.model.index.IndexedPredicate;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
+ * A keyword matches a full word of the name, unless it ends with {@value #PARTIAL_MATCH_SUFFIX}, in which case
+ * the rest of the keyword may appear anywhere in the name, or ends with {@value #FUZZY_MATCH_MARKER} and an
+ * optional edit distance, in which case it matches a word of the name that is at most that many single-character
+ * edits from the rest of the keyword ({@value #DEFAULT_FUZZY_DISTANCE} if no distance is given).
+ * Matching is case-insensitive.
+ * Matches can be looked up from the name indexes of an {@code AddressBook}.
  */
-public class NameContainsKeywordsPredicate implements Predicate<Person> {
+public class NameContainsKeywordsPredicate implements IndexedPredicate {
+    public static final String PARTIAL_MATCH_SUFFIX = "*";
+    public static final String FUZZY_MATCH_MARKER = "~";
+    public static final int DEFAULT_FUZZY_DISTANCE = 1;
+    public static final int MAX_FUZZY_DISTANCE = 3;
+
+    private static final Pattern FUZZY_KEYWORD_FORMAT =
+            Pattern.compile("(?<word>.*)" + Pattern.quote(FUZZY_MATCH_MARKER) + "(?<distance>\\d?)");
+
     private final List<String> keywords;
 
     public NameContainsKeywordsPredicate(List<String> keywords) {
@@ -18,8 +38,92 @@ public class NameContainsKeywordsPredicate implements Predicate<Person> {
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
+        String fullName = person.getName().fullName;
+        return keywords.stream().anyMatch(keyword -> {
+            if (isPartialKeyword(keyword)) {
+                return fullName.toLowerCase().contains(toFragment(keyword).toLowerCase());
+            } else if (isFuzzyKeyword(keyword)) {
+                String word = fuzzyWordOf(keyword).toLowerCase();
+                int maxDistance = fuzzyDistanceOf(keyword);
+                return StringUtil.splitIntoWords(fullName).stream()
+                        .anyMatch(nameWord -> StringUtil.editDistance(nameWord.toLowerCase(), word) <= maxDistance);
+            }
+            return StringUtil.containsWordIgnoreCase(fullName, keyword);
+        });
+    }
+
+    @Override
+    public Set<Person> lookup(AddressBook addressBook) {
+        List<String> wholeWords = new ArrayList<>();
+        Set<Person> matches = new HashSet<>();
+        for (String keyword : keywords) {
+            if (isPartialKeyword(keyword)) {
+                matches.addAll(addressBook.findByNameFragment(toFragment(keyword)));
+            } else if (isFuzzyKeyword(keyword)) {
+                matches.addAll(addressBook.findByNameWithin(fuzzyWordOf(keyword), fuzzyDistanceOf(keyword)));
+            } else {
+                wholeWords.add(keyword);
+            }
+        }
+        matches.addAll(addressBook.findByNameKeywords(wholeWords));
+        return matches;
+    }
+
+    @Override
+    public int estimateMatches(AddressBook addressBook) {
+        List<String> wholeWords = new ArrayList<>();
+        long estimate = 0;
+        for (String keyword : keywords) {
+            if (isPartialKeyword(keyword)) {
+                estimate += addressBook.estimateByNameFragment(toFragment(keyword));
+            } else if (isFuzzyKeyword(keyword)) {
+                estimate += addressBook.estimateByNameWithin(fuzzyWordOf(keyword), fuzzyDistanceOf(keyword));
+            } else {
+                wholeWords.add(keyword);
+            }
+        }
+        estimate += addressBook.estimateByNameKeywords(wholeWords);
+        return (int) Math.min(estimate, addressBook.getPersonList().size());
+    }
+
+    /**
+     * Returns true if {@code keyword} asks for a partial match of the name.
+     */
+    public static boolean isPartialKeyword(String keyword) {
+        return keyword.endsWith(PARTIAL_MATCH_SUFFIX);
+    }
+
+    /**
+     * Returns true if {@code keyword} asks for a fuzzy match of a word of the name.
+     */
+    public static boolean isFuzzyKeyword(String keyword) {
+        return FUZZY_KEYWORD_FORMAT.matcher(keyword).matches();
+    }
+
+    /**
+     * Returns the word that the fuzzy {@code keyword} matches approximately.
+     */
+    public static String fuzzyWordOf(String fuzzyKeyword) {
+        return fuzzyMatcherOf(fuzzyKeyword).group("word");
+    }
+
+    /**
+     * Returns the most edits by which a word of the name may differ from the word of the fuzzy {@code keyword}.
+     */
+    public static int fuzzyDistanceOf(String fuzzyKeyword) {
+        String distance = fuzzyMatcherOf(fuzzyKeyword).group("distance");
+        return distance.isEmpty() ? DEFAULT_FUZZY_DISTANCE : Integer.parseInt(distance);
+    }
+
+    private static Matcher fuzzyMatcherOf(String fuzzyKeyword) {
+        Matcher matcher = FUZZY_KEYWORD_FORMAT.matcher(fuzzyKeyword);
+        boolean isFuzzy = matcher.matches();
+        assert isFuzzy;
+        return matcher;
+    }
+
+    private static String toFragment(String partialKeyword) {
+        return partialKeyword.substring(0, partialKeyword.length() - PARTIAL_MATCH_SUFFIX.length());
     }
 
     @Override
@@ -32,6 +136,11 @@ public class NameContainsKeywordsPredicate implements Predicate<Person> {
         return false;
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("keywords", keywords).toString();
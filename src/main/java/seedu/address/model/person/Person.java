@@ -2,23 +2,32 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import seedu.address.commons.util.CompactSet;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.tag.LedgerTotals;
 import seedu.address.model.tag.Project;
 import seedu.address.model.tag.Tag;
 
 /**
  * Represents a Person in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ * <p>
+ * Every newly constructed person is given a stable internal id. Persons derived from it through the
+ * copy-on-write methods (e.g. {@link #tagPerson(Set, Set)}) keep the same id, so that the id identifies the
+ * contact across its versions. The id is not part of {@link #equals(Object)}.
  */
 public class Person {
 
+    private static final AtomicInteger nextId = new AtomicInteger();
+
+    private final int id;
+
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -29,6 +38,12 @@ public class Person {
     private final Set<Tag> tags;
     private final Set<Project> projects;
 
+    // Cached hash code, 0 if not yet computed
+    private int hash;
+
+    // Cached sort key, null if not yet computed
+    private PersonSortKey sortKey;
+
     /**
      * Constructs a {@code Person} with a specified preferred contact method.
      *
@@ -55,15 +70,31 @@ public class Person {
      */
     public Person(Name name, Phone phone, Optional<Email> optionalEmail,
                    Set<Tag> tags, Set<Project> projects, PreferredContactMethod preferredContactMethod) {
+        this(nextId.getAndIncrement(), name, phone, optionalEmail, tags, projects, preferredContactMethod);
+    }
+
+    /**
+     * Constructs a new version of the person with the given {@code id}.
+     */
+    private Person(int id, Name name, Phone phone, Optional<Email> optionalEmail,
+                   Set<Tag> tags, Set<Project> projects, PreferredContactMethod preferredContactMethod) {
         requireAllNonNull(name, phone, optionalEmail, tags, projects, preferredContactMethod);
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.optionalEmail = optionalEmail;
-        this.tags = Collections.unmodifiableSet(tags);
-        this.projects = Collections.unmodifiableSet(projects);
+        this.tags = CompactSet.copyOf(tags);
+        this.projects = CompactSet.copyOf(projects);
         this.preferredContactMethod = preferredContactMethod;
     }
 
+    /**
+     * Returns the stable internal id of this person, shared by all versions derived from it.
+     */
+    public int getId() {
+        return id;
+    }
+
     public Name getName() {
         return name;
     }
@@ -100,6 +131,18 @@ public class Person {
         return preferredContactMethod;
     }
 
+    /**
+     * Returns the amounts invoiced and paid over this person's projects, summed from the running totals each
+     * project's ledger keeps.
+     */
+    public LedgerTotals getLedgerTotals() {
+        LedgerTotals totals = LedgerTotals.NONE;
+        for (Project project : projects) {
+            totals = totals.plus(project.getLedger().getTotals());
+        }
+        return totals;
+    }
+
     /**
      * Returns a {@code List} of {@code Tag}s from the given {@code tagSet} that are not associated with this person.
      *
@@ -150,7 +193,7 @@ public class Person {
         Phone updatedPhone = epd.phone().orElse(this.phone);
         Optional<Email> updatedEmail = epd.email().or(() -> this.optionalEmail);
 
-        return new Person(updatedName, updatedPhone, updatedEmail, tags, projects, preferredContactMethod);
+        return new Person(id, updatedName, updatedPhone, updatedEmail, tags, projects, preferredContactMethod);
     }
 
     /**
@@ -163,13 +206,10 @@ public class Person {
      */
     public Person tagPerson(Set<Tag> newlyAddedTags, Set<Project> newlyAddedProjects) {
         requireAllNonNull(newlyAddedTags, newlyAddedProjects);
-        Set<Tag> newTags = new LinkedHashSet<>(this.tags);
-        Set<Project> newProjects = new LinkedHashSet<>(this.projects);
+        Set<Tag> newTags = CompactSet.union(this.tags, newlyAddedTags);
+        Set<Project> newProjects = CompactSet.union(this.projects, newlyAddedProjects);
 
-        newTags.addAll(newlyAddedTags);
-        newProjects.addAll(newlyAddedProjects);
-
-        return new Person(name, phone, optionalEmail, newTags, newProjects, preferredContactMethod);
+        return new Person(id, name, phone, optionalEmail, newTags, newProjects, preferredContactMethod);
     }
 
     /**
@@ -182,13 +222,10 @@ public class Person {
      */
     public Person unTagPerson(Set<Tag> tagsToRemove, Set<Project> projectsToRemove) {
         requireAllNonNull(tagsToRemove, projectsToRemove);
-        Set<Tag> newTags = new LinkedHashSet<>(this.tags);
-        Set<Project> newProjects = new LinkedHashSet<>(this.projects);
-
-        newTags.removeAll(tagsToRemove);
-        newProjects.removeAll(projectsToRemove);
+        Set<Tag> newTags = CompactSet.difference(this.tags, tagsToRemove);
+        Set<Project> newProjects = CompactSet.difference(this.projects, projectsToRemove);
 
-        return new Person(name, phone, optionalEmail, newTags, newProjects, preferredContactMethod);
+        return new Person(id, name, phone, optionalEmail, newTags, newProjects, preferredContactMethod);
     }
 
     /**
@@ -201,12 +238,8 @@ public class Person {
      */
     public Person replaceProject(Project project) {
         requireAllNonNull(project);
-        LinkedHashSet<Project> newProjectSet = new LinkedHashSet<>(this.projects);
-
-        if (newProjectSet.remove(project)) {
-            newProjectSet.add(project);
-        }
-        return new Person(name, phone, optionalEmail, tags, newProjectSet, preferredContactMethod);
+        Set<Project> newProjectSet = CompactSet.replace(this.projects, project);
+        return new Person(id, name, phone, optionalEmail, tags, newProjectSet, preferredContactMethod);
     }
 
     /**
@@ -220,6 +253,19 @@ public class Person {
         return otherPerson != null && otherPerson.hasSamePhone(this.phone);
     }
 
+    /**
+     * Returns the values this person is sorted by.
+     */
+    public PersonSortKey getSortKey() {
+        // Person is immutable, so each version only computes its sort key once
+        PersonSortKey key = sortKey;
+        if (key == null) {
+            key = PersonSortKey.of(this);
+            sortKey = key;
+        }
+        return key;
+    }
+
     /**
      * Returns true if both persons have the same identity and data fields.
      * This defines a stronger notion of equality between two persons.
@@ -229,6 +275,9 @@ public class Person {
         if (other == this) {
             return true;
         } else if (other instanceof Person otherPerson) {
+            if (hashCode() != otherPerson.hashCode()) {
+                return false;
+            }
             return name.equals(otherPerson.name)
                     && phone.equals(otherPerson.phone)
                     && optionalEmail.equals(otherPerson.optionalEmail)
@@ -240,8 +289,14 @@ public class Person {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, optionalEmail, tags, projects);
+        // Person is immutable, so the hash only needs to be computed once
+        int h = hash;
+        if (h == 0) {
+            // use this method for custom fields hashing instead of implementing your own
+            h = Objects.hash(name, phone, optionalEmail, tags, projects);
+            hash = h;
+        }
+        return h;
     }
 
     @Override
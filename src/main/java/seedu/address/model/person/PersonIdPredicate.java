@@ -0,0 +1,59 @@
+package seedu.address.model.person;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.AddressBook;
+import seedu.address.model.index.IndexedPredicate;
+
+/**
+ * Tests that a {@code Person} is one of the persons with the given ids.
+ * As ids survive edits, a person stays matched after being edited.
+ */
+public class PersonIdPredicate implements IndexedPredicate {
+    private final Set<Integer> ids;
+
+    public PersonIdPredicate(Set<Integer> ids) {
+        this.ids = ids;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return ids.contains(person.getId());
+    }
+
+    @Override
+    public Set<Person> lookup(AddressBook addressBook) {
+        Set<Person> matches = new HashSet<>();
+        for (int id : ids) {
+            addressBook.findById(id).ifPresent(matches::add);
+        }
+        return matches;
+    }
+
+    @Override
+    public int estimateMatches(AddressBook addressBook) {
+        return ids.size();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        } else if (other instanceof PersonIdPredicate otherPredicate) {
+            return ids.equals(otherPredicate.ids);
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return ids.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("ids", ids).toString();
+    }
+}
@@ -0,0 +1,50 @@
+package seedu.address.model.person;
+
+import java.text.CollationKey;
+import java.text.Collator;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.Optional;
+
+import seedu.address.model.tag.Project;
+
+/**
+ * The values a {@code Person} is sorted by, computed once from a version of the person.
+ * Names are compared through {@link CollationKey}s, which order them alphabetically regardless of case and accents
+ * with a cheap comparison of precomputed bytes.
+ *
+ * @param name the collation key of the name
+ * @param phone the phone number
+ * @param projectCount the number of projects
+ * @param nearestDeadline the earliest deadline of the projects not yet complete, if any
+ * @param hasUnpaidProject whether any project is unpaid
+ */
+public record PersonSortKey(CollationKey name, String phone, int projectCount,
+        Optional<LocalDateTime> nearestDeadline, boolean hasUnpaidProject) {
+
+    private static final Collator NAME_COLLATOR = Collator.getInstance(Locale.ENGLISH);
+
+    static {
+        NAME_COLLATOR.setStrength(Collator.SECONDARY);
+    }
+
+    /**
+     * Returns the sort key of {@code person}.
+     */
+    public static PersonSortKey of(Person person) {
+        Optional<LocalDateTime> nearestDeadline = person.getProjects().stream()
+                .filter(project -> !project.isComplete())
+                .map(Project::getDeadline)
+                .min(LocalDateTime::compareTo);
+        boolean hasUnpaidProject = person.getProjects().stream().anyMatch(project -> !project.isPaid());
+        return new PersonSortKey(collationKeyOf(person.getName().fullName), person.getPhone().value,
+                person.getProjects().size(), nearestDeadline, hasUnpaidProject);
+    }
+
+    private static CollationKey collationKeyOf(String name) {
+        // Collators are not thread-safe
+        synchronized (NAME_COLLATOR) {
+            return NAME_COLLATOR.getCollationKey(name);
+        }
+    }
+}
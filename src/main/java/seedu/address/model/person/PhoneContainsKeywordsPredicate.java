@@ -1,15 +1,24 @@
 package seedu.address.model.person;
 
+import java.util.HashSet;
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Set;
 
 import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.AddressBook;
+import seedu.address.model.index.IndexedPredicate;
 
 /**
  * Tests that a {@code Person}'s {@code Phone} matches any of the keywords given.
+ * A keyword matches the full phone number, unless it ends with {@value #WILDCARD}, in which case it matches phone
+ * numbers starting with the rest of the keyword, or starts with {@value #WILDCARD}, in which case it matches phone
+ * numbers ending with the rest of the keyword.
+ * Matches can be looked up from the phone indexes of an {@code AddressBook}.
  */
-public class PhoneContainsKeywordsPredicate implements Predicate<Person> {
+public class PhoneContainsKeywordsPredicate implements IndexedPredicate {
+    public static final String WILDCARD = "*";
+
     private final List<String> keywords;
 
     public PhoneContainsKeywordsPredicate(List<String> keywords) {
@@ -18,8 +27,66 @@ public class PhoneContainsKeywordsPredicate implements Predicate<Person> {
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getPhone().value, keyword));
+        String phone = person.getPhone().value;
+        return keywords.stream().anyMatch(keyword -> {
+            if (isPrefixKeyword(keyword)) {
+                return phone.startsWith(digitsOf(keyword));
+            } else if (isSuffixKeyword(keyword)) {
+                return phone.endsWith(digitsOf(keyword));
+            }
+            return StringUtil.containsWordIgnoreCase(phone, keyword);
+        });
+    }
+
+    @Override
+    public Set<Person> lookup(AddressBook addressBook) {
+        Set<Person> matches = new HashSet<>();
+        for (String keyword : keywords) {
+            if (isPrefixKeyword(keyword)) {
+                matches.addAll(addressBook.findByPhonePrefix(digitsOf(keyword)));
+            } else if (isSuffixKeyword(keyword)) {
+                matches.addAll(addressBook.findByPhoneSuffix(digitsOf(keyword)));
+            } else if (Phone.isValidPhone(keyword.trim())) {
+                addressBook.findByPhone(new Phone(keyword.trim())).ifPresent(matches::add);
+            }
+        }
+        return matches;
+    }
+
+    @Override
+    public int estimateMatches(AddressBook addressBook) {
+        long estimate = 0;
+        for (String keyword : keywords) {
+            if (isPrefixKeyword(keyword)) {
+                estimate += addressBook.countByPhonePrefix(digitsOf(keyword));
+            } else if (isSuffixKeyword(keyword)) {
+                estimate += addressBook.countByPhoneSuffix(digitsOf(keyword));
+            } else {
+                // phones are unique, so a full phone number matches at most one person
+                estimate++;
+            }
+        }
+        return (int) Math.min(estimate, addressBook.getPersonList().size());
+    }
+
+    /**
+     * Returns {@code keyword} without the {@value #WILDCARD} at its start or end, if any.
+     */
+    public static String digitsOf(String keyword) {
+        if (isPrefixKeyword(keyword)) {
+            return keyword.substring(0, keyword.length() - WILDCARD.length());
+        } else if (isSuffixKeyword(keyword)) {
+            return keyword.substring(WILDCARD.length());
+        }
+        return keyword;
+    }
+
+    private static boolean isPrefixKeyword(String keyword) {
+        return keyword.endsWith(WILDCARD);
+    }
+
+    private static boolean isSuffixKeyword(String keyword) {
+        return keyword.startsWith(WILDCARD) && !isPrefixKeyword(keyword);
     }
 
     @Override
@@ -32,6 +99,11 @@ public class PhoneContainsKeywordsPredicate implements Predicate<Person> {
         return false;
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("keywords", keywords).toString();
@@ -0,0 +1,56 @@
+package seedu.address.model.person;
+
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.AddressBook;
+import seedu.address.model.index.IndexedPredicate;
+
+/**
+ * Tests that a {@code Person} has a project with any of the names given, ignoring case.
+ * Matches can be looked up from the bitmap indexes of an {@code AddressBook}.
+ */
+public class ProjectNamePredicate implements IndexedPredicate {
+    private final List<String> projectNames;
+
+    public ProjectNamePredicate(List<String> projectNames) {
+        this.projectNames = projectNames;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return person.getProjects().stream()
+                .anyMatch(project -> projectNames.stream().anyMatch(project.getTagName()::equalsIgnoreCase));
+    }
+
+    @Override
+    public Set<Person> lookup(AddressBook addressBook) {
+        return addressBook.findByProjectNames(projectNames);
+    }
+
+    @Override
+    public int estimateMatches(AddressBook addressBook) {
+        return addressBook.countByProjectNames(projectNames);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        } else if (other instanceof ProjectNamePredicate otherPredicate) {
+            return projectNames.equals(otherPredicate.projectNames);
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return projectNames.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("projectNames", projectNames).toString();
+    }
+}
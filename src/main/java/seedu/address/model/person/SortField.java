@@ -0,0 +1,58 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * A value that the person list can be sorted by.
+ */
+public enum SortField {
+    NAME("name", Comparator.comparing(PersonSortKey::name)),
+    PHONE("phone", Comparator.comparing(PersonSortKey::phone)),
+    PROJECTS("projects", Comparator.comparingInt(PersonSortKey::projectCount).reversed()),
+    DEADLINE("deadline", Comparator.comparing(key -> key.nearestDeadline().orElse(null),
+            Comparator.nullsLast(LocalDateTime::compareTo))),
+    UNPAID("unpaid", Comparator.comparing(PersonSortKey::hasUnpaidProject).reversed());
+
+    public static final String MESSAGE_CONSTRAINTS = "Contacts can only be sorted by "
+            + Arrays.stream(values()).map(SortField::getKeyword).collect(Collectors.joining(", ")) + ".";
+
+    private final String keyword;
+    private final Comparator<PersonSortKey> comparator;
+
+    SortField(String keyword, Comparator<PersonSortKey> comparator) {
+        this.keyword = keyword;
+        this.comparator = comparator;
+    }
+
+    public String getKeyword() {
+        return keyword;
+    }
+
+    /**
+     * Returns the field named by {@code keyword}, ignoring case, if any.
+     */
+    public static Optional<SortField> fromKeyword(String keyword) {
+        requireNonNull(keyword);
+        return Arrays.stream(values()).filter(field -> field.keyword.equalsIgnoreCase(keyword)).findFirst();
+    }
+
+    /**
+     * Returns a comparator that orders persons by each of {@code fields} in turn, and persons equal in all of them
+     * in the order they were added.
+     */
+    public static Comparator<Person> comparing(List<SortField> fields) {
+        requireNonNull(fields);
+        Comparator<PersonSortKey> keyComparator = (first, second) -> 0;
+        for (SortField field : fields) {
+            keyComparator = keyComparator.thenComparing(field.comparator);
+        }
+        return Comparator.comparing(Person::getSortKey, keyComparator).thenComparingInt(Person::getId);
+    }
+}
@@ -0,0 +1,78 @@
+package seedu.address.model.person;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.AddressBook;
+import seedu.address.model.index.IndexedPredicate;
+
+/**
+ * Tests that a {@code Person} has any of the tags given, and has a project in each of the project statuses given.
+ * An empty list of tags, or an absent status, places no restriction on the {@code Person}.
+ * Matches can be looked up from the bitmap indexes of an {@code AddressBook}.
+ */
+public class TagAndStatusPredicate implements IndexedPredicate {
+    private final List<String> tagKeywords;
+    private final Optional<Boolean> isPaid;
+    private final Optional<Boolean> isComplete;
+
+    /**
+     * Creates a predicate for persons with any of {@code tagKeywords}, and with a project that is paid or unpaid
+     * as given by {@code isPaid} and complete or incomplete as given by {@code isComplete}.
+     */
+    public TagAndStatusPredicate(List<String> tagKeywords, Optional<Boolean> isPaid, Optional<Boolean> isComplete) {
+        this.tagKeywords = tagKeywords;
+        this.isPaid = isPaid;
+        this.isComplete = isComplete;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        boolean hasAnyTag = tagKeywords.isEmpty() || person.getTags().stream()
+                .anyMatch(tag -> tagKeywords.stream().anyMatch(tag.getTagName()::equalsIgnoreCase));
+        boolean hasPaymentStatus = isPaid.map(paid -> person.getProjects().stream()
+                .anyMatch(project -> project.isPaid() == paid)).orElse(true);
+        boolean hasProgressStatus = isComplete.map(complete -> person.getProjects().stream()
+                .anyMatch(project -> project.isComplete() == complete)).orElse(true);
+        return hasAnyTag && hasPaymentStatus && hasProgressStatus;
+    }
+
+    @Override
+    public Set<Person> lookup(AddressBook addressBook) {
+        return addressBook.findByTagsAndStatus(tagKeywords, isPaid, isComplete);
+    }
+
+    @Override
+    public int estimateMatches(AddressBook addressBook) {
+        return addressBook.countByTagsAndStatus(tagKeywords, isPaid, isComplete);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        } else if (other instanceof TagAndStatusPredicate otherPredicate) {
+            return tagKeywords.equals(otherPredicate.tagKeywords)
+                    && isPaid.equals(otherPredicate.isPaid)
+                    && isComplete.equals(otherPredicate.isComplete);
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(tagKeywords, isPaid, isComplete);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("tagKeywords", tagKeywords)
+                .add("isPaid", isPaid)
+                .add("isComplete", isComplete)
+                .toString();
+    }
+}
@@ -3,13 +3,16 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
+import java.util.Optional;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.index.PersonIndex;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 
@@ -20,6 +23,15 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object)
  * to ensure that the person with exactly the same fields will be removed.
  * <p>
+ * Since person identity is defined by phone number, the list also maintains a phone-keyed index of its
+ * persons, so that identity checks and lookups by phone take constant time instead of scanning the list.
+ * The position of each person is tracked by its {@link Person#getId() id}, so that replacing or removing a
+ * person does not need to search the list. Two versions of the same person (sharing an id) cannot be in the
+ * list at the same time.
+ * <p>
+ * Further {@link PersonIndex indexes} can be registered with {@link #addIndex(PersonIndex)}; they are
+ * notified of every change to the list.
+ * <p>
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -29,13 +41,41 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Phone, Person> personsByPhone = new HashMap<>();
+    private final Map<Integer, Integer> positionsById = new HashMap<>();
+    private final List<PersonIndex> indexes = new ArrayList<>();
+
+    /**
+     * Registers {@code index} to be kept in sync with this list, and adds the persons currently in the list to it.
+     */
+    public void addIndex(PersonIndex index) {
+        requireNonNull(index);
+        indexes.add(index);
+        internalList.forEach(index::add);
+    }
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return personsByPhone.containsKey(toCheck.getPhone());
+    }
+
+    /**
+     * Returns the person in the list with the given {@code id}, if any.
+     */
+    public Optional<Person> findById(int id) {
+        Integer position = positionsById.get(id);
+        return position == null ? Optional.empty() : Optional.of(internalList.get(position));
+    }
+
+    /**
+     * Returns the person in the list with the given {@code phone}, if any.
+     */
+    public Optional<Person> findByPhone(Phone phone) {
+        requireNonNull(phone);
+        return Optional.ofNullable(personsByPhone.get(phone));
     }
 
     /**
@@ -43,11 +83,35 @@ public class UniquePersonList implements Iterable<Person> {
      * The person must not already exist in the list.
      */
     public void add(Person toAdd) {
+        add(internalList.size(), toAdd);
+    }
+
+    /**
+     * Inserts a person into the list at {@code position}, shifting the persons from there onwards up by one.
+     * The person must not already exist in the list.
+     */
+    public void add(int position, Person toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
+        if (position < 0 || position > internalList.size()) {
+            throw new IndexOutOfBoundsException(position);
+        }
+        if (contains(toAdd) || positionsById.containsKey(toAdd.getId())) {
             throw new DuplicatePersonException();
         }
-        internalList.add(toAdd);
+        internalList.add(position, toAdd);
+        personsByPhone.put(toAdd.getPhone(), toAdd);
+        for (int i = position; i < internalList.size(); i++) {
+            positionsById.put(internalList.get(i).getId(), i);
+        }
+        indexes.forEach(personIndex -> personIndex.add(toAdd));
+    }
+
+    /**
+     * Returns the position of the person in the list that is equal to {@code person}, or -1 if there is none.
+     */
+    public int indexOf(Person person) {
+        requireNonNull(person);
+        return positionOf(person);
     }
 
     /**
@@ -58,7 +122,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = positionOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -67,7 +131,20 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        Integer editedPosition = positionsById.get(editedPerson.getId());
+        if (editedPosition != null && editedPosition != index) {
+            throw new DuplicatePersonException();
+        }
+
+        Person replaced = internalList.set(index, editedPerson);
+        personsByPhone.remove(replaced.getPhone());
+        personsByPhone.put(editedPerson.getPhone(), editedPerson);
+        positionsById.remove(replaced.getId());
+        positionsById.put(editedPerson.getId(), index);
+        for (PersonIndex personIndex : indexes) {
+            personIndex.remove(replaced);
+            personIndex.add(editedPerson);
+        }
     }
 
     /**
@@ -76,14 +153,29 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = positionOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        Person removed = internalList.remove(index);
+        personsByPhone.remove(removed.getPhone());
+        positionsById.remove(removed.getId());
+        // Persons after the removed one have shifted down by one
+        for (int i = index; i < internalList.size(); i++) {
+            positionsById.put(internalList.get(i).getId(), i);
+        }
+        indexes.forEach(personIndex -> personIndex.remove(removed));
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        personsByPhone.clear();
+        personsByPhone.putAll(replacement.personsByPhone);
+        positionsById.clear();
+        positionsById.putAll(replacement.positionsById);
+        rebuildIndexes();
     }
 
     /**
@@ -92,11 +184,15 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
-        }
+        Map<Phone, Person> replacementIndex = indexByPhone(persons);
+        Map<Integer, Integer> replacementPositions = indexPositionsById(persons);
 
         internalList.setAll(persons);
+        personsByPhone.clear();
+        personsByPhone.putAll(replacementIndex);
+        positionsById.clear();
+        positionsById.putAll(replacementPositions);
+        rebuildIndexes();
     }
 
     /**
@@ -132,17 +228,58 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.toString();
     }
 
+    private void rebuildIndexes() {
+        for (PersonIndex index : indexes) {
+            index.clear();
+            internalList.forEach(index::add);
+        }
+    }
+
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns a phone-keyed index of {@code persons}.
+     *
+     * @throws DuplicatePersonException if {@code persons} does not contain only unique persons.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        Set<Phone> phoneSet = new HashSet<>();
+    private static Map<Phone, Person> indexByPhone(List<Person> persons) {
+        Map<Phone, Person> index = new HashMap<>();
         for (Person p: persons) {
-            Phone phoneNumber = p.getPhone();
-            if (!phoneSet.add(phoneNumber)) {
-                return false;
+            if (index.putIfAbsent(p.getPhone(), p) != null) {
+                throw new DuplicatePersonException();
             }
         }
-        return true;
+        return index;
+    }
+
+    /**
+     * Returns a map from the id of each person in {@code persons} to its position.
+     *
+     * @throws DuplicatePersonException if two persons in {@code persons} share the same id.
+     */
+    private static Map<Integer, Integer> indexPositionsById(List<Person> persons) {
+        Map<Integer, Integer> positions = new HashMap<>();
+        for (int i = 0; i < persons.size(); i++) {
+            if (positions.putIfAbsent(persons.get(i).getId(), i) != null) {
+                throw new DuplicatePersonException();
+            }
+        }
+        return positions;
+    }
+
+    /**
+     * Returns the position of the person in the list that is equal to {@code person}, or -1 if there is none.
+     * Since persons in the list have unique phones, only the person at the position recorded for its id, or
+     * failing that the person with the same phone, needs to be compared.
+     */
+    private int positionOf(Person person) {
+        Integer position = positionsById.get(person.getId());
+        if (position != null && internalList.get(position).equals(person)) {
+            return position;
+        }
+
+        Person samePhone = personsByPhone.get(person.getPhone());
+        if (samePhone != null && samePhone.equals(person)) {
+            return positionsById.get(samePhone.getId());
+        }
+        return -1;
     }
 }
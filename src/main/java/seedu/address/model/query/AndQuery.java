@@ -0,0 +1,79 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * A query matching the persons that match all of its {@code operands}.
+ * <p>
+ * Its matches are looked up from the indexed operand with the fewest estimated matches. Each other operand then
+ * narrows those candidates, by looking up its own matches if it is indexed and expects fewer matches than there are
+ * candidates left, or by being tested on each candidate otherwise.
+ */
+public record AndQuery(List<Query> operands) implements Query {
+
+    /**
+     * Creates a query matching the persons that match all of {@code operands}.
+     */
+    public AndQuery {
+        requireNonNull(operands);
+        operands = List.copyOf(operands);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return operands.stream().allMatch(operand -> operand.test(person));
+    }
+
+    @Override
+    public boolean isIndexed() {
+        return operands.stream().anyMatch(Query::isIndexed);
+    }
+
+    @Override
+    public Set<Person> lookup(AddressBook addressBook) {
+        if (!isIndexed()) {
+            return Query.scan(addressBook, this);
+        }
+
+        List<PlannedOperand> plan = new ArrayList<>();
+        for (Query operand : operands) {
+            int estimate = operand.isIndexed() ? operand.estimateMatches(addressBook) : Integer.MAX_VALUE;
+            plan.add(new PlannedOperand(operand, estimate));
+        }
+        plan.sort(Comparator.comparingInt(PlannedOperand::estimate));
+
+        Set<Person> candidates = new HashSet<>(plan.get(0).operand().lookup(addressBook));
+        for (int i = 1; i < plan.size() && !candidates.isEmpty(); i++) {
+            Query operand = plan.get(i).operand();
+            if (operand.isIndexed() && plan.get(i).estimate() < candidates.size()) {
+                candidates.retainAll(operand.lookup(addressBook));
+            } else {
+                candidates.removeIf(candidate -> !operand.test(candidate));
+            }
+        }
+        return candidates;
+    }
+
+    @Override
+    public int estimateMatches(AddressBook addressBook) {
+        return operands.stream()
+                .filter(Query::isIndexed)
+                .mapToInt(operand -> operand.estimateMatches(addressBook))
+                .min()
+                .orElse(addressBook.getPersonList().size());
+    }
+
+    /**
+     * An operand of the query together with its estimated number of matches.
+     */
+    private record PlannedOperand(Query operand, int estimate) {}
+}
@@ -0,0 +1,53 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * A query matching the persons that do not match its {@code operand}.
+ * <p>
+ * Its matches cannot be narrowed down by an index, so it is tested on the candidates found by the rest of a query
+ * where possible. On its own, every person is checked, though only against the looked up matches of an indexed
+ * {@code operand} rather than the operand itself.
+ */
+public record NotQuery(Query operand) implements Query {
+
+    public NotQuery {
+        requireNonNull(operand);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return !operand.test(person);
+    }
+
+    @Override
+    public boolean isIndexed() {
+        return false;
+    }
+
+    @Override
+    public Set<Person> lookup(AddressBook addressBook) {
+        if (!operand.isIndexed()) {
+            return Query.scan(addressBook, this);
+        }
+        Set<Person> excluded = operand.lookup(addressBook);
+        Set<Person> matches = new HashSet<>();
+        for (Person person : addressBook.getPersonList()) {
+            if (!excluded.contains(person)) {
+                matches.add(person);
+            }
+        }
+        return matches;
+    }
+
+    @Override
+    public int estimateMatches(AddressBook addressBook) {
+        return addressBook.getPersonList().size();
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * A query matching the persons that match any of its {@code operands}.
+ * Its matches are the union of the matches looked up for each operand if every operand is indexed, and are
+ * otherwise found by testing every person.
+ */
+public record OrQuery(List<Query> operands) implements Query {
+
+    /**
+     * Creates a query matching the persons that match any of {@code operands}.
+     */
+    public OrQuery {
+        requireNonNull(operands);
+        operands = List.copyOf(operands);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return operands.stream().anyMatch(operand -> operand.test(person));
+    }
+
+    @Override
+    public boolean isIndexed() {
+        return operands.stream().allMatch(Query::isIndexed);
+    }
+
+    @Override
+    public Set<Person> lookup(AddressBook addressBook) {
+        if (!isIndexed()) {
+            return Query.scan(addressBook, this);
+        }
+        Set<Person> matches = new HashSet<>();
+        for (Query operand : operands) {
+            matches.addAll(operand.lookup(addressBook));
+        }
+        return matches;
+    }
+
+    @Override
+    public int estimateMatches(AddressBook addressBook) {
+        if (!isIndexed()) {
+            return addressBook.getPersonList().size();
+        }
+        long estimate = 0;
+        for (Query operand : operands) {
+            estimate += operand.estimateMatches(addressBook);
+        }
+        return (int) Math.min(estimate, addressBook.getPersonList().size());
+    }
+}
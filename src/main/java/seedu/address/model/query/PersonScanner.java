@@ -0,0 +1,103 @@
+package seedu.address.model.query;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Tests every person in a list against a predicate, in parallel once the list is large enough.
+ * <p>
+ * Lists of at least {@link #getParallelThreshold() the parallel threshold} are split into chunks that are tested on
+ * the common {@link ForkJoinPool}, and the persons found in each chunk are joined back in list order, so the result
+ * is the same as testing the persons one by one. Predicates tested on large lists must therefore be safe to test
+ * from several threads at once, as the stateless search predicates are.
+ */
+public class PersonScanner {
+
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 4096;
+    public static final String MESSAGE_CONSTRAINTS = "Parallel scan threshold must be a positive number.";
+
+    /** The number of chunks each worker thread is given, so that threads that finish early can take on more. */
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private final int parallelThreshold;
+
+    /**
+     * Creates a {@code PersonScanner} that scans lists of at least {@code parallelThreshold} persons in parallel.
+     */
+    public PersonScanner(int parallelThreshold) {
+        checkArgument(parallelThreshold > 0, MESSAGE_CONSTRAINTS);
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    /**
+     * Returns the persons in {@code persons} that satisfy {@code predicate}, in the order they appear in.
+     */
+    public List<Person> scan(List<Person> persons, Predicate<Person> predicate) {
+        requireAllNonNull(persons, predicate);
+        Person[] snapshot = persons.toArray(new Person[0]);
+        if (snapshot.length < parallelThreshold) {
+            return scanRange(snapshot, 0, snapshot.length, predicate);
+        }
+
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        int chunkSize = Math.max(1, snapshot.length / (pool.getParallelism() * CHUNKS_PER_THREAD));
+        return pool.invoke(new ScanTask(snapshot, 0, snapshot.length, chunkSize, predicate));
+    }
+
+    private static List<Person> scanRange(Person[] persons, int from, int to, Predicate<Person> predicate) {
+        List<Person> matches = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            if (predicate.test(persons[i])) {
+                matches.add(persons[i]);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Finds the persons from {@code from} up to {@code to} that satisfy the predicate, halving the range until it is
+     * no longer than a chunk.
+     */
+    private static class ScanTask extends RecursiveTask<List<Person>> {
+        private final Person[] persons;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+        private final Predicate<Person> predicate;
+
+        ScanTask(Person[] persons, int from, int to, int chunkSize, Predicate<Person> predicate) {
+            this.persons = persons;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+            this.predicate = predicate;
+        }
+
+        @Override
+        protected List<Person> compute() {
+            if (to - from <= chunkSize) {
+                return scanRange(persons, from, to, predicate);
+            }
+            int middle = (from + to) >>> 1;
+            ScanTask left = new ScanTask(persons, from, middle, chunkSize, predicate);
+            ScanTask right = new ScanTask(persons, middle, to, chunkSize, predicate);
+            left.fork();
+            List<Person> rightMatches = right.compute();
+            List<Person> matches = left.join();
+            matches.addAll(rightMatches);
+            return matches;
+        }
+    }
+}
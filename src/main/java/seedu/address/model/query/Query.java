@@ -0,0 +1,33 @@
+package seedu.address.model.query;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.index.IndexedPredicate;
+import seedu.address.model.person.Person;
+
+/**
+ * A boolean combination of search terms over persons, built by {@code find} from a query such as
+ * {@code n/alice AND (t/friends OR NOT pay/paid)}.
+ * <p>
+ * A query is planned when its matches are looked up: the parts of the query that can be answered from the indexes
+ * of the address book are looked up, the most selective first as estimated by {@link #estimateMatches}, and the
+ * remaining parts are only tested on the persons those lookups found. Every person is tested only when no part of
+ * the query can narrow down the persons to test.
+ */
+public interface Query extends IndexedPredicate {
+
+    /**
+     * Returns true if the matches of this query can be looked up without testing every person.
+     */
+    boolean isIndexed();
+
+    /**
+     * Returns the persons in {@code addressBook} that satisfy {@code predicate} in list order, testing every person.
+     */
+    static Set<Person> scan(AddressBook addressBook, Predicate<Person> predicate) {
+        return new LinkedHashSet<>(addressBook.scan(predicate));
+    }
+}
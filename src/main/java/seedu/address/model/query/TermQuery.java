@@ -0,0 +1,47 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.index.IndexedPredicate;
+import seedu.address.model.person.Person;
+
+/**
+ * A single search term of a query, such as {@code t/friends}, tested with {@code predicate}.
+ * The term is indexed if {@code predicate} is an {@link IndexedPredicate}.
+ */
+public record TermQuery(Predicate<Person> predicate) implements Query {
+
+    public TermQuery {
+        requireNonNull(predicate);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return predicate.test(person);
+    }
+
+    @Override
+    public boolean isIndexed() {
+        return predicate instanceof IndexedPredicate;
+    }
+
+    @Override
+    public Set<Person> lookup(AddressBook addressBook) {
+        if (predicate instanceof IndexedPredicate indexedPredicate) {
+            return indexedPredicate.lookup(addressBook);
+        }
+        return Query.scan(addressBook, predicate);
+    }
+
+    @Override
+    public int estimateMatches(AddressBook addressBook) {
+        if (predicate instanceof IndexedPredicate indexedPredicate) {
+            return indexedPredicate.estimateMatches(addressBook);
+        }
+        return addressBook.getPersonList().size();
+    }
+}
@@ -0,0 +1,231 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+import seedu.address.model.tag.LedgerEntry.Kind;
+
+/**
+ * The append-only ledger of the amounts invoiced and paid on a {@link Project}.
+ * <p>
+ * A ledger is immutable, and appending an entry returns a new ledger holding the running totals along with the
+ * entries, so reading the outstanding balance never replays the entries. Ledgers made by appending to one another
+ * share one array of entries: each sees only the prefix of it up to its own size, so appending to the latest
+ * ledger writes the entry in place and only appending to an older one copies its entries.
+ * <p>
+ * Each entry is stored as a signed amount in cents, positive if invoiced and negative if paid. A ledger is saved in
+ * a compact form, as {@link #toCompactString()} describes.
+ */
+public final class Ledger {
+
+    public static final long MAX_TOTAL = 99_999_999_999_999_99L;
+    public static final String MESSAGE_TOTAL_CONSTRAINTS = "The amounts invoiced and paid on a project should each "
+            + "total at most " + LedgerEntry.formatAmount(MAX_TOTAL) + ".";
+    public static final String MESSAGE_ENCODING_CONSTRAINTS = "A saved ledger should be a Base64 string of "
+            + "ZigZag-encoded variable-length amounts, each a valid amount in cents.";
+
+    public static final Ledger EMPTY = new Ledger(new Entries(new long[0], 0), 0, LedgerTotals.NONE);
+
+    private static final int INITIAL_CAPACITY = 4;
+    private static final int VARINT_PAYLOAD_BITS = 7;
+    private static final int VARINT_PAYLOAD_MASK = 0x7f;
+    private static final int VARINT_CONTINUE_FLAG = 0x80;
+    private static final int MAX_VARINT_BYTES = 10;
+
+    private final Entries entries;
+    private final int size;
+    private final LedgerTotals totals;
+
+    private Ledger(Entries entries, int size, LedgerTotals totals) {
+        this.entries = entries;
+        this.size = size;
+        this.totals = totals;
+    }
+
+    /**
+     * Returns a new ledger with {@code entry} appended to the entries of this one.
+     *
+     * @throws IllegalArgumentException if the total invoiced or paid would exceed {@link #MAX_TOTAL}.
+     */
+    public Ledger append(LedgerEntry entry) {
+        requireNonNull(entry);
+        long amount = entry.amount();
+        LedgerTotals newTotals = totals.plus(entry.kind() == Kind.INVOICED
+                ? new LedgerTotals(amount, 0)
+                : new LedgerTotals(0, amount));
+        // the same limit as on loading, so that every ledger saved can be loaded again
+        checkArgument(isValidTotals(newTotals), MESSAGE_TOTAL_CONSTRAINTS);
+
+        Entries target = entries;
+        if (size == 0 || entries.length != size) {
+            // another ledger has already appended to the shared entries, so this one gets its own copy
+            target = new Entries(Arrays.copyOf(entries.amounts, Math.max(INITIAL_CAPACITY, size * 2)), size);
+        } else if (size == entries.amounts.length) {
+            entries.amounts = Arrays.copyOf(entries.amounts, size * 2);
+        }
+        target.amounts[size] = entry.kind() == Kind.INVOICED ? amount : -amount;
+        target.length = size + 1;
+        return new Ledger(target, size + 1, newTotals);
+    }
+
+    /**
+     * Returns true if neither the amount invoiced nor the amount paid in {@code totals} exceeds {@link #MAX_TOTAL}.
+     */
+    public static boolean isValidTotals(LedgerTotals totals) {
+        return totals.invoiced() <= MAX_TOTAL && totals.paid() <= MAX_TOTAL;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public LedgerTotals getTotals() {
+        return totals;
+    }
+
+    /**
+     * Returns the entries of this ledger, oldest first.
+     */
+    public List<LedgerEntry> getEntries() {
+        long[] amounts = entries.amounts;
+        return new AbstractList<>() {
+            @Override
+            public LedgerEntry get(int index) {
+                long amount = amounts[checkIndex(index)];
+                return amount > 0 ? new LedgerEntry(Kind.INVOICED, amount) : new LedgerEntry(Kind.PAID, -amount);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    /**
+     * Returns this ledger in the compact form it is saved in: each signed amount is ZigZag-encoded, so that small
+     * payments take as few bytes as small invoices, and written as a variable-length integer of 7 bits per byte,
+     * and the bytes are encoded in Base64. A typical entry takes 3 or 4 bytes, and loading the ledger is a single
+     * pass over them.
+     */
+    public String toCompactString() {
+        byte[] bytes = new byte[size * MAX_VARINT_BYTES];
+        int end = 0;
+        for (int i = 0; i < size; i++) {
+            long amount = entries.amounts[i];
+            long zigZag = (amount << 1) ^ (amount >> (Long.SIZE - 1));
+            while ((zigZag & ~VARINT_PAYLOAD_MASK) != 0) {
+                bytes[end++] = (byte) ((zigZag & VARINT_PAYLOAD_MASK) | VARINT_CONTINUE_FLAG);
+                zigZag >>>= VARINT_PAYLOAD_BITS;
+            }
+            bytes[end++] = (byte) zigZag;
+        }
+        return Base64.getEncoder().withoutPadding().encodeToString(Arrays.copyOf(bytes, end));
+    }
+
+    /**
+     * Returns the ledger saved as {@code compact} by {@link #toCompactString()}.
+     *
+     * @throws IllegalArgumentException if {@code compact} is not a validly saved ledger.
+     */
+    public static Ledger fromCompactString(String compact) {
+        requireNonNull(compact);
+        if (compact.isEmpty()) {
+            return EMPTY;
+        }
+        byte[] bytes = Base64.getDecoder().decode(compact);
+        int count = 0;
+        for (byte b : bytes) {
+            if ((b & VARINT_CONTINUE_FLAG) == 0) {
+                count++;
+            }
+        }
+
+        long[] amounts = new long[count];
+        long invoiced = 0;
+        long paid = 0;
+        int position = 0;
+        for (int i = 0; i < count; i++) {
+            long zigZag = 0;
+            int shift = 0;
+            byte b;
+            do {
+                if (shift >= Long.SIZE) {
+                    throw new IllegalArgumentException(MESSAGE_ENCODING_CONSTRAINTS);
+                }
+                b = bytes[position++];
+                zigZag |= (long) (b & VARINT_PAYLOAD_MASK) << shift;
+                shift += VARINT_PAYLOAD_BITS;
+            } while ((b & VARINT_CONTINUE_FLAG) != 0);
+
+            long amount = (zigZag >>> 1) ^ -(zigZag & 1);
+            if (!LedgerEntry.isValidAmount(Math.abs(amount))) {
+                throw new IllegalArgumentException(MESSAGE_ENCODING_CONSTRAINTS);
+            }
+            amounts[i] = amount;
+            if (amount > 0) {
+                invoiced += amount;
+            } else {
+                paid -= amount;
+            }
+            if (invoiced > MAX_TOTAL || paid > MAX_TOTAL) {
+                throw new IllegalArgumentException(MESSAGE_ENCODING_CONSTRAINTS);
+            }
+        }
+        if (position != bytes.length) {
+            throw new IllegalArgumentException(MESSAGE_ENCODING_CONSTRAINTS);
+        }
+        return new Ledger(new Entries(amounts, count), count, new LedgerTotals(invoiced, paid));
+    }
+
+    private int checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return index;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof Ledger otherLedger)) {
+            return false;
+        }
+        return size == otherLedger.size && totals.equals(otherLedger.totals)
+                && Arrays.equals(entries.amounts, 0, size, otherLedger.entries.amounts, 0, size);
+    }
+
+    @Override
+    public int hashCode() {
+        return totals.hashCode() * 31 + size;
+    }
+
+    @Override
+    public String toString() {
+        return size + " entries: " + totals;
+    }
+
+    /**
+     * The array of entries shared by the ledgers appended from one another, and the number of them in use.
+     */
+    private static class Entries {
+        private long[] amounts;
+        private int length;
+
+        Entries(long[] amounts, int length) {
+            this.amounts = amounts;
+            this.length = length;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+/**
+ * An entry in the ledger of a {@link Project}: an amount invoiced to the client or paid by them, in cents.
+ * Guarantees: immutable; amount is valid as declared in {@link #isValidAmount(long)}
+ */
+public record LedgerEntry(Kind kind, long amount) {
+
+    public static final String MESSAGE_CONSTRAINTS = "Amounts should be positive, with at most "
+            + "10 digits before the decimal point and 2 after it (e.g. 1200 or 1200.50)";
+    public static final long MAX_AMOUNT = 9_999_999_999_99L;
+
+    private static final String AMOUNT_VALIDATION_REGEX = "\\d{1,10}(\\.\\d{1,2})?";
+
+    /**
+     * Whether an entry bills the client or records their payment.
+     */
+    public enum Kind {
+        INVOICED, PAID
+    }
+
+    /**
+     * Every field must be present and not null, and {@code amount} must be valid.
+     */
+    public LedgerEntry {
+        requireNonNull(kind);
+        checkArgument(isValidAmount(amount), MESSAGE_CONSTRAINTS);
+    }
+
+    /**
+     * Returns true if {@code amount}, in cents, can be entered in a ledger.
+     */
+    public static boolean isValidAmount(long amount) {
+        return amount > 0 && amount <= MAX_AMOUNT;
+    }
+
+    /**
+     * Returns true if {@code amount} is a valid amount as entered by the user, in dollars and cents.
+     */
+    public static boolean isValidAmount(String amount) {
+        return amount.matches(AMOUNT_VALIDATION_REGEX) && isValidAmount(toCents(amount));
+    }
+
+    /**
+     * Converts {@code amount}, which must match the form of a valid amount, from dollars and cents into cents.
+     */
+    public static long toCents(String amount) {
+        int point = amount.indexOf('.');
+        if (point < 0) {
+            return Long.parseLong(amount) * 100;
+        }
+        String cents = (amount.substring(point + 1) + "0").substring(0, 2);
+        return Long.parseLong(amount.substring(0, point)) * 100 + Long.parseLong(cents);
+    }
+
+    /**
+     * Returns {@code cents} as shown to the user, in dollars and cents.
+     */
+    public static String formatAmount(long cents) {
+        String sign = cents < 0 ? "-" : "";
+        long magnitude = Math.abs(cents);
+        return String.format("%s$%d.%02d", sign, magnitude / 100, magnitude % 100);
+    }
+
+    @Override
+    public String toString() {
+        return (kind == Kind.INVOICED ? "Invoiced " : "Paid ") + formatAmount(amount);
+    }
+}
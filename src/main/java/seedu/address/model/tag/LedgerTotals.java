@@ -0,0 +1,36 @@
+package seedu.address.model.tag;
+
+/**
+ * The amounts invoiced and paid over one or more ledgers, in cents.
+ */
+public record LedgerTotals(long invoiced, long paid) {
+
+    public static final LedgerTotals NONE = new LedgerTotals(0, 0);
+
+    /**
+     * Returns the amount invoiced that has yet to be paid, which is negative if more has been paid than invoiced.
+     */
+    public long outstanding() {
+        return invoiced - paid;
+    }
+
+    /**
+     * Returns these totals with {@code other} added to them.
+     */
+    public LedgerTotals plus(LedgerTotals other) {
+        return new LedgerTotals(invoiced + other.invoiced, paid + other.paid);
+    }
+
+    /**
+     * Returns these totals with {@code other} taken away from them.
+     */
+    public LedgerTotals minus(LedgerTotals other) {
+        return new LedgerTotals(invoiced - other.invoiced, paid - other.paid);
+    }
+
+    @Override
+    public String toString() {
+        return LedgerEntry.formatAmount(outstanding()) + " outstanding of " + LedgerEntry.formatAmount(invoiced)
+                + " invoiced";
+    }
+}
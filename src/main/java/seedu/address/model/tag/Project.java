@@ -1,5 +1,7 @@
 package seedu.address.model.tag;
 
+import static java.util.Objects.requireNonNull;
+
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
@@ -25,6 +27,7 @@ public class Project extends Tag {
     private final boolean isComplete;
     private final boolean isPaid;
     private final LocalDateTime deadline;
+    private final Ledger ledger;
 
 
     /**
@@ -35,10 +38,23 @@ public class Project extends Tag {
      * @param deadline deadline in dd MMM uuuu HHmm format.
      */
     private Project(String tagName, boolean isComplete, boolean isPaid, LocalDateTime deadline) {
+        this(tagName, isComplete, isPaid, deadline, Ledger.EMPTY);
+    }
+
+    /**
+     * Constructs a {@code Project} with the amounts invoiced and paid on it.
+     * @param tagName A valid tag name.
+     * @param isComplete progress status.
+     * @param isPaid payment status.
+     * @param deadline deadline in dd MMM uuuu HHmm format.
+     * @param ledger amounts invoiced and paid.
+     */
+    public Project(String tagName, boolean isComplete, boolean isPaid, LocalDateTime deadline, Ledger ledger) {
         super(tagName);
         this.isComplete = isComplete;
         this.isPaid = isPaid;
         this.deadline = deadline;
+        this.ledger = requireNonNull(ledger);
     }
 
     /**
@@ -51,10 +67,8 @@ public class Project extends Tag {
      * @param deadline deadline in dd MMM uuuu HHmm format.
      */
     public Project(String tagName, String isComplete, String isPaid, String deadline) {
-        super(tagName);
-        this.isComplete = (isComplete.equalsIgnoreCase("complete"));
-        this.isPaid = (isPaid.equalsIgnoreCase("paid"));
-        this.deadline = dateTimeStringToLocalDateTime(deadline);
+        this(tagName, isComplete.equalsIgnoreCase("complete"), isPaid.equalsIgnoreCase("paid"),
+                dateTimeStringToLocalDateTime(deadline));
     }
 
     /**
@@ -63,10 +77,7 @@ public class Project extends Tag {
      * @param tagName A valid tag name.
      */
     public Project(String tagName) {
-        super(tagName);
-        this.isComplete = false;
-        this.isPaid = false;
-        this.deadline = LocalDateTime.now().plusDays(1); // Set the deadline to 1 day from creation.
+        this(tagName, false, false, LocalDateTime.now().plusDays(1)); // Set the deadline to 1 day from creation.
     }
 
     /**
@@ -76,7 +87,19 @@ public class Project extends Tag {
         boolean newIsComplete = setStatusDescriptor.isComplete().orElse(this.isComplete);
         boolean newIsPaid = setStatusDescriptor.isPaid().orElse(this.isPaid);
         LocalDateTime newDeadline = setStatusDescriptor.deadline().orElse(this.deadline);
-        return new Project(this.tagName, newIsComplete, newIsPaid, newDeadline);
+        return new Project(this.tagName, newIsComplete, newIsPaid, newDeadline, this.ledger);
+    }
+
+    /**
+     * Creates and returns a new {@code Project} with {@code entry} appended to its ledger.
+     * The new project is paid if nothing invoiced on it is outstanding.
+     *
+     * @throws IllegalArgumentException if the ledger would exceed its totals, as {@link Ledger#append} describes.
+     */
+    public Project createProjectWithLedgerEntry(LedgerEntry entry) {
+        Ledger newLedger = this.ledger.append(entry);
+        boolean newIsPaid = newLedger.getTotals().outstanding() <= 0;
+        return new Project(this.tagName, this.isComplete, newIsPaid, this.deadline, newLedger);
     }
 
     /**
@@ -87,6 +110,22 @@ public class Project extends Tag {
         return LocalDateTime.parse(dateTime.trim(), formatter);
     }
 
+    public boolean isComplete() {
+        return isComplete;
+    }
+
+    public boolean isPaid() {
+        return isPaid;
+    }
+
+    public LocalDateTime getDeadline() {
+        return deadline;
+    }
+
+    public Ledger getLedger() {
+        return ledger;
+    }
+
     /**
      * Get the progress status as a String
      * 'Complete' if true, 'Incomplete' if false
@@ -125,7 +164,10 @@ public class Project extends Tag {
      */
     @Override
     public String toString() {
+        String outstanding = ledger.isEmpty()
+                ? ""
+                : " | " + LedgerEntry.formatAmount(ledger.getTotals().outstanding()) + " outstanding";
         return '[' + getTagName() + " | Deadline: " + getDeadlineString() + "hrs | " + getProgressString()
-                + " | " + getPaymentString() + ']';
+                + " | " + getPaymentString() + outstanding + ']';
     }
 }
@@ -3,15 +3,24 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.WeakInterner;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
+ * <p>
+ * Tag names are interned, and tags created through {@link #of(String)} are shared, so a tag used by many persons
+ * is stored once and equal tags usually compare by identity.
  */
 public class Tag {
 
     public static final String MESSAGE_CONSTRAINTS = "Tag/Project names should be alphanumeric characters with "
             + "underscore and hyphens allowed, and be between 1 and 20 characters long.";
     public static final String VALIDATION_REGEX = "[a-zA-Z0-9_-]{1,20}";
+
+    private static final WeakInterner<String> TAG_NAMES = new WeakInterner<>();
+    private static final WeakInterner<Tag> TAGS = new WeakInterner<>();
+
     public final String tagName;
 
     /**
@@ -22,7 +31,16 @@ public class Tag {
     public Tag(String tagName) {
         requireNonNull(tagName);
         checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
-        this.tagName = tagName.toLowerCase();
+        this.tagName = TAG_NAMES.intern(tagName.toLowerCase());
+    }
+
+    /**
+     * Returns the shared {@code Tag} with the given name, creating it if there is none.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        return TAGS.intern(new Tag(tagName));
     }
 
     /**
@@ -1,15 +1,17 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
-import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.CompactSet;
 import seedu.address.logic.Messages;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
@@ -21,17 +23,22 @@ import seedu.address.model.tag.Tag;
 
 /**
  * Jackson-friendly version of {@link Person}.
+ * A person's projects are saved as the names of projects in the address book's project table. Persons saved
+ * before the table existed hold copies of their projects instead, which are still read.
  */
 class JsonAdaptedPerson {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Person's %s field is missing!";
+    public static final String MESSAGE_UNKNOWN_PROJECT = "Person is on project %s, which is not in the project table.";
 
     private final String name;
     private final String phone;
     private final String email;
     private final String preferredContact;
     private final List<JsonAdaptedTag> tags = new ArrayList<>();
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
     private final List<JsonAdaptedProject> projects = new ArrayList<>();
+    private final List<String> projectNames = new ArrayList<>();
 
     /**
      * Constructs a {@code JsonAdaptedPerson} with the given person details.
@@ -42,6 +49,7 @@ class JsonAdaptedPerson {
                              @JsonProperty("email") String email,
                              @JsonProperty("tags") List<JsonAdaptedTag> tags,
                              @JsonProperty("projects") List<JsonAdaptedProject> projects,
+                             @JsonProperty("projectNames") List<String> projectNames,
                              @JsonProperty("preferredContacts") String preferredContact) {
         this.name = name;
         this.phone = phone;
@@ -55,9 +63,21 @@ class JsonAdaptedPerson {
             this.projects.addAll(projects);
         }
 
+        if (projectNames != null) {
+            this.projectNames.addAll(projectNames);
+        }
+
         this.preferredContact = preferredContact;
     }
 
+    /**
+     * Constructs a {@code JsonAdaptedPerson} holding copies of its projects, as saved before the project table.
+     */
+    public JsonAdaptedPerson(String name, String phone, String email, List<JsonAdaptedTag> tags,
+                             List<JsonAdaptedProject> projects, String preferredContact) {
+        this(name, phone, email, tags, projects, null, preferredContact);
+    }
+
     /**
      * Converts a given {@code Person} into this class for Jackson use.
      */
@@ -70,8 +90,8 @@ class JsonAdaptedPerson {
                 .map(JsonAdaptedTag::new)
                 .toList());
 
-        projects.addAll(source.getProjects().stream()
-                .map(JsonAdaptedProject::new)
+        projectNames.addAll(source.getProjects().stream()
+                .map(Project::getTagName)
                 .toList());
 
         preferredContact = source.getPreferredContactMethod().getPreferredContactMethod();
@@ -83,6 +103,17 @@ class JsonAdaptedPerson {
      * @throws IllegalValueException if there were any data constraints violated in the adapted person.
      */
     public Person toModelType() throws IllegalValueException {
+        return toModelType(Map.of());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted person object into the model's {@code Person} object, looking up the
+     * projects it names in {@code projectTable}, which maps each project's name to the project.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted person, or it names
+     *     a project that is not in {@code projectTable}.
+     */
+    public Person toModelType(Map<String, Project> projectTable) throws IllegalValueException {
         final List<Tag> personTags = new ArrayList<>();
         final List<Project> personProjectTags = new ArrayList<>();
 
@@ -94,8 +125,16 @@ class JsonAdaptedPerson {
             personProjectTags.add(projectTag.toModelType());
         }
 
-        final Set<Tag> modelTags = new LinkedHashSet<>(personTags);
-        final Set<Project> modelProjects = new LinkedHashSet<>(personProjectTags);
+        for (String projectName : projectNames) {
+            Project project = projectTable.get(projectName);
+            if (project == null) {
+                throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_PROJECT, projectName));
+            }
+            personProjectTags.add(project);
+        }
+
+        final Set<Tag> modelTags = CompactSet.copyOf(personTags);
+        final Set<Project> modelProjects = CompactSet.copyOf(personProjectTags);
 
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
@@ -1,9 +1,11 @@
 package seedu.address.storage;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.tag.Ledger;
 import seedu.address.model.tag.Project;
 import seedu.address.model.tag.Tag;
 
@@ -17,20 +19,25 @@ class JsonAdaptedProject {
     private String isComplete;
     private String isPaid;
     private String deadline;
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private String ledger;
 
 
     /**
-     * Constructs a {@code JsonAdaptedProject} with the given {@code tagName}.
+     * Constructs a {@code JsonAdaptedProject} with the given project details.
+     * {@code ledger} is the project's ledger in its compact form, and may be absent if nothing has been entered.
      */
     @JsonCreator
     public JsonAdaptedProject(@JsonProperty("tagName") String tagName,
                               @JsonProperty("isComplete") String isComplete,
                               @JsonProperty("isPaid") String isPaid,
-                              @JsonProperty("deadline") String deadline) {
+                              @JsonProperty("deadline") String deadline,
+                              @JsonProperty("ledger") String ledger) {
         this.tagName = tagName;
         this.isComplete = isComplete;
         this.isPaid = isPaid;
         this.deadline = deadline;
+        this.ledger = ledger;
     }
 
     /**
@@ -48,7 +55,7 @@ class JsonAdaptedProject {
         isComplete = source.getProgressString();
         isPaid = source.getPaymentString();
         deadline = source.getDeadlineString();
-
+        ledger = source.getLedger().toCompactString();
     }
 
 
@@ -62,7 +69,15 @@ class JsonAdaptedProject {
             throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
         }
 
-
-        return new Project(tagName, isComplete, isPaid, deadline);
+        Project project = new Project(tagName, isComplete, isPaid, deadline);
+        if (ledger == null || ledger.isEmpty()) {
+            return project;
+        }
+        try {
+            return new Project(project.tagName, project.isComplete(), project.isPaid(), project.getDeadline(),
+                    Ledger.fromCompactString(ledger));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(Ledger.MESSAGE_ENCODING_CONSTRAINTS);
+        }
     }
 }
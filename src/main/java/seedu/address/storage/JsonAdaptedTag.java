@@ -43,7 +43,7 @@ class JsonAdaptedTag {
             throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
         }
 
-        return new Tag(tagName);
+        return Tag.of(tagName);
     }
 
 }
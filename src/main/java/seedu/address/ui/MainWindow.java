@@ -1,8 +1,12 @@
 package seedu.address.ui;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.logging.Logger;
 
+import javafx.animation.Animation;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -11,12 +15,16 @@ import javafx.scene.input.KeyCombination;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
+import javafx.util.Duration;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.WorkloadCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.index.DeadlineEvent;
+import seedu.address.model.index.Workload;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -25,6 +33,7 @@ import seedu.address.logic.parser.exceptions.ParseException;
 public class MainWindow extends UiPart<Stage> {
 
     private static final String FXML = "MainWindow.fxml";
+    private static final Duration DEADLINE_CHECK_INTERVAL = Duration.minutes(1);
 
     private final Logger logger = LogsCenter.getLogger(getClass());
 
@@ -35,6 +44,7 @@ public class MainWindow extends UiPart<Stage> {
     private PersonListPanel personListPanel;
     private ResultDisplay resultDisplay;
     private HelpWindow helpWindow;
+    private WorkloadWindow workloadWindow;
     private StatusBarFooter statusBarFooter;
 
     @FXML
@@ -68,6 +78,7 @@ public class MainWindow extends UiPart<Stage> {
         setAccelerators();
 
         helpWindow = new HelpWindow();
+        workloadWindow = new WorkloadWindow();
     }
 
     public Stage getPrimaryStage() {
@@ -119,10 +130,45 @@ public class MainWindow extends UiPart<Stage> {
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
         statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
+        statusBarFooter.updateStatistics(logic.getProjectStatistics());
+        updateStatusBarDeadlines();
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
         CommandBox commandBox = new CommandBox(this::executeCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
+
+        startDeadlineChecks();
+    }
+
+    /**
+     * Checks the project deadlines every minute on the application thread, so that reminders appear while the
+     * window is idle.
+     */
+    private void startDeadlineChecks() {
+        Timeline deadlineChecks = new Timeline(new KeyFrame(DEADLINE_CHECK_INTERVAL, event -> checkDeadlines()));
+        deadlineChecks.setCycleCount(Animation.INDEFINITE);
+        deadlineChecks.play();
+    }
+
+    /**
+     * Shows a reminder in the status bar for each project that became due soon or overdue since the last check.
+     */
+    private void checkDeadlines() {
+        List<DeadlineEvent> events = logic.advanceDeadlines();
+        if (events.isEmpty()) {
+            return;
+        }
+        events.forEach(event -> logger.info("Deadline reminder: " + event));
+        statusBarFooter.showReminders(events);
+        statusBarFooter.updateStatistics(logic.getProjectStatistics());
+        updateStatusBarDeadlines();
+    }
+
+    /**
+     * Shows the projects that are due soon or overdue in the status bar.
+     */
+    private void updateStatusBarDeadlines() {
+        statusBarFooter.updateDeadlines(logic.getDueSoonProjectNames(), logic.getOverdueProjectNames());
     }
 
     /**
@@ -149,6 +195,27 @@ public class MainWindow extends UiPart<Stage> {
         }
     }
 
+    /**
+     * Opens the workload window showing {@code workload}, or focuses on it if it's already opened.
+     */
+    private void handleWorkload(Workload workload) {
+        workloadWindow.setWorkload(workload);
+        if (!workloadWindow.isShowing()) {
+            workloadWindow.show();
+        } else {
+            workloadWindow.focus();
+        }
+    }
+
+    /**
+     * Redraws the workload window, if it is open, to show the workload as it now stands.
+     */
+    private void refreshWorkload() {
+        if (workloadWindow.isShowing()) {
+            workloadWindow.setWorkload(logic.getWorkload(WorkloadCommand.WEEKS, workloadWindow.getWeeklyCapacity()));
+        }
+    }
+
     void show() {
         primaryStage.show();
     }
@@ -162,6 +229,7 @@ public class MainWindow extends UiPart<Stage> {
                 (int) primaryStage.getX(), (int) primaryStage.getY());
         logic.setGuiSettings(guiSettings);
         helpWindow.hide();
+        workloadWindow.hide();
         primaryStage.hide();
     }
 
@@ -200,6 +268,15 @@ public class MainWindow extends UiPart<Stage> {
                 updateStatusBarSaveLocation(logic.getAddressBookFilePath());
             }
 
+            statusBarFooter.updateStatistics(logic.getProjectStatistics());
+            updateStatusBarDeadlines();
+
+            if (commandResult.getWorkload().isPresent()) {
+                handleWorkload(commandResult.getWorkload().get());
+            } else {
+                refreshWorkload();
+            }
+
             return commandResult;
         } catch (CommandException | ParseException e) {
             logger.info("An error occurred while executing command: " + commandText);
@@ -8,6 +8,8 @@ import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import seedu.address.model.person.Person;
+import seedu.address.model.tag.Ledger;
+import seedu.address.model.tag.LedgerEntry;
 
 /**
  * UI component that displays information of a {@code Person}.
@@ -77,7 +79,11 @@ public class PersonCard extends UiPart<Region> {
                         completionLabel.getStyleClass().add("project-incomplete");
                     }
 
-                    Label paidLabel = new Label(project.getPaymentString());
+                    Ledger ledger = project.getLedger();
+                    Label paidLabel = new Label(ledger.isEmpty()
+                            ? project.getPaymentString()
+                            : project.getPaymentString() + " ("
+                                    + LedgerEntry.formatAmount(ledger.getTotals().outstanding()) + " due)");
                     if (project.getPaymentString().equalsIgnoreCase("Paid")) {
                         paidLabel.getStyleClass().add("project-paid");
                     } else {
@@ -2,10 +2,15 @@ package seedu.address.ui;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
+import seedu.address.model.index.DeadlineEvent;
+import seedu.address.model.index.ProjectStatistics;
 
 /**
  * UI for the status bar that is displayed at the footer of the application.
@@ -17,6 +22,15 @@ public class StatusBarFooter extends UiPart<Region> {
     @FXML
     private Label saveLocationStatus;
 
+    @FXML
+    private Label reminderStatus;
+
+    @FXML
+    private Label deadlineStatus;
+
+    @FXML
+    private Label statisticsStatus;
+
     /**
      * Creates a {@code StatusBarFooter} with the given {@code Path}.
      */
@@ -33,4 +47,47 @@ public class StatusBarFooter extends UiPart<Region> {
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
     }
 
+    /**
+     * Update the status bar to show the latest project totals
+     * @param statistics The running totals over every project
+     */
+    public void updateStatistics(ProjectStatistics statistics) {
+        statisticsStatus.setText(statistics.toSummary());
+    }
+
+    /**
+     * Update the status bar to show the latest deadline reminders
+     * @param events The projects that became due soon or overdue, in the order they did
+     */
+    public void showReminders(List<DeadlineEvent> events) {
+        reminderStatus.setText(events.stream().map(DeadlineEvent::toString).collect(Collectors.joining("; ")));
+    }
+
+    /**
+     * Update the status bar to show the projects that are due soon or overdue
+     * @param dueSoonProjectNames The names of the incomplete projects due in less than a day
+     * @param overdueProjectNames The names of the incomplete projects whose deadline has passed
+     */
+    public void updateDeadlines(Set<String> dueSoonProjectNames, Set<String> overdueProjectNames) {
+        deadlineStatus.setText(toDeadlineSummary(dueSoonProjectNames, overdueProjectNames));
+    }
+
+    /**
+     * Returns a line listing the projects that are due soon and those that are overdue, or an empty line if there
+     * are none.
+     */
+    private static String toDeadlineSummary(Set<String> dueSoonProjectNames, Set<String> overdueProjectNames) {
+        StringBuilder summary = new StringBuilder();
+        if (!overdueProjectNames.isEmpty()) {
+            summary.append("Overdue: ").append(String.join(", ", overdueProjectNames));
+        }
+        if (!dueSoonProjectNames.isEmpty()) {
+            if (summary.length() > 0) {
+                summary.append("; ");
+            }
+            summary.append("Due soon: ").append(String.join(", ", dueSoonProjectNames));
+        }
+        return summary.toString();
+    }
+
 }
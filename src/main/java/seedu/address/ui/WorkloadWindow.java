@@ -0,0 +1,143 @@
+package seedu.address.ui;
+
+import java.time.DayOfWeek;
+import java.time.format.DateTimeFormatter;
+import java.time.format.TextStyle;
+import java.util.Locale;
+import java.util.logging.Logger;
+
+import javafx.fxml.FXML;
+import javafx.scene.control.Label;
+import javafx.scene.control.Tooltip;
+import javafx.scene.layout.GridPane;
+import javafx.stage.Stage;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.index.WeekLoad;
+import seedu.address.model.index.Workload;
+
+/**
+ * Controller for a window showing the workload of the coming weeks as a heatmap, with a column for each week, a
+ * row for each day of the week and a row for the week's total. The weeks with more projects due than can be
+ * handled in a week are flagged.
+ */
+public class WorkloadWindow extends UiPart<Stage> {
+
+    private static final Logger logger = LogsCenter.getLogger(WorkloadWindow.class);
+    private static final String FXML = "WorkloadWindow.fxml";
+    private static final DateTimeFormatter WEEK_LABEL_FORMAT = DateTimeFormatter.ofPattern("dd MMM", Locale.ENGLISH);
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.ofPattern("EEE dd MMM uuuu", Locale.ENGLISH);
+
+    private static final String CELL_STYLE_CLASS = "workload-cell";
+    private static final String OVERLOADED_STYLE_CLASS = "workload-overloaded";
+    private static final int HEAT_LEVELS = 4;
+    private static final int TOTAL_ROW = WeekLoad.DAYS_PER_WEEK + 1;
+
+    private int weeklyCapacity;
+
+    @FXML
+    private Label summary;
+
+    @FXML
+    private GridPane heatmap;
+
+    /**
+     * Creates a new WorkloadWindow.
+     *
+     * @param root Stage to use as the root of the WorkloadWindow.
+     */
+    public WorkloadWindow(Stage root) {
+        super(FXML, root);
+    }
+
+    /**
+     * Creates a new WorkloadWindow.
+     */
+    public WorkloadWindow() {
+        this(new Stage());
+    }
+
+    public int getWeeklyCapacity() {
+        return weeklyCapacity;
+    }
+
+    /**
+     * Redraws the heatmap to show {@code workload}.
+     */
+    public void setWorkload(Workload workload) {
+        weeklyCapacity = workload.weeklyCapacity();
+        summary.setText(workload.toString());
+        heatmap.getChildren().clear();
+
+        for (DayOfWeek day : DayOfWeek.values()) {
+            heatmap.add(new Label(day.getDisplayName(TextStyle.SHORT, Locale.ENGLISH)), 0, day.getValue());
+        }
+        heatmap.add(new Label("Week"), 0, TOTAL_ROW);
+
+        int column = 1;
+        for (WeekLoad week : workload.weeks()) {
+            Label weekLabel = new Label(WEEK_LABEL_FORMAT.format(week.weekStart()));
+            weekLabel.getStyleClass().add("workload-week");
+            heatmap.add(weekLabel, column, 0);
+            for (int day = 0; day < WeekLoad.DAYS_PER_WEEK; day++) {
+                int count = week.dailyCounts().get(day);
+                Label cell = createCell(count, heatLevel(count, weeklyCapacity));
+                cell.setTooltip(new Tooltip(count + " due on " + DAY_FORMAT.format(week.weekStart().plusDays(day))));
+                heatmap.add(cell, column, day + 1);
+            }
+            Label total = createCell(week.count(), heatLevel(week.count(), weeklyCapacity + 1));
+            total.setTooltip(new Tooltip(week.count() + " due in the week of " + Workload.formatWeek(week)));
+            if (week.isOverloaded()) {
+                total.getStyleClass().add(OVERLOADED_STYLE_CLASS);
+                weekLabel.getStyleClass().add(OVERLOADED_STYLE_CLASS);
+            }
+            heatmap.add(total, column, TOTAL_ROW);
+            column++;
+        }
+    }
+
+    private static Label createCell(int count, int level) {
+        Label cell = new Label(count == 0 ? "" : Integer.toString(count));
+        cell.getStyleClass().addAll(CELL_STYLE_CLASS, CELL_STYLE_CLASS + "-" + level);
+        return cell;
+    }
+
+    /**
+     * Returns the shade of a cell holding {@code count}, from 0 for none up to {@link #HEAT_LEVELS} for
+     * {@code fullCount} or more.
+     */
+    private static int heatLevel(int count, int fullCount) {
+        if (count == 0) {
+            return 0;
+        }
+        return Math.min(HEAT_LEVELS, 1 + (HEAT_LEVELS - 1) * (count - 1) / Math.max(1, fullCount - 1));
+    }
+
+    /**
+     * Shows the workload window.
+     */
+    public void show() {
+        logger.fine("Showing the workload heatmap.");
+        getRoot().show();
+    }
+
+    /**
+     * Returns true if the workload window is currently being shown.
+     */
+    public boolean isShowing() {
+        return getRoot().isShowing();
+    }
+
+    /**
+     * Hides the workload window.
+     */
+    public void hide() {
+        getRoot().hide();
+    }
+
+    /**
+     * Focuses on the workload window.
+     */
+    public void focus() {
+        getRoot().requestFocus();
+    }
+}
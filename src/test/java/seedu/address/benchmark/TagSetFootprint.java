@@ -0,0 +1,83 @@
+package seedu.address.benchmark;
+
+import java.lang.ref.Reference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Function;
+
+import seedu.address.commons.util.CompactSet;
+import seedu.address.model.tag.Project;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Measures the heap used by the tag and project sets of a synthetic address book of one million contacts,
+ * stored as unmodifiable {@code LinkedHashSet}s and as {@code CompactSet}s.
+ * <p>
+ * Not a test; run its {@code main} method by hand, preferably with a fixed heap (e.g. {@code -Xms2g -Xmx2g}).
+ * Each contact has 0 to 3 tags out of 20 and 0 to 2 projects out of 50, shared between contacts.
+ */
+public class TagSetFootprint {
+
+    private static final int CONTACTS = 1_000_000;
+    private static final long SEED = 2103;
+
+    public static void main(String[] args) {
+        List<Tag> tagPool = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            tagPool.add(Tag.of("tag" + i));
+        }
+        List<Project> projectPool = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            projectPool.add(new Project("project" + i));
+        }
+
+        long linkedBytes = measure(tagPool, projectPool,
+                elements -> Collections.unmodifiableSet(new LinkedHashSet<>(elements)));
+        long compactBytes = measure(tagPool, projectPool, CompactSet::copyOf);
+
+        System.out.printf("LinkedHashSet: %,d bytes (%.1f bytes/contact)%n",
+                linkedBytes, (double) linkedBytes / CONTACTS);
+        System.out.printf("CompactSet:    %,d bytes (%.1f bytes/contact)%n",
+                compactBytes, (double) compactBytes / CONTACTS);
+        System.out.printf("Saving:        %.1f bytes/contact%n", (double) (linkedBytes - compactBytes) / CONTACTS);
+    }
+
+    /**
+     * Returns the heap retained by the tag and project sets of every contact, built by {@code toSet}.
+     */
+    private static long measure(List<Tag> tagPool, List<Project> projectPool,
+            Function<List<Object>, Set<Object>> toSet) {
+        Random random = new Random(SEED);
+        long before = usedHeap();
+        List<Set<Object>> sets = new ArrayList<>(2 * CONTACTS);
+        for (int i = 0; i < CONTACTS; i++) {
+            sets.add(toSet.apply(pick(tagPool, random.nextInt(4), random)));
+            sets.add(toSet.apply(pick(projectPool, random.nextInt(3), random)));
+        }
+        long after = usedHeap();
+        // the list holding the sets is not part of a contact's footprint
+        long listBytes = 16L + 4L * sets.size();
+        Reference.reachabilityFence(sets);
+        return after - before - listBytes;
+    }
+
+    private static List<Object> pick(List<?> pool, int count, Random random) {
+        List<Object> picked = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            picked.add(pool.get(random.nextInt(pool.size())));
+        }
+        return picked;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,130 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.Project;
+import seedu.address.model.tag.Tag;
+
+public class CompactSetTest {
+
+    @Test
+    public void copyOf_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> CompactSet.copyOf(null));
+        assertThrows(NullPointerException.class, () -> CompactSet.copyOf(Arrays.asList("a", null)));
+    }
+
+    @Test
+    public void copyOf_empty_returnsSharedEmptySet() {
+        assertSame(CompactSet.of(), CompactSet.copyOf(List.of()));
+        assertEquals(Set.of(), CompactSet.copyOf(List.of()));
+    }
+
+    @Test
+    public void copyOf_smallCollection_distinctInInsertionOrder() {
+        Set<String> set = CompactSet.copyOf(List.of("c", "a", "c", "b", "a"));
+        assertTrue(set instanceof CompactSet);
+        assertEquals(List.of("c", "a", "b"), new ArrayList<>(set));
+        assertEquals(Set.of("a", "b", "c"), set);
+        assertEquals(Set.of("a", "b", "c").hashCode(), set.hashCode());
+        assertTrue(set.contains("b"));
+        assertFalse(set.contains("d"));
+        assertFalse(set.contains(null));
+
+        // a compact set is not copied again
+        assertSame(set, CompactSet.copyOf(set));
+    }
+
+    @Test
+    public void copyOf_largeCollection_keepsOrder() {
+        List<Integer> numbers = IntStream.range(0, 20).boxed().toList();
+        Set<Integer> set = CompactSet.copyOf(numbers);
+        assertTrue(set instanceof PersistentOrderedSet);
+        assertEquals(numbers, new ArrayList<>(set));
+        assertSame(set, CompactSet.copyOf(set));
+    }
+
+    @Test
+    public void contains_tagsAndProjects_matchesHashSet() {
+        Set<Tag> tags = CompactSet.copyOf(List.of(new Tag("mural")));
+        assertEquals(Set.of(new Tag("mural")).contains(new Project("mural")), tags.contains(new Project("mural")));
+    }
+
+    @Test
+    public void union_returnsElementsInOrder() {
+        Set<String> base = CompactSet.copyOf(List.of("a", "b"));
+        assertEquals(List.of("a", "b", "c"), new ArrayList<>(CompactSet.union(base, List.of("b", "c"))));
+        assertSame(base, CompactSet.union(base, List.of()));
+
+        // grows past the array limit
+        List<String> many = IntStream.range(0, 10).mapToObj(String::valueOf).toList();
+        Set<String> union = CompactSet.union(base, many);
+        assertEquals(12, union.size());
+        assertEquals("a", union.iterator().next());
+    }
+
+    @Test
+    public void difference_returnsRemainingElementsInOrder() {
+        Set<String> base = CompactSet.copyOf(List.of("a", "b", "c"));
+        assertEquals(List.of("a", "c"), new ArrayList<>(CompactSet.difference(base, List.of("b", "d"))));
+        assertSame(CompactSet.of(), CompactSet.difference(base, base));
+
+        // shrinks back to an array
+        Set<Integer> many = CompactSet.copyOf(IntStream.range(0, 10).boxed().toList());
+        Set<Integer> fewer = CompactSet.difference(many, List.of(0, 1, 2));
+        assertTrue(fewer instanceof CompactSet);
+        assertEquals(IntStream.range(3, 10).boxed().collect(Collectors.toList()), new ArrayList<>(fewer));
+
+        // stays persistent while large
+        Set<Integer> stillMany = CompactSet.difference(many, List.of(0));
+        assertTrue(stillMany instanceof PersistentOrderedSet);
+        assertEquals(9, stillMany.size());
+        assertEquals(10, many.size());
+    }
+
+    @Test
+    public void replace_presentElement_movedToEnd() {
+        Project mural = new Project("mural");
+        Project paidMural = new Project("mural", "Incomplete", "Paid", "01 Jan 2030 1200");
+        Project logo = new Project("logo");
+        Set<Project> projects = CompactSet.copyOf(List.of(mural, logo));
+
+        List<Project> replaced = new ArrayList<>(CompactSet.replace(projects, paidMural));
+        assertEquals(List.of(logo, paidMural), replaced);
+        assertSame(paidMural, replaced.get(1));
+
+        // absent element is not added
+        assertEquals(projects, CompactSet.replace(projects, new Project("poster")));
+
+        // large set
+        List<Project> many = IntStream.range(0, 10).mapToObj(i -> new Project("p" + i)).toList();
+        Set<Project> manyProjects = CompactSet.union(projects, many);
+        List<Project> manyReplaced = new ArrayList<>(CompactSet.replace(manyProjects, paidMural));
+        assertEquals(12, manyReplaced.size());
+        assertSame(paidMural, manyReplaced.get(11));
+        assertEquals(mural, manyProjects.iterator().next());
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        Set<String> set = CompactSet.copyOf(List.of("a"));
+        assertThrows(UnsupportedOperationException.class, () -> set.add("b"));
+        assertThrows(UnsupportedOperationException.class, () -> set.remove("a"));
+        assertThrows(UnsupportedOperationException.class, () -> set.remove("b"));
+        assertThrows(UnsupportedOperationException.class, () -> set.clear());
+        assertThrows(UnsupportedOperationException.class, () -> set.removeIf(s -> true));
+        assertThrows(UnsupportedOperationException.class, () -> set.iterator().remove());
+    }
+}
@@ -0,0 +1,138 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.Project;
+import seedu.address.model.tag.Tag;
+
+public class PersistentOrderedSetTest {
+
+    @Test
+    public void copyOf_keepsFirstOfEqualElementsInOrder() {
+        PersistentOrderedSet<String> set = PersistentOrderedSet.copyOf(List.of("c", "a", "c", "b", "a"));
+        assertEquals(List.of("c", "a", "b"), new ArrayList<>(set));
+        assertEquals(Set.of("a", "b", "c"), set);
+        assertEquals(Set.of("a", "b", "c").hashCode(), set.hashCode());
+        assertSame(set, PersistentOrderedSet.copyOf(set));
+        assertThrows(NullPointerException.class, () -> PersistentOrderedSet.copyOf(null));
+    }
+
+    @Test
+    public void plus_presentElement_returnsSameSet() {
+        PersistentOrderedSet<String> set = PersistentOrderedSet.copyOf(List.of("a", "b"));
+        assertSame(set, set.plus("a"));
+        assertSame(set, set.minus("z"));
+        assertSame(set, set.minus(null));
+        assertSame(set, set.replace("z"));
+    }
+
+    @Test
+    public void minus_leavesOldVersionUnchanged() {
+        PersistentOrderedSet<Integer> numbers = PersistentOrderedSet.copyOf(IntStream.range(0, 100).boxed().toList());
+        PersistentOrderedSet<Integer> withoutEvens = numbers.minusAll(
+                IntStream.range(0, 100).filter(i -> i % 2 == 0).boxed().toList());
+        PersistentOrderedSet<Integer> withExtra = numbers.plus(100);
+
+        assertEquals(IntStream.range(0, 100).boxed().toList(), new ArrayList<>(numbers));
+        assertEquals(IntStream.range(0, 100).filter(i -> i % 2 == 1).boxed().toList(),
+                new ArrayList<>(withoutEvens));
+        assertEquals(101, withExtra.size());
+        assertFalse(numbers.contains(100));
+        assertFalse(withoutEvens.contains(4));
+        assertTrue(numbers.contains(4));
+    }
+
+    @Test
+    public void minus_allElements_emptySetStillUsable() {
+        List<Integer> numbers = IntStream.range(0, 9).boxed().toList();
+        PersistentOrderedSet<Integer> emptied = PersistentOrderedSet.copyOf(numbers).minusAll(numbers);
+        assertTrue(emptied.isEmpty());
+        assertFalse(emptied.contains(3));
+        assertSame(emptied, emptied.minus(3));
+        assertEquals(List.of(3, 4), new ArrayList<>(emptied.plus(3).plus(4)));
+    }
+
+    @Test
+    public void replace_presentElement_movedToEnd() {
+        Project mural = new Project("mural");
+        Project paidMural = new Project("mural", "Incomplete", "Paid", "01 Jan 2030 1200");
+        Project logo = new Project("logo");
+        PersistentOrderedSet<Project> projects = PersistentOrderedSet.copyOf(List.of(mural, logo));
+
+        List<Project> replaced = new ArrayList<>(projects.replace(paidMural));
+        assertEquals(List.of(logo, paidMural), replaced);
+        assertSame(paidMural, replaced.get(1));
+        assertSame(mural, projects.iterator().next());
+    }
+
+    @Test
+    public void contains_tagsAndProjects_matchesHashSet() {
+        PersistentOrderedSet<Tag> tags = PersistentOrderedSet.copyOf(List.of(new Tag("mural")));
+        assertEquals(Set.of(new Tag("mural")).contains(new Project("mural")), tags.contains(new Project("mural")));
+    }
+
+    @Test
+    public void collidingHashes_allElementsKept() {
+        // "Aa" and "BB" share a hash code, as do all strings built from them
+        List<String> colliding = List.of("AaAa", "AaBB", "BBAa", "BBBB");
+        PersistentOrderedSet<String> set = PersistentOrderedSet.copyOf(colliding).plus("other");
+        assertEquals(5, set.size());
+        colliding.forEach(s -> assertTrue(set.contains(s)));
+
+        PersistentOrderedSet<String> fewer = set.minus("AaBB").minus("BBBB");
+        assertEquals(List.of("AaAa", "BBAa", "other"), new ArrayList<>(fewer));
+        assertFalse(fewer.contains("AaBB"));
+        assertEquals(List.of("other"), new ArrayList<>(fewer.minusAll(colliding)));
+    }
+
+    @Test
+    public void randomEdits_matchLinkedHashSet() {
+        Random random = new Random(42);
+        PersistentOrderedSet<Integer> set = PersistentOrderedSet.empty();
+        Set<Integer> expected = new LinkedHashSet<>();
+        for (int i = 0; i < 5000; i++) {
+            Integer element = random.nextInt(300);
+            switch (random.nextInt(3)) {
+            case 0:
+                set = set.minus(element);
+                expected.remove(element);
+                break;
+            case 1:
+                set = set.replace(element);
+                if (expected.remove(element)) {
+                    expected.add(element);
+                }
+                break;
+            default:
+                set = set.plus(element);
+                expected.add(element);
+                break;
+            }
+            assertEquals(expected.size(), set.size());
+            assertEquals(expected.contains(element), set.contains(element));
+        }
+        assertEquals(new ArrayList<>(expected), new ArrayList<>(set));
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        PersistentOrderedSet<String> set = PersistentOrderedSet.copyOf(List.of("a"));
+        assertThrows(UnsupportedOperationException.class, () -> set.add("b"));
+        assertThrows(UnsupportedOperationException.class, () -> set.remove("a"));
+        assertThrows(UnsupportedOperationException.class, () -> set.clear());
+        assertThrows(UnsupportedOperationException.class, () -> set.iterator().remove());
+    }
+}
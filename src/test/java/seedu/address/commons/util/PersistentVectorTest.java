@@ -0,0 +1,75 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentVectorTest {
+
+    @Test
+    public void empty_hasNoElements() {
+        PersistentVector<String> empty = PersistentVector.empty();
+        assertEquals(0, empty.size());
+        assertEquals(List.of(), toList(empty));
+        assertThrows(IndexOutOfBoundsException.class, () -> empty.get(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> empty.set(0, "a"));
+    }
+
+    @Test
+    public void append_manyElements_growsAcrossLevels() {
+        // enough elements to need a trie of three levels
+        int count = 32 * 32 + 33;
+        List<Integer> expected = new ArrayList<>();
+        PersistentVector<Integer> growing = PersistentVector.empty();
+        for (int i = 0; i < count; i++) {
+            growing = growing.append(i);
+            expected.add(i);
+        }
+        PersistentVector<Integer> vector = growing;
+
+        assertEquals(count, vector.size());
+        for (int i = 0; i < count; i++) {
+            assertEquals(i, vector.get(i));
+        }
+        assertEquals(expected, toList(vector));
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.get(count));
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.get(-1));
+    }
+
+    @Test
+    public void set_leavesOldVersionUnchanged() {
+        PersistentVector<String> vector = PersistentVector.<String>empty().append("a").append("b").append("c");
+        PersistentVector<String> updated = vector.set(1, "x");
+        PersistentVector<String> cleared = updated.set(0, null);
+
+        assertEquals(List.of("a", "b", "c"), toList(vector));
+        assertEquals(List.of("a", "x", "c"), toList(updated));
+        assertNull(cleared.get(0));
+        assertEquals("x", cleared.get(1));
+    }
+
+    @Test
+    public void append_leavesOldVersionUnchanged() {
+        PersistentVector<Integer> vector = PersistentVector.empty();
+        for (int i = 0; i < 32; i++) {
+            vector = vector.append(i);
+        }
+        PersistentVector<Integer> first = vector.append(100);
+        PersistentVector<Integer> second = vector.append(200);
+
+        assertEquals(32, vector.size());
+        assertEquals(100, first.get(32));
+        assertEquals(200, second.get(32));
+    }
+
+    private static <E> List<E> toList(PersistentVector<E> vector) {
+        List<E> list = new ArrayList<>();
+        vector.forEach(list::add);
+        return list;
+    }
+}
@@ -1,10 +1,12 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.FileNotFoundException;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -123,6 +125,53 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for splitIntoWords --------------------------------------
+
+    @Test
+    public void splitIntoWords_nullSentence_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.splitIntoWords(null));
+    }
+
+    @Test
+    public void splitIntoWords_validInputs_correctResult() {
+        // empty and blank sentences
+        assertEquals(List.of(), StringUtil.splitIntoWords(""));
+        assertEquals(List.of(), StringUtil.splitIntoWords(" \t\n "));
+
+        // single word
+        assertEquals(List.of("aaa"), StringUtil.splitIntoWords("aaa"));
+
+        // leading, trailing and repeated whitespace
+        assertEquals(List.of("ABc", "def"), StringUtil.splitIntoWords("  ABc \t def  "));
+    }
+
+    //---------------- Tests for editDistance --------------------------------------
+
+    @Test
+    public void editDistance_nullWord_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.editDistance(null, "abc"));
+        assertThrows(NullPointerException.class, () -> StringUtil.editDistance("abc", null));
+    }
+
+    @Test
+    public void editDistance_validInputs_correctResult() {
+        // empty words
+        assertEquals(0, StringUtil.editDistance("", ""));
+        assertEquals(3, StringUtil.editDistance("", "abc"));
+        assertEquals(3, StringUtil.editDistance("abc", ""));
+
+        // same word, and differing only in case
+        assertEquals(0, StringUtil.editDistance("bernice", "bernice"));
+        assertEquals(1, StringUtil.editDistance("Bernice", "bernice"));
+
+        // substitution, insertion and deletion
+        assertEquals(1, StringUtil.editDistance("bernise", "bernice"));
+        assertEquals(1, StringUtil.editDistance("bernce", "bernice"));
+        assertEquals(1, StringUtil.editDistance("berniece", "bernice"));
+        assertEquals(3, StringUtil.editDistance("kitten", "sitting"));
+        assertEquals(3, StringUtil.editDistance("sitting", "kitten"));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
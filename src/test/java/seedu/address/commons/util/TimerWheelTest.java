@@ -0,0 +1,152 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.TimerWheel.Timer;
+
+public class TimerWheelTest {
+
+    private static final long START = 1_000_000;
+
+    private final TimerWheel<String> wheel = new TimerWheel<>(START);
+    private final List<String> fired = new ArrayList<>();
+
+    @Test
+    public void constructor_negativeTime_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, TimerWheel.MESSAGE_CONSTRAINTS, () -> new TimerWheel<>(-1));
+    }
+
+    @Test
+    public void schedule_nullValue_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> wheel.schedule(START + 1, null));
+    }
+
+    @Test
+    public void advanceTo_firesTimersInExpiryOrder() {
+        wheel.schedule(START + 5000, "far");
+        wheel.schedule(START + 3, "near");
+        wheel.schedule(START + 70, "later");
+        wheel.schedule(START + 3, "near again");
+        assertEquals(4, wheel.size());
+
+        wheel.advanceTo(START + 2, fired::add);
+        assertEquals(List.of(), fired);
+        assertEquals(START + 2, wheel.getTime());
+
+        // expiry is inclusive of the time advanced to, and ties fire in the order scheduled
+        wheel.advanceTo(START + 70, fired::add);
+        assertEquals(List.of("near", "near again", "later"), fired);
+
+        wheel.advanceTo(START + 100_000, fired::add);
+        assertEquals(List.of("near", "near again", "later", "far"), fired);
+        assertEquals(0, wheel.size());
+        assertEquals(START + 100_000, wheel.getTime());
+    }
+
+    @Test
+    public void advanceTo_pastTarget_onlyFiresDueTimers() {
+        wheel.schedule(START - 10, "past");
+        wheel.advanceTo(START - 100, fired::add);
+        assertEquals(List.of("past"), fired);
+        assertEquals(START, wheel.getTime());
+    }
+
+    @Test
+    public void advanceTo_beyondTopLevel_firesOverflowTimers() {
+        long farAway = START + (1L << 30);
+        wheel.schedule(farAway, "overflow");
+        wheel.schedule(START + (1L << 20), "top level");
+
+        wheel.advanceTo(farAway - 1, fired::add);
+        assertEquals(List.of("top level"), fired);
+        wheel.advanceTo(farAway, fired::add);
+        assertEquals(List.of("top level", "overflow"), fired);
+    }
+
+    @Test
+    public void cancel_scheduledTimer_doesNotFire() {
+        Timer<String> cancelled = wheel.schedule(START + 100, "cancelled");
+        Timer<String> kept = wheel.schedule(START + 100, "kept");
+
+        assertTrue(wheel.cancel(cancelled));
+        assertFalse(cancelled.isScheduled());
+        assertFalse(wheel.cancel(cancelled));
+        assertEquals(1, wheel.size());
+
+        wheel.advanceTo(START + 200, fired::add);
+        assertEquals(List.of("kept"), fired);
+        assertFalse(kept.isScheduled());
+        assertFalse(wheel.cancel(kept));
+    }
+
+    @Test
+    public void advanceTo_callbackSchedulesDueTimer_firesInSameAdvance() {
+        wheel.schedule(START + 10, "first");
+        wheel.advanceTo(START + 20, value -> {
+            fired.add(value);
+            if (value.equals("first")) {
+                wheel.schedule(START + 15, "second");
+                wheel.schedule(START + 5, "overdue");
+            }
+        });
+        assertEquals(List.of("first", "overdue", "second"), fired);
+    }
+
+    @Test
+    public void clear_cancelsAllTimers() {
+        Timer<String> timer = wheel.schedule(START + 100, "cleared");
+        wheel.schedule(START + (1L << 30), "cleared too");
+        wheel.clear();
+
+        assertEquals(0, wheel.size());
+        assertFalse(timer.isScheduled());
+        wheel.advanceTo(START + (1L << 31), fired::add);
+        assertEquals(List.of(), fired);
+    }
+
+    @Test
+    public void advanceTo_randomTimers_firesAsSortedOrder() {
+        Random random = new Random(23);
+        List<Timer<String>> timers = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            long expiry = START + random.nextInt(1 << (1 + random.nextInt(28)));
+            timers.add(wheel.schedule(expiry, Integer.toString(i)));
+        }
+        List<Timer<String>> expected = new ArrayList<>();
+        for (Timer<String> timer : timers) {
+            if (random.nextInt(4) == 0) {
+                wheel.cancel(timer);
+            } else {
+                expected.add(timer);
+            }
+        }
+        expected.sort(Comparator.comparingLong(Timer::getExpiry));
+
+        // advance in uneven steps, checking each timer fires no earlier than its expiry
+        List<Long> firedAt = new ArrayList<>();
+        long time = START;
+        while (wheel.size() > 0) {
+            time += 1 + random.nextInt(1 << random.nextInt(24));
+            long stepEnd = time;
+            wheel.advanceTo(stepEnd, value -> {
+                fired.add(value);
+                firedAt.add(stepEnd);
+            });
+        }
+
+        assertEquals(expected.stream().map(Timer::getValue).toList(), fired);
+        for (int i = 0; i < expected.size(); i++) {
+            assertTrue(expected.get(i).getExpiry() <= firedAt.get(i));
+        }
+    }
+}
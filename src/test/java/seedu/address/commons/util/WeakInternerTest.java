@@ -0,0 +1,39 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class WeakInternerTest {
+
+    private final WeakInterner<String> interner = new WeakInterner<>();
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> interner.intern(null));
+    }
+
+    @Test
+    public void intern_equalValues_returnsFirstInstance() {
+        String first = new String("client");
+        String second = new String("client");
+        assertNotSame(first, second);
+
+        assertSame(first, interner.intern(first));
+        assertSame(first, interner.intern(second));
+        assertEquals(1, interner.size());
+    }
+
+    @Test
+    public void intern_differentValues_pooledSeparately() {
+        String client = interner.intern("client");
+        String friend = interner.intern("friend");
+
+        assertEquals("client", client);
+        assertEquals("friend", friend);
+        assertEquals(2, interner.size());
+    }
+}
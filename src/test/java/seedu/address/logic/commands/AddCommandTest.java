@@ -8,8 +8,13 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -22,7 +27,16 @@ import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.index.DeadlineEvent;
+import seedu.address.model.index.Facets;
+import seedu.address.model.index.ProjectDeadline;
+import seedu.address.model.index.ProjectStatistics;
+import seedu.address.model.index.ScoredPerson;
+import seedu.address.model.index.Workload;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.SortField;
+import seedu.address.model.tag.Project;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddCommandTest {
@@ -138,6 +152,27 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Optional<Person> findByPhone(Phone phone) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<ProjectDeadline> findProjectsDueBetween(Optional<LocalDateTime> from,
+                Optional<LocalDateTime> to) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Facets getFilteredPersonFacets() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<ScoredPerson> searchPersons(List<String> keywords, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deletePerson(Person target) {
             throw new AssertionError("This method should not be called.");
@@ -148,6 +183,31 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public boolean canUndoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getFilteredPersonList() {
             throw new AssertionError("This method should not be called.");
@@ -157,6 +217,46 @@ public class AddCommandTest {
         public void updateFilteredPersonList(Predicate<Person> predicate) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> order) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void sortFilteredPersonList(List<SortField> sortFields) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setProjectStatus(Project editedProject) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ProjectStatistics getProjectStatistics() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<DeadlineEvent> advanceDeadlines() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<String> getDueSoonProjectNames() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<String> getOverdueProjectNames() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Workload getWorkload(int weekCount, int weeklyCapacity) {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
@@ -0,0 +1,63 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.DeadlineInRangePredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Project;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FindByDeadlineCommand}.
+ */
+public class FindByDeadlineCommandTest {
+    private static final LocalDateTime APRIL_1 = LocalDateTime.of(2026, 4, 1, 0, 0);
+    private static final LocalDateTime APRIL_7 = LocalDateTime.of(2026, 4, 7, 23, 59);
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_noProjectDue_noPersonFound() {
+        DeadlineInRangePredicate predicate = new DeadlineInRangePredicate(Optional.of(APRIL_1), Optional.of(APRIL_7));
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(new FindByDeadlineCommand(predicate), model, expectedMessage, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_projectsDue_listedInDeadlineOrder() {
+        Project logo = new Project("logo", "Incomplete", "Unpaid", "06 Apr 2026 1200");
+        Project mural = new Project("mural", "Incomplete", "Unpaid", "02 Apr 2026 0900");
+        Person alice = new PersonBuilder(ALICE).withProjects("logo", "mural").build()
+                .replaceProject(logo).replaceProject(mural);
+        model.setPerson(ALICE, alice);
+        expectedModel.setPerson(ALICE, alice);
+
+        DeadlineInRangePredicate predicate = new DeadlineInRangePredicate(Optional.of(APRIL_1), Optional.of(APRIL_7));
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1) + "\n"
+                + "Tags: friends (1)\n"
+                + "Projects: 1 unpaid, 0 paid; 1 incomplete, 0 complete\n"
+                + FindByDeadlineCommand.MESSAGE_DUE_PROJECTS + "\n"
+                + "1. 02 Apr 2026 0900hrs: mural (Alice Pauline)\n"
+                + "2. 06 Apr 2026 1200hrs: logo (Alice Pauline)";
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(new FindByDeadlineCommand(predicate), model, expectedMessage, expectedModel);
+        assertEquals(List.of(alice), model.getFilteredPersonList());
+    }
+}
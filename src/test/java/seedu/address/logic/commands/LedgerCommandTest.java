@@ -0,0 +1,110 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PROJECT_X;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Ledger;
+import seedu.address.model.tag.LedgerEntry;
+import seedu.address.model.tag.LedgerEntry.Kind;
+import seedu.address.model.tag.LedgerTotals;
+import seedu.address.model.tag.Project;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for LedgerCommand.
+ */
+public class LedgerCommandTest {
+
+    private static final LedgerEntry INVOICED_500 = new LedgerEntry(Kind.INVOICED, 50_000);
+    private static final LedgerEntry PAID_120_50 = new LedgerEntry(Kind.PAID, 12_050);
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_sharedProject_updatesEveryMemberAndTotals() throws Exception {
+        // Benson, Carl and Daniel are all on project-x
+        CommandResult result = new LedgerCommand(INDEX_SECOND_PERSON, VALID_PROJECT_X,
+                List.of(INVOICED_500, PAID_120_50)).execute(model);
+
+        LedgerTotals expectedTotals = new LedgerTotals(50_000, 12_050);
+        assertEquals(String.format(LedgerCommand.MESSAGE_SUCCESS, VALID_PROJECT_X, expectedTotals),
+                result.getFeedbackToUser());
+        int members = 0;
+        for (Person person : model.getAddressBook().getPersonList()) {
+            for (Project project : person.getProjects()) {
+                assertEquals(List.of(INVOICED_500, PAID_120_50), project.getLedger().getEntries());
+                assertFalse(project.isPaid());
+                assertEquals(expectedTotals, person.getLedgerTotals());
+                members++;
+            }
+        }
+        assertEquals(3, members);
+        // the shared project is counted once in the overall totals
+        assertEquals(expectedTotals, model.getProjectStatistics().ledgerTotals());
+
+        // paying the rest settles the project
+        new LedgerCommand(INDEX_SECOND_PERSON, VALID_PROJECT_X, List.of(new LedgerEntry(Kind.PAID, 37_950)))
+                .execute(model);
+        assertTrue(model.getAddressBook().getProjectList().get(0).isPaid());
+        assertEquals(0, model.getProjectStatistics().ledgerTotals().outstanding());
+    }
+
+    @Test
+    public void execute_invalidPersonIndex_throwsCommandException() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 1);
+        LedgerCommand command = new LedgerCommand(outOfBoundIndex, VALID_PROJECT_X, List.of(INVOICED_500));
+        assertCommandFailure(command, model, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void execute_absentProject_throwsCommandException() {
+        // Alice is not on project-x
+        LedgerCommand command = new LedgerCommand(INDEX_FIRST_PERSON, VALID_PROJECT_X, List.of(INVOICED_500));
+        assertCommandFailure(command, model, Messages.MESSAGE_ABSENT_PROJECT);
+    }
+
+    @Test
+    public void execute_beyondMaxTotal_throwsCommandException() {
+        LedgerEntry invoicedMax = new LedgerEntry(Kind.INVOICED, LedgerEntry.MAX_AMOUNT);
+        int count = (int) (Ledger.MAX_TOTAL / LedgerEntry.MAX_AMOUNT) + 1;
+        LedgerCommand command = new LedgerCommand(INDEX_SECOND_PERSON, VALID_PROJECT_X,
+                Collections.nCopies(count, invoicedMax));
+        assertCommandFailure(command, model, Ledger.MESSAGE_TOTAL_CONSTRAINTS);
+    }
+
+    @Test
+    public void equals() {
+        LedgerCommand command = new LedgerCommand(INDEX_SECOND_PERSON, VALID_PROJECT_X, List.of(INVOICED_500));
+
+        // same values -> returns true
+        assertTrue(command.equals(new LedgerCommand(INDEX_SECOND_PERSON, VALID_PROJECT_X, List.of(INVOICED_500))));
+
+        // same object -> returns true
+        assertTrue(command.equals(command));
+
+        // null -> returns false
+        assertFalse(command.equals(null));
+
+        // different index -> returns false
+        assertFalse(command.equals(new LedgerCommand(INDEX_FIRST_PERSON, VALID_PROJECT_X, List.of(INVOICED_500))));
+
+        // different entries -> returns false
+        assertFalse(command.equals(new LedgerCommand(INDEX_SECOND_PERSON, VALID_PROJECT_X, List.of(PAID_120_50))));
+    }
+}
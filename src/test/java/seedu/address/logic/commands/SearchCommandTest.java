@@ -0,0 +1,103 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.index.ScoredPerson;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIdPredicate;
+import seedu.address.model.person.SortField;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code SearchCommand}.
+ */
+public class SearchCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        SearchCommand searchFirstCommand = new SearchCommand(List.of("first"), 10);
+        SearchCommand searchSecondCommand = new SearchCommand(List.of("second"), 10);
+
+        // same object -> returns true
+        assertTrue(searchFirstCommand.equals(searchFirstCommand));
+
+        // same values -> returns true
+        assertTrue(searchFirstCommand.equals(new SearchCommand(List.of("first"), 10)));
+
+        // different types -> returns false
+        assertFalse(searchFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(searchFirstCommand.equals(null));
+
+        // different keywords or limit -> returns false
+        assertFalse(searchFirstCommand.equals(searchSecondCommand));
+        assertFalse(searchFirstCommand.equals(new SearchCommand(List.of("first"), 5)));
+    }
+
+    @Test
+    public void execute_noMatches_noPersonFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0);
+        expectedModel.updateFilteredPersonList(new PersonIdPredicate(Set.of()));
+        assertCommandSuccess(new SearchCommand(List.of("nobody"), 10), model, expectedMessage, expectedModel);
+        assertEquals(List.of(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_keywords_rankedPersonsListed() {
+        List<ScoredPerson> ranked = expectedModel.searchPersons(List.of("meier", "friends"), 10);
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3) + "\n"
+                + "Tags: friends (3), owesmoney (1)\n"
+                + "Projects: 2 unpaid, 0 paid; 2 incomplete, 0 complete\n"
+                + SearchCommand.MESSAGE_RANKED_PERSONS + "\n"
+                + "1. " + ranked.get(0) + "\n"
+                + "2. " + ranked.get(1) + "\n"
+                + "3. " + ranked.get(2);
+        List<Person> rankedPersons = ranked.stream().map(ScoredPerson::person).toList();
+        expectedModel.updateFilteredPersonList(
+                new PersonIdPredicate(Set.of(ALICE.getId(), BENSON.getId(), DANIEL.getId())),
+                Comparator.comparingInt(rankedPersons::indexOf));
+
+        assertCommandSuccess(new SearchCommand(List.of("meier", "friends"), 10), model, expectedMessage,
+                expectedModel);
+        assertEquals(DANIEL, ranked.get(0).person());
+        // listed in rank order rather than address book order
+        assertEquals(rankedPersons, model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_thenList_rankOrderDropped() {
+        model.sortFilteredPersonList(List.of(SortField.PHONE));
+        new SearchCommand(List.of("meier", "friends"), 10).execute(model);
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+
+        expectedModel.sortFilteredPersonList(List.of(SortField.PHONE));
+        assertEquals(expectedModel.getFilteredPersonList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        SearchCommand searchCommand = new SearchCommand(List.of("keyword"), 10);
+        String expected = SearchCommand.class.getCanonicalName() + "{keywords=[keyword], limit=10}";
+        assertEquals(expected, searchCommand.toString());
+    }
+}
@@ -1,5 +1,7 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_PROJECT_X;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_PROJECT_Y;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
@@ -169,6 +171,21 @@ public class SetStatusCommandTest {
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_sharedProject_updatesEveryMember() throws Exception {
+        SetStatusDescriptor descriptor = new SetStatusDescriptor().setIsPaid(true);
+
+        // Benson, Carl and Daniel are all on project-x
+        new SetStatusCommand(Index.fromOneBased(2), VALID_PROJECT_X, descriptor).execute(model);
+
+        for (Person person : model.getAddressBook().getPersonList()) {
+            person.getProjects().forEach(project -> assertTrue(project.isPaid()));
+        }
+        assertEquals(3, model.getAddressBook().getPersonList().stream()
+                .filter(person -> !person.getProjects().isEmpty())
+                .count());
+    }
+
     @Test
     public void execute_invalidPersonIndex_throwsCommandException() {
         Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 1);
@@ -0,0 +1,75 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.SortField;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code SortCommand}.
+ */
+public class SortCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        SortCommand sortByNameCommand = new SortCommand(List.of(SortField.NAME));
+        SortCommand sortByPhoneCommand = new SortCommand(List.of(SortField.PHONE));
+
+        // same object -> returns true
+        assertTrue(sortByNameCommand.equals(sortByNameCommand));
+
+        // same values -> returns true
+        assertTrue(sortByNameCommand.equals(new SortCommand(List.of(SortField.NAME))));
+
+        // different types -> returns false
+        assertFalse(sortByNameCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(sortByNameCommand.equals(null));
+
+        // different fields -> returns false
+        assertFalse(sortByNameCommand.equals(sortByPhoneCommand));
+    }
+
+    @Test
+    public void execute_multipleFields_personsSorted() {
+        List<SortField> fields = List.of(SortField.UNPAID, SortField.PHONE);
+        expectedModel.sortFilteredPersonList(fields);
+        assertCommandSuccess(new SortCommand(fields), model,
+                String.format(SortCommand.MESSAGE_SUCCESS, "unpaid, then phone"), expectedModel);
+        assertEquals(List.of(DANIEL, CARL, BENSON, ALICE, ELLE, FIONA, GEORGE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_noFields_orderAddedRestored() {
+        model.sortFilteredPersonList(List.of(SortField.PHONE));
+        assertCommandSuccess(new SortCommand(List.of()), model, SortCommand.MESSAGE_UNSORTED, expectedModel);
+        assertEquals(getTypicalAddressBook().getPersonList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        SortCommand sortCommand = new SortCommand(List.of(SortField.NAME));
+        String expected = SortCommand.class.getCanonicalName() + "{sortFields=[NAME]}";
+        assertEquals(expected, sortCommand.toString());
+    }
+}
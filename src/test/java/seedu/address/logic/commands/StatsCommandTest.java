@@ -0,0 +1,33 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.index.ProjectStatistics;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code StatsCommand}.
+ */
+public class StatsCommandTest {
+
+    @Test
+    public void execute_typicalAddressBook_showsStatistics() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+        ProjectStatistics statistics = model.getProjectStatistics();
+        // project-x is shared by Benson, Carl and Daniel, and is counted once
+        assertEquals(1, statistics.projectCount());
+        assertEquals(1, statistics.unpaidCount());
+        assertEquals(3, statistics.unpaidClientCount());
+
+        String expectedMessage = String.format(StatsCommand.MESSAGE_SUCCESS, statistics);
+        assertCommandSuccess(new StatsCommand(), model, expectedMessage, expectedModel);
+    }
+}
@@ -0,0 +1,58 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.index.Workload;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code WorkloadCommand}.
+ */
+public class WorkloadCommandTest {
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, WorkloadCommand.MESSAGE_CONSTRAINTS, () ->
+                new WorkloadCommand(0));
+    }
+
+    @Test
+    public void execute_typicalAddressBook_showsWorkload() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+        Workload workload = model.getWorkload(WorkloadCommand.WEEKS, 3);
+        assertEquals(WorkloadCommand.WEEKS, workload.weeks().size());
+        assertEquals(3, workload.weeklyCapacity());
+
+        CommandResult expectedResult = new CommandResult(String.format(WorkloadCommand.MESSAGE_SUCCESS, workload),
+                workload);
+        assertCommandSuccess(new WorkloadCommand(3), model, expectedResult, expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        WorkloadCommand workloadCommand = new WorkloadCommand(3);
+
+        // same values -> returns true
+        assertTrue(workloadCommand.equals(new WorkloadCommand(3)));
+
+        // same object -> returns true
+        assertTrue(workloadCommand.equals(workloadCommand));
+
+        // null -> returns false
+        assertFalse(workloadCommand.equals(null));
+
+        // different capacity -> returns false
+        assertFalse(workloadCommand.equals(new WorkloadCommand(4)));
+    }
+}
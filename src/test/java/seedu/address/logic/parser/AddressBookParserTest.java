@@ -21,15 +21,25 @@ import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.LedgerCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.SearchCommand;
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.TagCommand;
 import seedu.address.logic.commands.UnTagCommand;
+import seedu.address.logic.commands.UndoCommand;
+import seedu.address.logic.commands.WorkloadCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.EditPersonDescriptor;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.PhoneContainsKeywordsPredicate;
+import seedu.address.model.person.SortField;
+import seedu.address.model.tag.LedgerEntry;
+import seedu.address.model.tag.LedgerEntry.Kind;
 import seedu.address.storage.Storage;
 import seedu.address.testutil.EditPersonDescriptorBuilder;
 import seedu.address.testutil.PersonBuilder;
@@ -113,6 +123,18 @@ public class AddressBookParserTest {
         assertEquals(new FindCommand(new PhoneContainsKeywordsPredicate(keywords)), command);
     }
 
+    @Test
+    public void parseCommand_search() throws Exception {
+        SearchCommand command = (SearchCommand) parser.parseCommand(SearchCommand.COMMAND_WORD + " foo bar");
+        assertEquals(new SearchCommand(Arrays.asList("foo", "bar"), SearchCommand.DEFAULT_LIMIT), command);
+    }
+
+    @Test
+    public void parseCommand_sort() throws Exception {
+        SortCommand command = (SortCommand) parser.parseCommand(SortCommand.COMMAND_WORD + " deadline name");
+        assertEquals(new SortCommand(List.of(SortField.DEADLINE, SortField.NAME)), command);
+    }
+
     @Test
     public void parseCommand_help() throws Exception {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD) instanceof HelpCommand);
@@ -125,6 +147,35 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD + " 3") instanceof ListCommand);
     }
 
+    @Test
+    public void parseCommand_stats() throws Exception {
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD) instanceof StatsCommand);
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD + " 3") instanceof StatsCommand);
+    }
+
+    @Test
+    public void parseCommand_ledger() throws Exception {
+        LedgerCommand command = (LedgerCommand) parser.parseCommand(LedgerCommand.COMMAND_WORD + " "
+                + INDEX_FIRST_PERSON.getOneBased() + " proj/mural inv/1200");
+        assertEquals(new LedgerCommand(INDEX_FIRST_PERSON, "mural",
+                List.of(new LedgerEntry(Kind.INVOICED, 120_000))), command);
+    }
+
+    @Test
+    public void parseCommand_workload() throws Exception {
+        assertEquals(new WorkloadCommand(WorkloadCommand.DEFAULT_WEEKLY_CAPACITY),
+                parser.parseCommand(WorkloadCommand.COMMAND_WORD));
+        assertEquals(new WorkloadCommand(3), parser.parseCommand(WorkloadCommand.COMMAND_WORD + " 3"));
+    }
+
+    @Test
+    public void parseCommand_undoRedo() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD + " 3") instanceof UndoCommand);
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD) instanceof RedoCommand);
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD + " 3") instanceof RedoCommand);
+    }
+
     @Test
     public void parseCommand_save() {
         assertThrows(ParseException.class, String.format("Unknown command"), (
@@ -5,15 +5,26 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
-import seedu.address.logic.Messages;
+import seedu.address.logic.commands.FindByDeadlineCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.DeadlineInRangePredicate;
+import seedu.address.model.person.EmailContainsKeywordsPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.PhoneContainsKeywordsPredicate;
+import seedu.address.model.person.ProjectNamePredicate;
+import seedu.address.model.person.TagAndStatusPredicate;
+import seedu.address.model.query.AndQuery;
+import seedu.address.model.query.TermQuery;
+import seedu.address.model.tag.Project;
+import seedu.address.model.tag.Tag;
 
 public class FindCommandParserTest {
 
@@ -32,6 +43,28 @@ public class FindCommandParserTest {
                 Arrays.asList("88888888", "66666666", "88886666"))), command);
     }
 
+    @Test
+    public void parse_partialPhoneKeywords_returnsFindCommandWithPhonePredicate() throws ParseException {
+        FindCommand command = parser.parse(" p/9123* *4567 88888888");
+        assertEquals(new FindCommand(new PhoneContainsKeywordsPredicate(
+                Arrays.asList("9123*", "*4567", "88888888"))), command);
+    }
+
+    @Test
+    public void parse_invalidPartialPhoneKeywords_throwsParseException() {
+        assertParseFailure(parser, " p/*", "Phone number must be numeric.");
+        assertParseFailure(parser, " p/*123*", "Phone number must be numeric.");
+        assertParseFailure(parser, " p/12*3", "Phone number must be numeric.");
+    }
+
+    @Test
+    public void parse_booleanQuery_returnsFindCommandWithQuery() throws ParseException {
+        assertEquals(new FindCommand(new AndQuery(List.of(
+                new TermQuery(new NameContainsKeywordsPredicate(List.of("alice"))),
+                new TermQuery(new PhoneContainsKeywordsPredicate(List.of("9435*")))))),
+                parser.parse(" n/alice AND p/9435*"));
+    }
+
     @Test
     public void parse_nameKeywords_returnsFindCommandWithNamePredicate() throws ParseException {
         String input = " n/Alice Bob Charlie";
@@ -41,17 +74,100 @@ public class FindCommandParserTest {
     }
 
     @Test
-    public void parse_mixedPrefixes_throwsParseException() {
-        String input = " n/Alice p/88888888";
-        ParseException exception = assertThrows(ParseException.class, () -> parser.parse(input));
-        assertEquals(Messages.MESSAGE_MULTIPLE_PREFIXES_PROVIDED + "\n" + FindCommand.MESSAGE_USAGE,
-                exception.getMessage());
+    public void parse_partialNameKeywords_returnsFindCommandWithNamePredicate() throws ParseException {
+        FindCommand command = parser.parse(" n/ali* Bob");
+        assertEquals(new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList("ali*", "Bob"))), command);
+    }
+
+    @Test
+    public void parse_emptyPartialNameKeyword_throwsParseException() {
+        assertParseFailure(parser, " n/Alice *", "Partial name must have at least one character before '*'.");
+    }
+
+    @Test
+    public void parse_fuzzyNameKeywords_returnsFindCommandWithNamePredicate() throws ParseException {
+        FindCommand command = parser.parse(" n/bernise~ yo~2");
+        assertEquals(new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList("bernise~", "yo~2"))), command);
+    }
+
+    @Test
+    public void parse_invalidFuzzyNameKeyword_throwsParseException() {
+        assertParseFailure(parser, " n/Alice ~2", "Fuzzy name must have at least one character before '~'.");
+        assertParseFailure(parser, " n/Alice~4", "Fuzzy name must allow at most 3 edits.");
+    }
+
+    @Test
+    public void parse_tagAndStatusFilters_returnsFindCommandWithTagAndStatusPredicate() throws ParseException {
+        assertEquals(new FindCommand(new TagAndStatusPredicate(List.of("client", "friends"),
+                Optional.empty(), Optional.empty())), parser.parse(" t/Client friends"));
+        assertEquals(new FindCommand(new TagAndStatusPredicate(List.of(),
+                Optional.of(false), Optional.empty())), parser.parse(" pay/unpaid"));
+        assertEquals(new FindCommand(new TagAndStatusPredicate(List.of("client"),
+                Optional.of(true), Optional.of(false))), parser.parse(" prog/incomplete t/client pay/PAID"));
+    }
+
+    @Test
+    public void parse_invalidTagAndStatusFilters_throwsParseException() {
+        assertParseFailure(parser, " t/ ", "Tag must not be empty.");
+        assertParseFailure(parser, " t/client! pay/paid", Tag.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " pay/owed", Project.MESSAGE_PAYMENT_CONSTRAINTS);
+        assertParseFailure(parser, " prog/done", Project.MESSAGE_PROGRESS_CONSTRAINTS);
+        assertThrows(ParseException.class, () -> parser.parse(" pay/paid pay/unpaid"));
+    }
+
+    @Test
+    public void parse_deadlineRange_returnsFindByDeadlineCommand() throws ParseException {
+        LocalDateTime april1 = LocalDateTime.of(2026, 4, 1, 0, 0);
+        LocalDateTime april7 = LocalDateTime.of(2026, 4, 7, 23, 59);
+        assertEquals(new FindByDeadlineCommand(new DeadlineInRangePredicate(Optional.empty(), Optional.of(april7))),
+                parser.parse(" by/07 Apr 2026 2359"));
+        assertEquals(new FindByDeadlineCommand(new DeadlineInRangePredicate(Optional.of(april1), Optional.empty())),
+                parser.parse(" from/01 Apr 2026 0000"));
+        assertEquals(new FindByDeadlineCommand(new DeadlineInRangePredicate(Optional.of(april1), Optional.of(april7))),
+                parser.parse(" from/01 apr 2026 0000 by/07 Apr 2026 2359"));
+    }
+
+    @Test
+    public void parse_invalidDeadlineRange_throwsParseException() {
+        assertParseFailure(parser, " by/2026-04-07", Project.MESSAGE_DEADLINE_CONSTRAINTS);
+        assertParseFailure(parser, " from/07 Apr 2026 2359 by/01 Apr 2026 0000",
+                FindCommandParser.MESSAGE_INVALID_DEADLINE_RANGE);
+        assertThrows(ParseException.class, () -> parser.parse(" by/01 Apr 2026 0000 by/07 Apr 2026 2359"));
+        assertParseFailure(parser, " (from/07 Apr 2026 2359 by/01 Apr 2026 0000)",
+                FindCommandParser.MESSAGE_INVALID_DEADLINE_RANGE);
+    }
+
+    @Test
+    public void parse_bracketedDeadlineRange_sameAsPlainDeadlineRange() throws ParseException {
+        assertEquals(parser.parse(" from/01 Apr 2026 0000 by/07 Apr 2026 2359"),
+                parser.parse(" (from/01 Apr 2026 0000 by/07 Apr 2026 2359)"));
+        assertEquals(parser.parse(" by/07 Apr 2026 2359"), parser.parse(" (by/07 Apr 2026 2359)"));
+    }
+
+    @Test
+    public void parse_mixedPrefixes_returnsQueryMatchingAllTerms() throws ParseException {
+        assertEquals(new FindCommand(new AndQuery(List.of(
+                new TermQuery(new NameContainsKeywordsPredicate(List.of("Alice"))),
+                new TermQuery(new PhoneContainsKeywordsPredicate(List.of("88888888")))))),
+                parser.parse(" n/Alice p/88888888"));
+        assertEquals(parser.parse(" n/Alice AND p/88888888"), parser.parse(" n/Alice p/88888888"));
+        assertEquals(parser.parse(" n/Alice AND t/client"), parser.parse(" n/Alice t/client"));
+        assertEquals(parser.parse(" t/client AND (from/01 Apr 2026 0000 by/07 Apr 2026 2359)"),
+                parser.parse(" t/client from/01 Apr 2026 0000 by/07 Apr 2026 2359"));
+    }
+
+    @Test
+    public void parse_emailOrProject_returnsQuery() throws ParseException {
+        assertEquals(new FindCommand(new TermQuery(new EmailContainsKeywordsPredicate(List.of("alice@example.com")))),
+                parser.parse(" e/alice@example.com"));
+        assertEquals(new FindCommand(new TermQuery(new ProjectNamePredicate(List.of("mural")))),
+                parser.parse(" proj/mural"));
+        assertParseFailure(parser, " e/ ", "Email must not be empty.");
     }
 
     @Test
     public void parse_invalidPrefix_throwsParseException() {
         assertThrows(ParseException.class, () -> parser.parse(" x/Alice"));
-        assertThrows(ParseException.class, () -> parser.parse(" e/12345"));
     }
 
     @Test
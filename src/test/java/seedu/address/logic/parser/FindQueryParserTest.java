@@ -0,0 +1,87 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.EmailContainsKeywordsPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.PhoneContainsKeywordsPredicate;
+import seedu.address.model.person.ProjectNamePredicate;
+import seedu.address.model.person.TagAndStatusPredicate;
+import seedu.address.model.query.AndQuery;
+import seedu.address.model.query.NotQuery;
+import seedu.address.model.query.OrQuery;
+import seedu.address.model.query.Query;
+import seedu.address.model.query.TermQuery;
+
+public class FindQueryParserTest {
+
+    private static final Query NAME_ALICE = new TermQuery(new NameContainsKeywordsPredicate(List.of("alice")));
+    private static final Query PHONE_9435 = new TermQuery(new PhoneContainsKeywordsPredicate(List.of("9435*")));
+    private static final Query TAG_FRIENDS = new TermQuery(
+            new TagAndStatusPredicate(List.of("friends"), Optional.empty(), Optional.empty()));
+    private static final Query PAID = new TermQuery(
+            new TagAndStatusPredicate(List.of(), Optional.of(true), Optional.empty()));
+
+    private final FindQueryParser parser = new FindQueryParser();
+
+    @Test
+    public void isQuery() {
+        assertTrue(FindQueryParser.isQuery(" n/alice AND p/9435*"));
+        assertTrue(FindQueryParser.isQuery(" NOT t/friends"));
+        assertTrue(FindQueryParser.isQuery(" (n/alice)"));
+        assertFalse(FindQueryParser.isQuery(" n/alice bob"));
+        assertFalse(FindQueryParser.isQuery(" n/Andy Orwell"));
+    }
+
+    @Test
+    public void parse_precedence() throws Exception {
+        // NOT binds tighter than AND, which binds tighter than OR
+        assertEquals(new OrQuery(List.of(NAME_ALICE, new AndQuery(List.of(TAG_FRIENDS, new NotQuery(PAID))))),
+                parser.parse(" n/alice OR t/friends AND NOT pay/paid"));
+
+        // brackets override precedence
+        assertEquals(new AndQuery(List.of(NAME_ALICE, new OrQuery(List.of(TAG_FRIENDS, new NotQuery(PAID))))),
+                parser.parse(" n/alice AND (t/friends OR NOT pay/paid)"));
+    }
+
+    @Test
+    public void parse_adjacentTerms_joinedWithAnd() throws Exception {
+        assertEquals(new AndQuery(List.of(NAME_ALICE, PHONE_9435)), parser.parse(" n/alice p/9435*"));
+        assertEquals(new AndQuery(List.of(NAME_ALICE, new NotQuery(TAG_FRIENDS))),
+                parser.parse(" (n/alice) NOT t/friends"));
+    }
+
+    @Test
+    public void parse_termWords_runToNextOperator() throws Exception {
+        assertEquals(new OrQuery(List.of(
+                new TermQuery(new NameContainsKeywordsPredicate(List.of("alice", "bob"))),
+                new TermQuery(new EmailContainsKeywordsPredicate(List.of("example.com", "test"))),
+                new TermQuery(new ProjectNamePredicate(List.of("project-x"))))),
+                parser.parse(" n/alice bob OR e/example.com test OR proj/project-x"));
+    }
+
+    @Test
+    public void parse_invalidQuery_throwsParseException() {
+        assertThrows(ParseException.class, String.format(FindQueryParser.MESSAGE_MISSING_TERM, "AND"), () ->
+                parser.parse(" n/alice AND"));
+        assertThrows(ParseException.class, String.format(FindQueryParser.MESSAGE_MISSING_TERM, "OR"), () ->
+                parser.parse(" n/alice OR AND t/friends"));
+        assertThrows(ParseException.class, String.format(FindQueryParser.MESSAGE_UNEXPECTED_TOKEN, "alice"), () ->
+                parser.parse(" alice AND t/friends"));
+        assertThrows(ParseException.class, String.format(FindQueryParser.MESSAGE_UNEXPECTED_TOKEN, ")"), () ->
+                parser.parse(" n/alice) AND t/friends"));
+        assertThrows(ParseException.class, FindQueryParser.MESSAGE_UNCLOSED_BRACKET, () ->
+                parser.parse(" (n/alice AND t/friends"));
+        assertThrows(ParseException.class, "Email must not be empty.", () ->
+                parser.parse(" e/ OR n/alice"));
+    }
+}
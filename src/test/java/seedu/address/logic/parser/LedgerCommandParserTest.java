@@ -0,0 +1,43 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.LedgerCommand;
+import seedu.address.model.tag.LedgerEntry;
+import seedu.address.model.tag.LedgerEntry.Kind;
+
+public class LedgerCommandParserTest {
+
+    private final LedgerCommandParser parser = new LedgerCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsLedgerCommand() {
+        assertParseSuccess(parser, "1 proj/mural inv/1200", new LedgerCommand(INDEX_FIRST_PERSON, "mural",
+                List.of(new LedgerEntry(Kind.INVOICED, 120_000))));
+
+        // the amount invoiced is entered before the amount paid, whatever their order
+        assertParseSuccess(parser, "1 proj/mural paid/400.5 inv/1200", new LedgerCommand(INDEX_FIRST_PERSON, "mural",
+                List.of(new LedgerEntry(Kind.INVOICED, 120_000), new LedgerEntry(Kind.PAID, 40_050))));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String invalidFormat = String.format(MESSAGE_INVALID_COMMAND_FORMAT, LedgerCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "proj/mural inv/1200", invalidFormat);
+        assertParseFailure(parser, "1 inv/1200", invalidFormat);
+
+        assertParseFailure(parser, "1 proj/mural", LedgerCommand.MESSAGE_NO_ENTRY);
+        assertParseFailure(parser, "1 proj/mural inv/12.345", LedgerEntry.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "1 proj/mural paid/0", LedgerEntry.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "1 proj/mural paid/1 paid/2",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_PAID));
+    }
+}
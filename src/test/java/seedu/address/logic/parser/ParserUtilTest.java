@@ -162,4 +162,15 @@ public class ParserUtilTest {
 
         assertEquals(expectedTagSet, actualTagSet);
     }
+
+    @Test
+    public void parseAmount_invalidValue_throwsParseException() {
+        assertThrows(ParseException.class, () -> ParserUtil.parseAmount("12.345"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseAmount("0"));
+    }
+
+    @Test
+    public void parseAmount_validValueWithWhitespace_returnsCents() throws Exception {
+        assertEquals(120_050, ParserUtil.parseAmount(WHITESPACE + "1200.50" + WHITESPACE));
+    }
 }
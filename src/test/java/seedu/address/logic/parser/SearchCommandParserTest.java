@@ -0,0 +1,29 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.SearchCommand;
+
+public class SearchCommandParserTest {
+
+    private final SearchCommandParser parser = new SearchCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_validArgs_returnsSearchCommand() {
+        SearchCommand expectedCommand = new SearchCommand(List.of("alice", "project-x"), SearchCommand.DEFAULT_LIMIT);
+        assertParseSuccess(parser, "alice project-x", expectedCommand);
+        assertParseSuccess(parser, " \n alice \n \t project-x  \t", expectedCommand);
+    }
+}
@@ -0,0 +1,34 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.model.person.SortField;
+
+public class SortCommandParserTest {
+
+    private final SortCommandParser parser = new SortCommandParser();
+
+    @Test
+    public void parse_noFields_returnsUnsortedCommand() {
+        assertParseSuccess(parser, "   ", new SortCommand(List.of()));
+    }
+
+    @Test
+    public void parse_validFields_returnsSortCommand() {
+        assertParseSuccess(parser, " name", new SortCommand(List.of(SortField.NAME)));
+        assertParseSuccess(parser, " Unpaid  deadline \n name",
+                new SortCommand(List.of(SortField.UNPAID, SortField.DEADLINE, SortField.NAME)));
+    }
+
+    @Test
+    public void parse_invalidFields_throwsParseException() {
+        assertParseFailure(parser, " name email", SortField.MESSAGE_CONSTRAINTS + "\n" + SortCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " name phone NAME", SortCommandParser.MESSAGE_DUPLICATE_FIELD);
+    }
+}
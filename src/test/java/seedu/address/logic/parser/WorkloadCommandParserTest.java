@@ -0,0 +1,33 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.WorkloadCommand;
+
+public class WorkloadCommandParserTest {
+
+    private final WorkloadCommandParser parser = new WorkloadCommandParser();
+
+    @Test
+    public void parse_noCapacity_returnsDefaultCommand() {
+        assertParseSuccess(parser, "  ", new WorkloadCommand(WorkloadCommand.DEFAULT_WEEKLY_CAPACITY));
+    }
+
+    @Test
+    public void parse_validCapacity_returnsWorkloadCommand() {
+        assertParseSuccess(parser, " 3 ", new WorkloadCommand(3));
+    }
+
+    @Test
+    public void parse_invalidCapacity_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, WorkloadCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " 0", expectedMessage);
+        assertParseFailure(parser, " -2", expectedMessage);
+        assertParseFailure(parser, " three", expectedMessage);
+        assertParseFailure(parser, " 3 4", expectedMessage);
+    }
+}
@@ -19,6 +19,7 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.tag.Project;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddressBookTest {
@@ -102,6 +103,11 @@ public class AddressBookTest {
         public ObservableList<Person> getPersonList() {
             return persons;
         }
+
+        @Override
+        public List<Project> getProjectList() {
+            return List.of();
+        }
     }
 
 }
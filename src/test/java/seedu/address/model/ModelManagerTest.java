@@ -7,16 +7,38 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.index.DeadlineEvent;
+import seedu.address.model.index.DeadlineEvent.Kind;
+import seedu.address.model.index.Facets;
+import seedu.address.model.person.EmailContainsKeywordsPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.SortField;
+import seedu.address.model.person.TagAndStatusPredicate;
+import seedu.address.model.tag.Project;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -39,11 +61,43 @@ public class ModelManagerTest {
         assertThrows(NullPointerException.class, () -> modelManager.setGuiSettings(null));
     }
 
+    @Test
+    public void updateFilteredPersonList_parallelScan_filtersInListOrder() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setParallelScanThreshold(1);
+        modelManager = new ModelManager(getTypicalAddressBook(), userPrefs);
+        modelManager.updateFilteredPersonList(new EmailContainsKeywordsPredicate(List.of("example")));
+        assertEquals(getTypicalAddressBook().getPersonList().stream()
+                .filter(new EmailContainsKeywordsPredicate(List.of("example"))).toList(),
+                modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void sortFilteredPersonList_orderKeptAcrossChanges() {
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(ALICE);
+        modelManager.sortFilteredPersonList(List.of(SortField.NAME));
+        assertEquals(List.of(ALICE, BENSON), modelManager.getFilteredPersonList());
+
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Zara Pauline").build();
+        modelManager.setPerson(ALICE, renamedAlice);
+        modelManager.addPerson(HOON);
+        assertEquals(List.of(BENSON, HOON, renamedAlice), modelManager.getFilteredPersonList());
+
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("Meier")));
+        assertEquals(List.of(BENSON, HOON), modelManager.getFilteredPersonList());
+
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        modelManager.sortFilteredPersonList(List.of());
+        assertEquals(List.of(BENSON, renamedAlice, HOON), modelManager.getFilteredPersonList());
+    }
+
     @Test
     public void setUserPrefs_validUserPrefs_copiesUserPrefs() {
         UserPrefs userPrefs = new UserPrefs();
         userPrefs.setAddressBookFilePath(Paths.get("address/book/file/path"));
         userPrefs.setGuiSettings(new GuiSettings(1, 2, 3, 4));
+        userPrefs.setParallelScanThreshold(10);
         modelManager.setUserPrefs(userPrefs);
         assertEquals(userPrefs, modelManager.getUserPrefs());
 
@@ -93,6 +147,146 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void getFilteredPersonFacets_countsFilteredPersons() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        modelManager.updateFilteredPersonList(
+                new TagAndStatusPredicate(List.of("friends"), Optional.empty(), Optional.empty()));
+        assertEquals(new Facets(Map.of("friends", 3, "owesmoney", 1), 0, 2, 0, 2),
+                modelManager.getFilteredPersonFacets());
+    }
+
+    @Test
+    public void updateFilteredPersonList_samePredicate_notRetested() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        CountingPredicate predicate = new CountingPredicate(person -> true);
+
+        modelManager.updateFilteredPersonList(predicate);
+        assertEquals(2, predicate.count);
+        modelManager.updateFilteredPersonList(predicate);
+        assertEquals(2, predicate.count);
+    }
+
+    @Test
+    public void updateFilteredPersonList_addressBookChanges_onlyChangedPersonsTested() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        CountingPredicate predicate = new CountingPredicate(
+                new NameContainsKeywordsPredicate(Arrays.asList("Alice", "Hoon")));
+        modelManager.updateFilteredPersonList(predicate);
+        assertEquals(List.of(ALICE), modelManager.getFilteredPersonList());
+
+        modelManager.setPerson(BENSON, new PersonBuilder(BENSON).withName("Benson Hoon").build());
+        assertEquals(3, predicate.count);
+        assertEquals(2, modelManager.getFilteredPersonList().size());
+
+        modelManager.setPerson(ALICE, new PersonBuilder(ALICE).withName("Alicia Pauline").build());
+        assertEquals(4, predicate.count);
+        assertEquals(1, modelManager.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void updateFilteredPersonList_recentPredicate_onlyChangesSinceTested() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        CountingPredicate predicate = new CountingPredicate(
+                new NameContainsKeywordsPredicate(Arrays.asList("Alice", "Hoon")));
+        modelManager.updateFilteredPersonList(predicate);
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(2, predicate.count);
+
+        // unchanged since -> served from the cache
+        modelManager.updateFilteredPersonList(predicate);
+        assertEquals(2, predicate.count);
+        assertEquals(List.of(ALICE), modelManager.getFilteredPersonList());
+
+        // changed since -> only the added persons are tested
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        modelManager.addPerson(HOON);
+        modelManager.deletePerson(ALICE);
+        modelManager.updateFilteredPersonList(predicate);
+        assertEquals(3, predicate.count);
+        assertEquals(List.of(HOON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_indexedPredicate_keptForNewPersons() {
+        modelManager.addPerson(ALICE);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("Benson")));
+        assertEquals(List.of(), modelManager.getFilteredPersonList());
+
+        // persons that were not among the looked up matches are tested with the predicate itself
+        modelManager.setPerson(ALICE, new PersonBuilder(ALICE).withName("Benson Pauline").build());
+        assertEquals(1, modelManager.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void setProjectStatus_projectWithMembers_updatesEveryMember() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(CARL);
+        modelManager.commitAddressBook();
+        Project paidProject = new Project("project-x", "Complete", "Paid", "01 Apr 2026 1200");
+
+        modelManager.setProjectStatus(paidProject);
+        modelManager.commitAddressBook();
+        for (Person member : modelManager.getAddressBook().getPersonList().subList(1, 3)) {
+            assertTrue(member.getProjects().iterator().next().isPaid());
+        }
+        assertTrue(modelManager.getAddressBook().getProjectList().get(0).isPaid());
+
+        // one undo restores every member
+        modelManager.undoAddressBook();
+        for (Person member : modelManager.getAddressBook().getPersonList().subList(1, 3)) {
+            assertFalse(member.getProjects().iterator().next().isPaid());
+        }
+        assertFalse(modelManager.getAddressBook().getProjectList().get(0).isPaid());
+    }
+
+    @Test
+    public void addPerson_existingProject_takesSharedStatus() {
+        modelManager.addPerson(BENSON);
+        modelManager.setProjectStatus(new Project("project-x", "Complete", "Paid", "01 Apr 2026 1200"));
+
+        modelManager.addPerson(CARL);
+        Person addedCarl = modelManager.getAddressBook().getPersonList().get(1);
+        assertTrue(addedCarl.getProjects().iterator().next().isPaid());
+    }
+
+    @Test
+    public void advanceDeadlines_followsChangesToAddressBook() {
+        AdjustableClock clock = new AdjustableClock(LocalDateTime.of(2026, 4, 1, 12, 0));
+        modelManager = new ModelManager(new AddressBook(), new UserPrefs(), clock);
+        Project logo = new Project("logo", "Incomplete", "Unpaid", "03 Apr 2026 1200");
+        modelManager.addPerson(new PersonBuilder(ALICE).withProjects("logo").build().replaceProject(logo));
+
+        clock.setTime(LocalDateTime.of(2026, 4, 2, 12, 30));
+        assertEquals(List.of(new DeadlineEvent(Kind.DUE_SOON, logo)), modelManager.advanceDeadlines());
+
+        // a project completed after it was scheduled does not become overdue
+        modelManager.setProjectStatus(new Project("logo", "Complete", "Unpaid", "03 Apr 2026 1200"));
+        clock.setTime(LocalDateTime.of(2026, 4, 4, 12, 0));
+        assertEquals(List.of(), modelManager.advanceDeadlines());
+    }
+
+    @Test
+    public void getDeadlineProjectNames_followChangesToAddressBook() {
+        modelManager = new ModelManager(new AddressBook(), new UserPrefs(),
+                new AdjustableClock(LocalDateTime.of(2026, 4, 1, 12, 0)));
+        Person aliceOnLogo = new PersonBuilder(ALICE).withProjects("logo").build()
+                .replaceProject(new Project("logo", "Incomplete", "Unpaid", "02 Apr 2026 0900"));
+        Person bensonOnPoster = new PersonBuilder(BENSON).withProjects("poster").build()
+                .replaceProject(new Project("poster", "Incomplete", "Unpaid", "01 Mar 2026 1200"));
+        modelManager.addPerson(aliceOnLogo);
+        modelManager.addPerson(bensonOnPoster);
+        assertEquals(Set.of("logo"), modelManager.getDueSoonProjectNames());
+        assertEquals(Set.of("poster"), modelManager.getOverdueProjectNames());
+
+        modelManager.deletePerson(bensonOnPoster);
+        assertEquals(Set.of(), modelManager.getOverdueProjectNames());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -129,4 +323,52 @@ public class ModelManagerTest {
         differentUserPrefs.setAddressBookFilePath(Paths.get("differentFilePath"));
         assertFalse(modelManager.equals(new ModelManager(addressBook, differentUserPrefs)));
     }
+
+    /**
+     * A clock that stays at the time it is set to.
+     */
+    private static class AdjustableClock extends Clock {
+        private Instant instant;
+
+        AdjustableClock(LocalDateTime time) {
+            setTime(time);
+        }
+
+        void setTime(LocalDateTime time) {
+            instant = time.atZone(getZone()).toInstant();
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+
+    /**
+     * A predicate that counts how many persons it has tested.
+     */
+    private static class CountingPredicate implements Predicate<Person> {
+        private final Predicate<Person> predicate;
+        private int count = 0;
+
+        CountingPredicate(Predicate<Person> predicate) {
+            this.predicate = predicate;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            count++;
+            return predicate.test(person);
+        }
+    }
 }
@@ -0,0 +1,108 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.EmailContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.ProjectNamePredicate;
+import seedu.address.testutil.PersonBuilder;
+
+public class QueryCacheTest {
+
+    private final QueryCache cache = new QueryCache();
+    private final AddressBook addressBook = getTypicalAddressBook();
+
+    @Test
+    public void getMatches_equalPredicate_servedFromCache() {
+        CountingPredicate predicate = new CountingPredicate(new EmailContainsKeywordsPredicate(List.of("johnd")));
+        assertEquals(Set.of(BENSON), cache.getMatches(predicate, addressBook));
+        int testsToFind = predicate.count;
+
+        assertEquals(Set.of(BENSON), cache.getMatches(predicate, addressBook));
+        assertEquals(testsToFind, predicate.count);
+
+        // equal but different predicate objects share an entry
+        assertEquals(Set.of(BENSON, DANIEL, CARL), cache.getMatches(new ProjectNamePredicate(List.of("project-x")),
+                addressBook));
+        ProjectNamePredicate equalPredicate = new ProjectNamePredicate(List.of("project-x"));
+        addressBook.removePerson(CARL);
+        assertEquals(Set.of(BENSON, DANIEL), cache.getMatches(equalPredicate, addressBook));
+    }
+
+    @Test
+    public void getMatches_addressBookChanged_patchedWithChanges() {
+        CountingPredicate predicate = new CountingPredicate(new EmailContainsKeywordsPredicate(List.of("example")));
+        cache.getMatches(predicate, addressBook);
+        int testsToFind = predicate.count;
+
+        Person editedAlice = new PersonBuilder(ALICE).withEmail("alice@other.org").build();
+        Person newPerson = new PersonBuilder().withName("New Person").withPhone("81234567")
+                .withEmail("new@example.com").build();
+        addressBook.setPerson(ALICE, editedAlice);
+        addressBook.addPerson(newPerson);
+        addressBook.removePerson(BENSON);
+
+        Set<Person> matches = cache.getMatches(predicate, addressBook);
+        assertEquals(testsToFind + 2, predicate.count);
+        assertEquals(Set.copyOf(addressBook.getPersonList().filtered(predicate)), matches);
+    }
+
+    @Test
+    public void getMatches_addressBookReset_foundAfresh() {
+        CountingPredicate predicate = new CountingPredicate(new EmailContainsKeywordsPredicate(List.of("example")));
+        cache.getMatches(predicate, addressBook);
+        addressBook.setPersons(List.of(ALICE, CARL));
+
+        predicate.count = 0;
+        assertEquals(Set.of(ALICE, CARL), cache.getMatches(predicate, addressBook));
+        assertEquals(2, predicate.count);
+    }
+
+    @Test
+    public void getMatches_beyondCapacity_leastRecentlyUsedEvicted() {
+        CountingPredicate first = new CountingPredicate(new EmailContainsKeywordsPredicate(List.of("alice")));
+        CountingPredicate second = new CountingPredicate(new EmailContainsKeywordsPredicate(List.of("johnd")));
+        cache.getMatches(first, addressBook);
+        cache.getMatches(second, addressBook);
+        for (int i = 0; i < QueryCache.CAPACITY - 1; i++) {
+            cache.getMatches(first, addressBook);
+            cache.getMatches(new EmailContainsKeywordsPredicate(List.of("other" + i)), addressBook);
+        }
+        first.count = 0;
+        second.count = 0;
+
+        cache.getMatches(first, addressBook);
+        cache.getMatches(second, addressBook);
+        assertEquals(0, first.count);
+        assertEquals(addressBook.getPersonList().size(), second.count);
+    }
+
+    /**
+     * A predicate that counts how many persons it has tested. Equal only to itself.
+     */
+    private static class CountingPredicate implements Predicate<Person> {
+        private final Predicate<Person> predicate;
+        private int count = 0;
+
+        CountingPredicate(Predicate<Person> predicate) {
+            this.predicate = predicate;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            count++;
+            return predicate.test(person);
+        }
+    }
+}
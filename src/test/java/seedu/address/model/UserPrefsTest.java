@@ -18,4 +18,11 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFilePath(null));
     }
 
+    @Test
+    public void setParallelScanThreshold_nonPositiveThreshold_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setParallelScanThreshold(0));
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setParallelScanThreshold(-1));
+    }
+
 }
@@ -0,0 +1,125 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class VersionedAddressBookTest {
+
+    private final VersionedAddressBook versionedAddressBook = new VersionedAddressBook(getTypicalAddressBook());
+
+    @Test
+    public void constructor_initialState_cannotUndoOrRedo() {
+        assertEquals(getTypicalAddressBook(), versionedAddressBook);
+        assertFalse(versionedAddressBook.canUndo());
+        assertFalse(versionedAddressBook.canRedo());
+        assertThrows(VersionedAddressBook.NoUndoableStateException.class, versionedAddressBook::undo);
+        assertThrows(VersionedAddressBook.NoRedoableStateException.class, versionedAddressBook::redo);
+    }
+
+    @Test
+    public void undoRedo_eachKindOfChange_restoresVersions() {
+        List<Person> initial = new ArrayList<>(versionedAddressBook.getPersonList());
+        Person editedBenson = new PersonBuilder(BENSON).withTags("husband").build();
+
+        versionedAddressBook.removePerson(BENSON);
+        versionedAddressBook.commit();
+        List<Person> afterRemove = new ArrayList<>(versionedAddressBook.getPersonList());
+        versionedAddressBook.addPerson(HOON);
+        versionedAddressBook.setPerson(ALICE, editedBenson);
+        versionedAddressBook.commit();
+        List<Person> afterAddAndSet = new ArrayList<>(versionedAddressBook.getPersonList());
+        versionedAddressBook.resetData(new AddressBook());
+        versionedAddressBook.commit();
+
+        versionedAddressBook.undo();
+        assertEquals(afterAddAndSet, versionedAddressBook.getPersonList());
+        versionedAddressBook.undo();
+        assertEquals(afterRemove, versionedAddressBook.getPersonList());
+        versionedAddressBook.undo();
+        assertEquals(initial, versionedAddressBook.getPersonList());
+        assertFalse(versionedAddressBook.canUndo());
+
+        versionedAddressBook.redo();
+        versionedAddressBook.redo();
+        assertEquals(afterAddAndSet, versionedAddressBook.getPersonList());
+        versionedAddressBook.redo();
+        assertEquals(List.of(), versionedAddressBook.getPersonList());
+        assertFalse(versionedAddressBook.canRedo());
+    }
+
+    @Test
+    public void undo_restoresLookups() {
+        versionedAddressBook.removePerson(CARL);
+        versionedAddressBook.commit();
+        versionedAddressBook.undo();
+
+        assertTrue(versionedAddressBook.hasPerson(CARL));
+        assertEquals(CARL, versionedAddressBook.findByPhone(CARL.getPhone()).get());
+        assertTrue(versionedAddressBook.findByNameKeywords(List.of("carl")).contains(CARL));
+        assertEquals(2, versionedAddressBook.getPersonList().indexOf(CARL));
+    }
+
+    @Test
+    public void undo_pendingChanges_committedAndUndone() {
+        versionedAddressBook.addPerson(HOON);
+        assertTrue(versionedAddressBook.canUndo());
+        assertFalse(versionedAddressBook.canRedo());
+
+        versionedAddressBook.undo();
+        assertFalse(versionedAddressBook.hasPerson(HOON));
+        versionedAddressBook.redo();
+        assertTrue(versionedAddressBook.hasPerson(HOON));
+    }
+
+    @Test
+    public void commit_afterUndo_discardsUndoneVersions() {
+        versionedAddressBook.addPerson(HOON);
+        versionedAddressBook.commit();
+        versionedAddressBook.undo();
+        assertTrue(versionedAddressBook.canRedo());
+
+        versionedAddressBook.removePerson(ALICE);
+        versionedAddressBook.commit();
+        assertFalse(versionedAddressBook.canRedo());
+
+        // committing without changes keeps the undone versions
+        versionedAddressBook.undo();
+        versionedAddressBook.commit();
+        assertTrue(versionedAddressBook.canRedo());
+    }
+
+    @Test
+    public void undo_editedPerson_replaysSingleReplacement() {
+        Person editedCarl = new PersonBuilder(CARL).withTags("husband").build();
+        versionedAddressBook.setPerson(CARL, editedCarl);
+        versionedAddressBook.commit();
+
+        List<String> changes = new ArrayList<>();
+        versionedAddressBook.getPersonList().addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                changes.add(change.getFrom() + ":" + change.getRemovedSize() + ":" + change.getAddedSubList().size());
+            }
+        });
+        versionedAddressBook.undo();
+
+        assertEquals(List.of("2:1:1"), changes);
+        assertSame(CARL, versionedAddressBook.getPersonList().get(2));
+    }
+}
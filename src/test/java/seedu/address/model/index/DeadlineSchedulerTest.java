@@ -0,0 +1,106 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalProjects.ALICE_ON_MURAL;
+import static seedu.address.testutil.TypicalProjects.APRIL_1;
+import static seedu.address.testutil.TypicalProjects.MURAL_APRIL_5;
+import static seedu.address.testutil.TypicalProjects.MURAL_APRIL_9;
+import static seedu.address.testutil.TypicalProjects.MURAL_COMPLETE;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.index.DeadlineEvent.Kind;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Project;
+import seedu.address.testutil.PersonBuilder;
+
+public class DeadlineSchedulerTest {
+
+    private static final Project LOGO_APRIL_3 = new Project("logo", "Incomplete", "Paid", "03 Apr 2026 1200");
+    private static final Project POSTER_MARCH_1 = new Project("poster", "Incomplete", "Paid", "01 Mar 2026 1200");
+
+    private static final Person BENSON_ON_MURAL_AND_LOGO = new PersonBuilder(BENSON).withProjects("mural", "logo")
+            .build().replaceProject(MURAL_APRIL_5).replaceProject(LOGO_APRIL_3);
+
+    private final DeadlineScheduler scheduler = new DeadlineScheduler(APRIL_1);
+
+    @Test
+    public void add_nullPerson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> scheduler.add(null));
+    }
+
+    @Test
+    public void advanceTo_raisesDueSoonThenOverdueInOrder() {
+        scheduler.add(ALICE_ON_MURAL);
+        scheduler.add(BENSON_ON_MURAL_AND_LOGO);
+        // the shared mural project is watched once
+        assertEquals(4, scheduler.getPendingCount());
+
+        assertEquals(List.of(new DeadlineEvent(Kind.DUE_SOON, LOGO_APRIL_3)),
+                scheduler.advanceTo(LocalDateTime.of(2026, 4, 2, 12, 30)));
+        assertEquals(Set.of("logo"), scheduler.getDueSoonProjectNames());
+
+        assertEquals(List.of(new DeadlineEvent(Kind.OVERDUE, LOGO_APRIL_3),
+                new DeadlineEvent(Kind.DUE_SOON, MURAL_APRIL_5), new DeadlineEvent(Kind.OVERDUE, MURAL_APRIL_5)),
+                scheduler.advanceTo(LocalDateTime.of(2026, 4, 5, 12, 0)));
+        assertEquals(Set.of(), scheduler.getDueSoonProjectNames());
+        assertEquals(Set.of("logo", "mural"), scheduler.getOverdueProjectNames());
+        assertEquals(0, scheduler.getPendingCount());
+
+        // events are raised once
+        assertEquals(List.of(), scheduler.advanceTo(LocalDateTime.of(2026, 5, 1, 0, 0)));
+    }
+
+    @Test
+    public void add_movedDeadline_reschedulesReminders() {
+        scheduler.add(ALICE_ON_MURAL);
+
+        // a project's deadline is moved by replacing each of its members in turn
+        Person movedAlice = ALICE_ON_MURAL.replaceProject(MURAL_APRIL_9);
+        scheduler.remove(ALICE_ON_MURAL);
+        scheduler.add(movedAlice);
+        assertEquals(2, scheduler.getPendingCount());
+        assertEquals(List.of(), scheduler.advanceTo(LocalDateTime.of(2026, 4, 6, 0, 0)));
+
+        // completing the project cancels its reminders
+        scheduler.remove(movedAlice);
+        scheduler.add(movedAlice.replaceProject(MURAL_COMPLETE));
+        assertEquals(0, scheduler.getPendingCount());
+        assertEquals(List.of(), scheduler.advanceTo(LocalDateTime.of(2026, 4, 10, 0, 0)));
+    }
+
+    @Test
+    public void add_pastDeadline_overdueWithoutEvent() {
+        Person aliceOnPoster = new PersonBuilder(ALICE).withProjects("poster").build()
+                .replaceProject(POSTER_MARCH_1);
+        scheduler.add(aliceOnPoster);
+
+        assertEquals(Set.of("poster"), scheduler.getOverdueProjectNames());
+        assertEquals(List.of(), scheduler.advanceTo(LocalDateTime.of(2026, 4, 2, 0, 0)));
+
+        scheduler.remove(aliceOnPoster);
+        assertEquals(Set.of(), scheduler.getOverdueProjectNames());
+    }
+
+    @Test
+    public void remove_lastMember_cancelsReminders() {
+        scheduler.add(ALICE_ON_MURAL);
+        scheduler.add(BENSON_ON_MURAL_AND_LOGO);
+
+        scheduler.remove(BENSON_ON_MURAL_AND_LOGO);
+        assertEquals(2, scheduler.getPendingCount());
+        scheduler.remove(ALICE_ON_MURAL);
+        assertEquals(0, scheduler.getPendingCount());
+
+        scheduler.add(ALICE_ON_MURAL);
+        scheduler.clear();
+        assertEquals(0, scheduler.getPendingCount());
+    }
+}
@@ -0,0 +1,122 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.person.EditPersonDescriptor;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
+import seedu.address.testutil.PersonBuilder;
+
+public class NameBkTreeTest {
+
+    private final NameBkTree index = new NameBkTree();
+
+    @Test
+    public void add_nullPerson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.add(null));
+    }
+
+    @Test
+    public void findWithin_invalidArguments_throwsException() {
+        assertThrows(NullPointerException.class, () -> index.findWithin(null, 1));
+        assertThrows(IllegalArgumentException.class, () -> index.findWithin("alice", -1));
+    }
+
+    @Test
+    public void findWithin_misspelledWordsIgnoringCase_returnsMatches() {
+        index.add(ALICE); // Alice Pauline
+        index.add(BENSON); // Benson Meier
+        index.add(CARL); // Carl Kurz
+        index.add(DANIEL); // Daniel Meier
+
+        assertEquals(Set.of(), index.findWithin("MEYER", 0));
+        assertEquals(Set.of(BENSON, DANIEL), index.findWithin("MEYER", 1));
+        assertEquals(Set.of(ALICE), index.findWithin("alise", 1));
+        assertEquals(Set.of(CARL), index.findWithin("karl", 2));
+        assertEquals(Set.of(BENSON), index.findWithin("benson", 0));
+        assertEquals(Set.of(), index.findWithin("xyz", 2));
+
+        assertEquals(2, index.estimateWithin("meyer", 1));
+        assertEquals(0, index.estimateWithin("xyz", 2));
+    }
+
+    @Test
+    public void remove_person_noLongerFound() {
+        index.add(BENSON);
+        index.add(DANIEL);
+        index.remove(BENSON);
+
+        assertEquals(Set.of(DANIEL), index.findWithin("meier", 0));
+        assertEquals(Set.of(), index.findWithin("benson", 1));
+
+        // a removed word still routes lookups to the words added below it
+        index.add(BENSON);
+        assertEquals(Set.of(BENSON, DANIEL), index.findWithin("meier", 0));
+    }
+
+    @Test
+    public void manyRemovals_matchesEditDistanceOfEveryWord() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            Person person = new PersonBuilder().withName("Person " + Integer.toString(i * 7919, 26))
+                    .withPhone(String.valueOf(80000000 + i)).build();
+            persons.add(person);
+            index.add(person);
+        }
+        // removing most persons rebuilds the tree from the words still in use
+        for (int i = 0; i < 180; i++) {
+            index.remove(persons.get(i));
+        }
+        List<Person> remaining = persons.subList(180, 200);
+
+        for (String keyword : List.of("person", "a3c", "2k", "zz", "1m0")) {
+            Set<Person> expected = new HashSet<>();
+            for (Person person : remaining) {
+                if (StringUtil.splitIntoWords(person.getName().fullName).stream()
+                        .anyMatch(word -> StringUtil.editDistance(word.toLowerCase(), keyword) <= 2)) {
+                    expected.add(person);
+                }
+            }
+            assertEquals(expected, index.findWithin(keyword, 2));
+        }
+    }
+
+    @Test
+    public void registeredWithList_keptInSyncWithList() {
+        UniquePersonList persons = new UniquePersonList();
+        persons.add(ALICE);
+        persons.addIndex(index);
+        persons.add(BENSON);
+        assertEquals(Set.of(ALICE), index.findWithin("alicia", 2));
+
+        Person renamedBenson = BENSON.createEditedPerson(
+                new EditPersonDescriptor().setName(new Name("Benson Alicia")));
+        persons.setPerson(BENSON, renamedBenson);
+        assertEquals(Set.of(ALICE, renamedBenson), index.findWithin("alicia", 2));
+        assertEquals(Set.of(), index.findWithin("meier", 1));
+
+        persons.remove(ALICE);
+        assertEquals(Set.of(renamedBenson), index.findWithin("alicia", 2));
+
+        persons.setPersons(List.of(DANIEL));
+        assertEquals(Set.of(), index.findWithin("alicia", 2));
+        assertEquals(Set.of(DANIEL), index.findWithin("danial", 1));
+
+        index.clear();
+        assertEquals(Set.of(), index.findWithin("danial", 1));
+    }
+}
@@ -0,0 +1,81 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.EditPersonDescriptor;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
+
+public class NameTokenIndexTest {
+
+    private final NameTokenIndex index = new NameTokenIndex();
+
+    @Test
+    public void add_nullPerson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.add(null));
+    }
+
+    @Test
+    public void findAny_nullKeywords_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.findAny(null));
+    }
+
+    @Test
+    public void findAny_fullWordsIgnoringCase_returnsMatches() {
+        index.add(ALICE); // Alice Pauline
+        index.add(BENSON); // Benson Meier
+        index.add(DANIEL); // Daniel Meier
+
+        assertEquals(Set.of(ALICE), index.findAny(List.of("aLIce")));
+        assertEquals(Set.of(BENSON, DANIEL), index.findAny(List.of("Meier")));
+        assertEquals(Set.of(ALICE, DANIEL), index.findAny(List.of("pauline", "Daniel")));
+
+        // partial words and empty keywords do not match
+        assertEquals(Set.of(), index.findAny(List.of("Ali", "")));
+    }
+
+    @Test
+    public void remove_person_noLongerFound() {
+        index.add(BENSON);
+        index.add(DANIEL);
+        index.remove(BENSON);
+
+        assertEquals(Set.of(DANIEL), index.findAny(List.of("Meier")));
+        assertEquals(Set.of(), index.findAny(List.of("Benson")));
+    }
+
+    @Test
+    public void registeredWithList_keptInSyncWithList() {
+        UniquePersonList persons = new UniquePersonList();
+        persons.add(ALICE);
+        persons.addIndex(index);
+        persons.add(BENSON);
+        assertEquals(Set.of(ALICE), index.findAny(List.of("Alice")));
+
+        Person renamedBenson = BENSON.createEditedPerson(
+                new EditPersonDescriptor().setName(new Name("Benson Alice")));
+        persons.setPerson(BENSON, renamedBenson);
+        assertEquals(Set.of(ALICE, renamedBenson), index.findAny(List.of("Alice")));
+        assertEquals(Set.of(), index.findAny(List.of("Meier")));
+
+        persons.remove(ALICE);
+        assertEquals(Set.of(renamedBenson), index.findAny(List.of("Alice")));
+
+        persons.setPersons(List.of(DANIEL));
+        assertEquals(Set.of(), index.findAny(List.of("Alice")));
+        assertEquals(Set.of(DANIEL), index.findAny(List.of("Meier")));
+
+        index.clear();
+        assertEquals(Set.of(), index.findAny(List.of("Meier")));
+    }
+}
@@ -0,0 +1,89 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.EditPersonDescriptor;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
+
+public class NameTrigramIndexTest {
+
+    private final NameTrigramIndex index = new NameTrigramIndex();
+
+    @Test
+    public void add_nullPerson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.add(null));
+    }
+
+    @Test
+    public void findContaining_nullFragment_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.findContaining(null));
+    }
+
+    @Test
+    public void findContaining_fragmentsIgnoringCase_returnsMatches() {
+        index.add(ALICE); // Alice Pauline
+        index.add(BENSON); // Benson Meier
+        index.add(DANIEL); // Daniel Meier
+
+        // fragments of at least three characters
+        assertEquals(Set.of(ALICE), index.findContaining("LIC"));
+        assertEquals(Set.of(BENSON, DANIEL), index.findContaining("eie"));
+        assertEquals(Set.of(ALICE), index.findContaining("ce pau"));
+
+        // short fragments
+        assertEquals(Set.of(ALICE, DANIEL), index.findContaining("l"));
+        assertEquals(Set.of(BENSON, DANIEL), index.findContaining("ie"));
+        assertEquals(Set.of(BENSON), index.findContaining("be"));
+
+        // trigrams all present but not contiguous
+        assertEquals(Set.of(), index.findContaining("alinel"));
+        assertEquals(Set.of(), index.findContaining("xyz"));
+    }
+
+    @Test
+    public void remove_person_noLongerFound() {
+        index.add(BENSON);
+        index.add(DANIEL);
+        index.remove(BENSON);
+
+        assertEquals(Set.of(DANIEL), index.findContaining("meier"));
+        assertEquals(Set.of(), index.findContaining("ben"));
+        assertEquals(Set.of(), index.findContaining("b"));
+    }
+
+    @Test
+    public void registeredWithList_keptInSyncWithList() {
+        UniquePersonList persons = new UniquePersonList();
+        persons.add(ALICE);
+        persons.addIndex(index);
+        persons.add(BENSON);
+        assertEquals(Set.of(ALICE), index.findContaining("alic"));
+
+        Person renamedBenson = BENSON.createEditedPerson(
+                new EditPersonDescriptor().setName(new Name("Benson Alicia")));
+        persons.setPerson(BENSON, renamedBenson);
+        assertEquals(Set.of(ALICE, renamedBenson), index.findContaining("alic"));
+        assertEquals(Set.of(), index.findContaining("meier"));
+
+        persons.remove(ALICE);
+        assertEquals(Set.of(renamedBenson), index.findContaining("alic"));
+
+        persons.setPersons(List.of(DANIEL));
+        assertEquals(Set.of(), index.findContaining("alic"));
+        assertEquals(Set.of(DANIEL), index.findContaining("niel"));
+
+        index.clear();
+        assertEquals(Set.of(), index.findContaining("niel"));
+    }
+}
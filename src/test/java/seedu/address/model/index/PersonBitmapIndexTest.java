@@ -0,0 +1,135 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.tag.Project;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonBitmapIndexTest {
+
+    private static final Project PROJECT_X_PAID_COMPLETE =
+            new Project("project-x", "Complete", "Paid", "01 Jan 2030 1200");
+
+    private final PersonBitmapIndex index = new PersonBitmapIndex();
+
+    @Test
+    public void add_nullPerson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.add(null));
+    }
+
+    @Test
+    public void withAnyTag_ignoringCase_returnsUnion() {
+        index.add(ALICE); // friends
+        index.add(BENSON); // owesMoney, friends
+        index.add(CARL); // no tags
+
+        assertEquals(Set.of(ALICE, BENSON), index.personsIn(index.withAnyTag(List.of("FRIENDS"))));
+        assertEquals(Set.of(BENSON), index.personsIn(index.withAnyTag(List.of("owesmoney", "unknown"))));
+        assertEquals(Set.of(), index.personsIn(index.withAnyTag(List.of())));
+    }
+
+    @Test
+    public void withProjectStatus_returnsPersonsWithProjectInStatus() {
+        Person paidCarl = CARL.replaceProject(PROJECT_X_PAID_COMPLETE);
+        index.add(ALICE); // no projects
+        index.add(paidCarl);
+        index.add(DANIEL); // unpaid, incomplete project-x
+
+        assertEquals(Set.of(paidCarl), index.personsIn(index.withProjectPayment(true)));
+        assertEquals(Set.of(DANIEL), index.personsIn(index.withProjectPayment(false)));
+        assertEquals(Set.of(paidCarl), index.personsIn(index.withProjectProgress(true)));
+        assertEquals(Set.of(DANIEL), index.personsIn(index.withProjectProgress(false)));
+    }
+
+    @Test
+    public void facetsOf_countsOnlyGivenPersons() {
+        Person paidCarl = CARL.replaceProject(PROJECT_X_PAID_COMPLETE);
+        index.add(ALICE); // friends, no projects
+        index.add(BENSON); // owesMoney, friends, unpaid, incomplete project-x
+        index.add(paidCarl);
+        index.add(DANIEL); // friends, unpaid, incomplete project-x
+
+        Facets facets = index.facetsOf(List.of(ALICE, BENSON, paidCarl));
+        assertEquals(new Facets(Map.of("friends", 2, "owesmoney", 1), 1, 1, 1, 1), facets);
+        assertEquals(List.of("friends", "owesmoney"), List.copyOf(facets.tagCounts().keySet()));
+
+        assertEquals(Facets.NONE, index.facetsOf(List.of()));
+    }
+
+    @Test
+    public void bitmaps_combinedWithAndOr() {
+        index.add(ALICE); // friends, no projects
+        index.add(BENSON); // friends, unpaid project
+        index.add(CARL); // unpaid project
+
+        BitSet friendsWithUnpaidProject = index.withAnyTag(List.of("friends"));
+        friendsWithUnpaidProject.and(index.withProjectPayment(false));
+        assertEquals(Set.of(BENSON), index.personsIn(friendsWithUnpaidProject));
+
+        BitSet friendsOrUnpaidProject = index.withAnyTag(List.of("friends"));
+        friendsOrUnpaidProject.or(index.withProjectPayment(false));
+        assertEquals(Set.of(ALICE, BENSON, CARL), index.personsIn(friendsOrUnpaidProject));
+
+        // returned bitmaps are copies
+        assertEquals(Set.of(BENSON, CARL), index.personsIn(index.withProjectPayment(false)));
+        assertEquals(Set.of(ALICE, BENSON, CARL), index.personsIn(index.all()));
+    }
+
+    @Test
+    public void remove_slotReusedByNextPersonAdded() {
+        index.add(ALICE);
+        index.add(BENSON);
+        for (int i = 0; i < 100; i++) {
+            // each person built gets a fresh id
+            Person carl = new PersonBuilder(CARL).build();
+            index.add(carl);
+            index.remove(carl);
+        }
+        index.remove(ALICE);
+        Person daniel = new PersonBuilder(DANIEL).build();
+        index.add(daniel);
+
+        // Daniel takes the slot Alice left, so the bitmaps stay as wide as the persons indexed
+        assertEquals(2, index.all().length());
+        assertEquals(Set.of(daniel, BENSON), index.personsIn(index.all()));
+        assertEquals(Set.of(daniel, BENSON), index.personsIn(index.withAnyTag(List.of("friends"))));
+    }
+
+    @Test
+    public void registeredWithList_keptInSyncWithList() {
+        UniquePersonList persons = new UniquePersonList();
+        persons.add(ALICE);
+        persons.addIndex(index);
+        persons.add(CARL);
+        assertEquals(Set.of(CARL), index.personsIn(index.withProjectPayment(false)));
+
+        Person paidCarl = CARL.replaceProject(PROJECT_X_PAID_COMPLETE);
+        persons.setPerson(CARL, paidCarl);
+        assertEquals(Set.of(), index.personsIn(index.withProjectPayment(false)));
+        assertEquals(Set.of(paidCarl), index.personsIn(index.withProjectPayment(true)));
+
+        persons.remove(ALICE);
+        assertEquals(Set.of(), index.personsIn(index.withAnyTag(List.of("friends"))));
+
+        persons.setPersons(List.of(BENSON));
+        assertEquals(Set.of(BENSON), index.personsIn(index.withAnyTag(List.of("friends"))));
+        assertEquals(Set.of(), index.personsIn(index.withProjectPayment(true)));
+
+        index.clear();
+        assertEquals(Set.of(), index.personsIn(index.all()));
+    }
+}
@@ -0,0 +1,76 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.index.PersonChangeLog.Change;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonChangeLogTest {
+
+    private final PersonChangeLog log = new PersonChangeLog();
+
+    @Test
+    public void add_nullPerson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> log.add(null));
+    }
+
+    @Test
+    public void changesSince_returnsChangesInOrder() {
+        long start = log.getVersion();
+        log.add(ALICE);
+        long afterAlice = log.getVersion();
+        log.add(BENSON);
+        log.remove(ALICE);
+
+        assertEquals(start + 3, log.getVersion());
+        assertEquals(Optional.of(List.of(new Change(BENSON, true), new Change(ALICE, false))),
+                log.changesSince(afterAlice));
+        assertEquals(3, log.changesSince(start).get().size());
+        assertEquals(Optional.of(List.of()), log.changesSince(log.getVersion()));
+
+        // a version that has not been reached yet
+        assertEquals(Optional.empty(), log.changesSince(log.getVersion() + 1));
+    }
+
+    @Test
+    public void changesSince_changesNoLongerKept_returnsEmpty() {
+        long start = log.getVersion();
+        for (int i = 0; i <= PersonChangeLog.CAPACITY; i++) {
+            log.add(CARL);
+        }
+        assertEquals(Optional.empty(), log.changesSince(start));
+        assertEquals(PersonChangeLog.CAPACITY, log.changesSince(start + 1).get().size());
+
+        long beforeClear = log.getVersion();
+        log.clear();
+        assertEquals(Optional.empty(), log.changesSince(beforeClear));
+        assertEquals(Optional.of(List.of()), log.changesSince(log.getVersion()));
+    }
+
+    @Test
+    public void registeredWithList_recordsEditsAsRemovalThenAddition() {
+        UniquePersonList persons = new UniquePersonList();
+        persons.add(ALICE);
+        persons.addIndex(log);
+        long start = log.getVersion();
+
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alicia Pauline").build();
+        persons.setPerson(ALICE, editedAlice);
+        assertEquals(Optional.of(List.of(new Change(ALICE, false), new Change(editedAlice, true))),
+                log.changesSince(start));
+
+        persons.setPersons(List.of(BENSON));
+        assertEquals(Optional.empty(), log.changesSince(start));
+    }
+}
@@ -0,0 +1,100 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonTextIndexTest {
+
+    private final PersonTextIndex index = new PersonTextIndex();
+
+    @Test
+    public void add_nullPerson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.add(null));
+    }
+
+    @Test
+    public void search_invalidArguments_throwsException() {
+        assertThrows(NullPointerException.class, () -> index.search(null, 1));
+        assertThrows(IllegalArgumentException.class, () -> index.search(List.of("alice"), 0));
+    }
+
+    @Test
+    public void search_rankedByRelevance() {
+        getTypicalPersons().forEach(index::add);
+
+        // Daniel and Benson match in name and tag, but Benson has more tags to dilute the match
+        assertEquals(List.of(DANIEL, BENSON, ALICE), personsOf(index.search(List.of("MEIER", "friends"), 10)));
+
+        // only the best matches are kept
+        assertEquals(List.of(DANIEL, BENSON), personsOf(index.search(List.of("meier", "friends"), 2)));
+
+        assertEquals(List.of(), index.search(List.of("nobody"), 10));
+    }
+
+    @Test
+    public void search_fieldsBoosted() {
+        Person inName = new PersonBuilder().withName("Mural Jones").withPhone("81111111").withProjects().build();
+        Person inProject = new PersonBuilder().withName("Ann Lee").withPhone("82222222").withProjects("mural")
+                .build();
+        Person inTag = new PersonBuilder().withName("Bob Tan").withPhone("83333333").withTags("mural")
+                .withProjects().build();
+        index.add(inTag);
+        index.add(inProject);
+        index.add(inName);
+
+        List<ScoredPerson> ranked = index.search(List.of("mural"), 10);
+        assertEquals(List.of(inName, inProject, inTag), personsOf(ranked));
+        assertTrue(ranked.get(0).score() > ranked.get(1).score());
+        assertTrue(ranked.get(1).score() > ranked.get(2).score());
+    }
+
+    @Test
+    public void search_topMatches_sameAsFullRanking() {
+        for (int i = 0; i < 50; i++) {
+            index.add(new PersonBuilder().withName("Person " + (i % 7 == 0 ? "Gold" : "Silver") + " " + i)
+                    .withPhone(String.valueOf(80000000 + i)).withTags(i % 3 == 0 ? "gold" : "silver")
+                    .withProjects().build());
+        }
+        List<ScoredPerson> fullRanking = index.search(List.of("gold", "silver"), 50);
+        assertEquals(50, fullRanking.size());
+        for (int limit : List.of(1, 5, 17)) {
+            assertEquals(fullRanking.subList(0, limit), index.search(List.of("gold", "silver"), limit));
+        }
+    }
+
+    @Test
+    public void registeredWithList_keptInSyncWithList() {
+        UniquePersonList persons = new UniquePersonList();
+        persons.add(ALICE);
+        persons.addIndex(index);
+        persons.add(BENSON);
+        assertEquals(List.of(ALICE, BENSON), personsOf(index.search(List.of("friends"), 10)));
+
+        persons.remove(ALICE);
+        assertEquals(List.of(BENSON), personsOf(index.search(List.of("friends"), 10)));
+
+        persons.setPersons(List.of(DANIEL));
+        assertEquals(List.of(), index.search(List.of("benson"), 10));
+        assertEquals(List.of(DANIEL), personsOf(index.search(List.of("project-x"), 10)));
+
+        index.clear();
+        assertEquals(List.of(), index.search(List.of("daniel"), 10));
+    }
+
+    private static List<Person> personsOf(List<ScoredPerson> ranked) {
+        return ranked.stream().map(ScoredPerson::person).toList();
+    }
+}
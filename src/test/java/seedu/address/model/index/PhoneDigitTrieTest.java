@@ -0,0 +1,136 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.EditPersonDescriptor;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.UniquePersonList;
+
+public class PhoneDigitTrieTest {
+
+    private final PhoneDigitTrie index = new PhoneDigitTrie();
+
+    @Test
+    public void add_nullPerson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.add(null));
+    }
+
+    @Test
+    public void find_nullDigits_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.findByPrefix(null));
+        assertThrows(NullPointerException.class, () -> index.findBySuffix(null));
+    }
+
+    @Test
+    public void findByPrefix_returnsMatches() {
+        index.add(ALICE); // 94351253
+        index.add(CARL); // 95352563
+        index.add(DANIEL); // 87652533
+        index.add(ELLE); // 94822247
+        index.add(FIONA); // 94824277
+
+        assertEquals(Set.of(ALICE, CARL, ELLE, FIONA), index.findByPrefix("9"));
+        assertEquals(Set.of(ELLE, FIONA), index.findByPrefix("948"));
+        assertEquals(Set.of(DANIEL), index.findByPrefix("87652533"));
+        assertEquals(Set.of(ALICE, CARL, DANIEL, ELLE, FIONA), index.findByPrefix(""));
+
+        // no phone with the prefix
+        assertEquals(Set.of(), index.findByPrefix("3"));
+        assertEquals(Set.of(), index.findByPrefix("876525330"));
+
+        // non-digits
+        assertEquals(Set.of(), index.findByPrefix("9a"));
+        assertEquals(Set.of(), index.findByPrefix("+9"));
+    }
+
+    @Test
+    public void findBySuffix_returnsMatches() {
+        index.add(ALICE); // 94351253
+        index.add(CARL); // 95352563
+        index.add(DANIEL); // 87652533
+        index.add(ELLE); // 94822247
+
+        assertEquals(Set.of(ALICE, CARL, DANIEL), index.findBySuffix("3"));
+        assertEquals(Set.of(ALICE), index.findBySuffix("253"));
+        assertEquals(Set.of(DANIEL), index.findBySuffix("2533"));
+
+        // no phone with the suffix
+        assertEquals(Set.of(), index.findBySuffix("0"));
+
+        // non-digits
+        assertEquals(Set.of(), index.findBySuffix("3-"));
+    }
+
+    @Test
+    public void countByPrefixAndSuffix_matchesFoundPersons() {
+        index.add(ALICE); // 94351253
+        index.add(CARL); // 95352563
+        index.add(DANIEL); // 87652533
+        index.add(ELLE); // 94822247
+
+        assertEquals(3, index.countByPrefix("9"));
+        assertEquals(4, index.countByPrefix(""));
+        assertEquals(0, index.countByPrefix("3"));
+        assertEquals(0, index.countByPrefix("9a"));
+        assertEquals(3, index.countBySuffix("3"));
+        assertEquals(1, index.countBySuffix("2533"));
+
+        index.remove(CARL);
+        assertEquals(2, index.countByPrefix("9"));
+        assertEquals(2, index.countBySuffix("3"));
+
+        // removing a person not in the index changes nothing
+        index.remove(CARL);
+        assertEquals(2, index.countByPrefix("9"));
+    }
+
+    @Test
+    public void remove_person_noLongerFound() {
+        index.add(ELLE);
+        index.add(FIONA);
+        index.remove(ELLE);
+
+        assertEquals(Set.of(FIONA), index.findByPrefix("948"));
+        assertEquals(Set.of(), index.findByPrefix("9482224"));
+        assertEquals(Set.of(), index.findBySuffix("2247"));
+
+        index.remove(FIONA);
+        assertEquals(Set.of(), index.findByPrefix(""));
+    }
+
+    @Test
+    public void registeredWithList_keptInSyncWithList() {
+        UniquePersonList persons = new UniquePersonList();
+        persons.add(ALICE);
+        persons.addIndex(index);
+        persons.add(BENSON);
+        assertEquals(Set.of(ALICE, BENSON), index.findByPrefix("9"));
+
+        Person editedBenson = BENSON.createEditedPerson(new EditPersonDescriptor().setPhone(new Phone("81112222")));
+        persons.setPerson(BENSON, editedBenson);
+        assertEquals(Set.of(ALICE), index.findByPrefix("9"));
+        assertEquals(Set.of(editedBenson), index.findBySuffix("2222"));
+
+        persons.remove(ALICE);
+        assertEquals(Set.of(), index.findByPrefix("9"));
+
+        persons.setPersons(List.of(DANIEL));
+        assertEquals(Set.of(DANIEL), index.findByPrefix("8"));
+
+        index.clear();
+        assertEquals(Set.of(), index.findByPrefix(""));
+    }
+}
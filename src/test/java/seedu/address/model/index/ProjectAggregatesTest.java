@@ -0,0 +1,130 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalProjects.ALICE_ON_MURAL;
+import static seedu.address.testutil.TypicalProjects.MURAL_APRIL_5;
+import static seedu.address.testutil.TypicalProjects.MURAL_COMPLETE_PAID;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.LedgerEntry;
+import seedu.address.model.tag.LedgerEntry.Kind;
+import seedu.address.model.tag.LedgerTotals;
+import seedu.address.model.tag.Project;
+import seedu.address.testutil.PersonBuilder;
+
+public class ProjectAggregatesTest {
+
+    private static final LocalDateTime APRIL_3 = LocalDateTime.of(2026, 4, 3, 12, 0);
+
+    private static final Project LOGO_OVERDUE = new Project("logo", "Incomplete", "Paid", "01 Apr 2026 1200");
+
+    private static final Person BENSON_ON_MURAL_AND_LOGO = new PersonBuilder(BENSON).withTags("friends", "owesMoney")
+            .withProjects("mural", "logo").build().replaceProject(MURAL_APRIL_5).replaceProject(LOGO_OVERDUE);
+    private static final Person CARL_ON_LOGO = new PersonBuilder(CARL).withTags()
+            .withProjects("logo").build().replaceProject(LOGO_OVERDUE);
+
+    private final ProjectAggregates aggregates = new ProjectAggregates();
+
+    @Test
+    public void add_nullPerson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> aggregates.add(null));
+    }
+
+    @Test
+    public void statisticsAt_noPersons_returnsNone() {
+        assertEquals(ProjectStatistics.NONE, aggregates.statisticsAt(APRIL_3));
+    }
+
+    @Test
+    public void statisticsAt_sharedProjects_countedOnce() {
+        addAll(ALICE_ON_MURAL, BENSON_ON_MURAL_AND_LOGO, CARL_ON_LOGO);
+
+        ProjectStatistics statistics = aggregates.statisticsAt(APRIL_3);
+        assertEquals(new ProjectStatistics(2, 1, 2, 1, 2, Map.of("friends", 2, "owesmoney", 1), LedgerTotals.NONE),
+                statistics);
+        assertEquals(List.of("friends", "owesmoney"), List.copyOf(statistics.unpaidClientsByTag().keySet()));
+
+        // the logo deadline is inclusive of the time asked for, the mural deadline has not passed yet
+        assertEquals(0, aggregates.statisticsAt(LOGO_OVERDUE.getDeadline()).overdueCount());
+        assertEquals(2, aggregates.statisticsAt(APRIL_3.plusDays(5)).overdueCount());
+    }
+
+    @Test
+    public void add_editedStatus_recountsProject() {
+        addAll(ALICE_ON_MURAL, BENSON_ON_MURAL_AND_LOGO);
+
+        // a project's status is changed by replacing each of its members in turn
+        Person paidAlice = ALICE_ON_MURAL.replaceProject(MURAL_COMPLETE_PAID);
+        aggregates.remove(ALICE_ON_MURAL);
+        aggregates.add(paidAlice);
+        assertEquals(new ProjectStatistics(2, 0, 1, 1, 1, Map.of("friends", 1, "owesmoney", 1), LedgerTotals.NONE),
+                aggregates.statisticsAt(APRIL_3));
+
+        Person paidBenson = BENSON_ON_MURAL_AND_LOGO.replaceProject(MURAL_COMPLETE_PAID);
+        aggregates.remove(BENSON_ON_MURAL_AND_LOGO);
+        aggregates.add(paidBenson);
+        assertEquals(new ProjectStatistics(2, 0, 1, 1, 0, Map.of(), LedgerTotals.NONE),
+                aggregates.statisticsAt(APRIL_3));
+    }
+
+    @Test
+    public void add_ledgerEntries_updatesLedgerTotals() {
+        addAll(ALICE_ON_MURAL, BENSON_ON_MURAL_AND_LOGO);
+
+        Project invoicedMural = MURAL_APRIL_5.createProjectWithLedgerEntry(new LedgerEntry(Kind.INVOICED, 50_000))
+                .createProjectWithLedgerEntry(new LedgerEntry(Kind.PAID, 20_000));
+        Person invoicedAlice = ALICE_ON_MURAL.replaceProject(invoicedMural);
+        aggregates.remove(ALICE_ON_MURAL);
+        aggregates.add(invoicedAlice);
+        Person invoicedBenson = BENSON_ON_MURAL_AND_LOGO.replaceProject(invoicedMural);
+        aggregates.remove(BENSON_ON_MURAL_AND_LOGO);
+        aggregates.add(invoicedBenson);
+
+        // the shared mural project's ledger is counted once
+        assertEquals(new LedgerTotals(50_000, 20_000), aggregates.statisticsAt(APRIL_3).ledgerTotals());
+
+        aggregates.remove(invoicedAlice);
+        aggregates.remove(invoicedBenson);
+        assertEquals(LedgerTotals.NONE, aggregates.statisticsAt(APRIL_3).ledgerTotals());
+    }
+
+    @Test
+    public void remove_lastMember_uncountsProject() {
+        addAll(ALICE_ON_MURAL, BENSON_ON_MURAL_AND_LOGO);
+
+        aggregates.remove(BENSON_ON_MURAL_AND_LOGO);
+        assertEquals(new ProjectStatistics(1, 1, 1, 0, 1, Map.of("friends", 1), LedgerTotals.NONE),
+                aggregates.statisticsAt(APRIL_3));
+
+        aggregates.remove(ALICE_ON_MURAL);
+        assertEquals(ProjectStatistics.NONE, aggregates.statisticsAt(APRIL_3));
+    }
+
+    @Test
+    public void clear_resetsTotals() {
+        addAll(ALICE_ON_MURAL, CARL_ON_LOGO);
+        aggregates.clear();
+        assertEquals(ProjectStatistics.NONE, aggregates.statisticsAt(APRIL_3));
+    }
+
+    @Test
+    public void toSummary() {
+        assertEquals("2 projects: 1 unpaid, 1 overdue",
+                new ProjectStatistics(2, 1, 2, 1, 2, Map.of(), LedgerTotals.NONE).toSummary());
+    }
+
+    private void addAll(Person... persons) {
+        for (Person person : persons) {
+            aggregates.add(person);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalProjects.APRIL_1;
+import static seedu.address.testutil.TypicalProjects.APRIL_5;
+import static seedu.address.testutil.TypicalProjects.APRIL_9;
+import static seedu.address.testutil.TypicalProjects.MURAL_APRIL_5;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.tag.Project;
+import seedu.address.testutil.PersonBuilder;
+
+public class ProjectDeadlineIndexTest {
+
+    private static final Project LOGO_APRIL_1 = new Project("logo", "Incomplete", "Unpaid", "01 Apr 2026 1200");
+    private static final Project POSTER_APRIL_9 = new Project("poster", "Complete", "Paid", "09 Apr 2026 1200");
+
+    private static final Person ALICE_WITH_MURAL_AND_POSTER = new PersonBuilder(ALICE)
+            .withProjects("mural", "poster").build()
+            .replaceProject(MURAL_APRIL_5).replaceProject(POSTER_APRIL_9);
+    private static final Person BENSON_WITH_LOGO = new PersonBuilder(BENSON)
+            .withProjects("logo").build().replaceProject(LOGO_APRIL_1);
+
+    private final ProjectDeadlineIndex index = new ProjectDeadlineIndex();
+
+    @Test
+    public void add_nullPerson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.add(null));
+    }
+
+    @Test
+    public void findDueBetween_nullBound_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.findDueBetween(null, Optional.empty()));
+        assertThrows(NullPointerException.class, () -> index.findDueBetween(Optional.empty(), null));
+    }
+
+    @Test
+    public void findDueBetween_returnsProjectsInDeadlineOrder() {
+        index.add(ALICE_WITH_MURAL_AND_POSTER);
+        index.add(BENSON_WITH_LOGO);
+
+        ProjectDeadline logo = new ProjectDeadline(BENSON_WITH_LOGO, LOGO_APRIL_1);
+        ProjectDeadline mural = new ProjectDeadline(ALICE_WITH_MURAL_AND_POSTER, MURAL_APRIL_5);
+        ProjectDeadline poster = new ProjectDeadline(ALICE_WITH_MURAL_AND_POSTER, POSTER_APRIL_9);
+
+        assertEquals(List.of(logo, mural, poster), index.findDueBetween(Optional.empty(), Optional.empty()));
+
+        // bounds are inclusive
+        assertEquals(List.of(logo, mural), index.findDueBetween(Optional.empty(), Optional.of(APRIL_5)));
+        assertEquals(List.of(mural, poster), index.findDueBetween(Optional.of(APRIL_5), Optional.empty()));
+        assertEquals(List.of(mural), index.findDueBetween(Optional.of(APRIL_5), Optional.of(APRIL_5)));
+
+        // range between deadlines
+        assertEquals(List.of(), index.findDueBetween(Optional.of(APRIL_1.plusMinutes(1)),
+                Optional.of(APRIL_5.minusMinutes(1))));
+
+        // range that starts after it ends
+        assertEquals(List.of(), index.findDueBetween(Optional.of(APRIL_9), Optional.of(APRIL_1)));
+    }
+
+    @Test
+    public void registeredWithList_keptInSyncWithList() {
+        UniquePersonList persons = new UniquePersonList();
+        persons.add(BENSON_WITH_LOGO);
+        persons.addIndex(index);
+        persons.add(ALICE_WITH_MURAL_AND_POSTER);
+        persons.add(CARL); // project-x due a day after creation
+
+        Project postponedLogo = new Project("logo", "Incomplete", "Unpaid", "09 Apr 2026 1200");
+        Person postponedBenson = BENSON_WITH_LOGO.replaceProject(postponedLogo);
+        persons.setPerson(BENSON_WITH_LOGO, postponedBenson);
+        assertEquals(List.of(new ProjectDeadline(ALICE_WITH_MURAL_AND_POSTER, POSTER_APRIL_9),
+                new ProjectDeadline(postponedBenson, postponedLogo)),
+                index.findDueBetween(Optional.of(APRIL_9), Optional.of(APRIL_9)));
+
+        persons.remove(ALICE_WITH_MURAL_AND_POSTER);
+        assertEquals(List.of(new ProjectDeadline(postponedBenson, postponedLogo)),
+                index.findDueBetween(Optional.of(APRIL_1), Optional.of(APRIL_9)));
+
+        persons.setPersons(List.of(ALICE_WITH_MURAL_AND_POSTER));
+        assertEquals(2, index.findDueBetween(Optional.empty(), Optional.empty()).size());
+
+        index.clear();
+        assertEquals(List.of(), index.findDueBetween(Optional.empty(), Optional.empty()));
+    }
+}
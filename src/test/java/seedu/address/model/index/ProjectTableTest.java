@@ -0,0 +1,108 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalProjects.ALICE_ON_MURAL;
+import static seedu.address.testutil.TypicalProjects.BENSON_ON_MURAL;
+import static seedu.address.testutil.TypicalProjects.MURAL_APRIL_5;
+import static seedu.address.testutil.TypicalProjects.MURAL_COMPLETE_PAID;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Project;
+import seedu.address.testutil.PersonBuilder;
+
+public class ProjectTableTest {
+
+    private final ProjectTable table = new ProjectTable();
+
+    @Test
+    public void add_nullPerson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> table.add(null));
+    }
+
+    @Test
+    public void get_projectWithMembers_returnsProject() {
+        table.add(ALICE_ON_MURAL);
+        table.add(BENSON_ON_MURAL);
+
+        assertSame(MURAL_APRIL_5, table.get("mural").get());
+        assertEquals(Set.of(ALICE_ON_MURAL, BENSON_ON_MURAL), table.membersOf("mural"));
+        assertEquals(List.of(MURAL_APRIL_5), table.getProjects());
+        assertEquals(Optional.empty(), table.get("logo"));
+        assertTrue(table.membersOf("logo").isEmpty());
+    }
+
+    @Test
+    public void getProjects_orderedByName() {
+        Person carlOnLogoAndZine = new PersonBuilder(CARL).withProjects("zine", "logo").build();
+        table.add(carlOnLogoAndZine);
+        table.add(ALICE_ON_MURAL);
+
+        // re-adding a project does not move it to the end
+        Person editedCarl = carlOnLogoAndZine.replaceProject(new Project("logo", "Complete", "Paid",
+                "05 Apr 2026 1200"));
+        table.remove(carlOnLogoAndZine);
+        table.add(editedCarl);
+
+        assertEquals(List.of("logo", "mural", "zine"),
+                table.getProjects().stream().map(Project::getTagName).toList());
+    }
+
+    @Test
+    public void remove_lastMember_dropsProject() {
+        table.add(ALICE_ON_MURAL);
+        table.add(BENSON_ON_MURAL);
+
+        table.remove(ALICE_ON_MURAL);
+        assertEquals(Set.of(BENSON_ON_MURAL), table.membersOf("mural"));
+
+        table.remove(BENSON_ON_MURAL);
+        assertEquals(Optional.empty(), table.get("mural"));
+        assertTrue(table.getProjects().isEmpty());
+    }
+
+    @Test
+    public void add_newerCopy_becomesProjectStatus() {
+        table.add(ALICE_ON_MURAL);
+        table.add(BENSON_ON_MURAL);
+
+        // an edit is the removal of the old version followed by the addition of the new one
+        Person editedAlice = ALICE_ON_MURAL.replaceProject(MURAL_COMPLETE_PAID);
+        table.remove(ALICE_ON_MURAL);
+        table.add(editedAlice);
+
+        assertSame(MURAL_COMPLETE_PAID, table.get("mural").get());
+        assertEquals(Set.of(editedAlice, BENSON_ON_MURAL), table.membersOf("mural"));
+    }
+
+    @Test
+    public void share_projectInTable_takesTableCopy() {
+        table.add(ALICE_ON_MURAL);
+
+        Person carlOnMural = new PersonBuilder(CARL).withProjects("mural").build().replaceProject(MURAL_COMPLETE_PAID);
+        Person shared = table.share(carlOnMural);
+        assertSame(MURAL_APRIL_5, shared.getProjects().iterator().next());
+        assertEquals(carlOnMural.getId(), shared.getId());
+
+        // projects already shared, or not in the table, are left alone
+        assertSame(ALICE_ON_MURAL, table.share(ALICE_ON_MURAL));
+        Person carlOnLogo = new PersonBuilder(CARL).withProjects("logo").build();
+        assertSame(carlOnLogo, table.share(carlOnLogo));
+    }
+
+    @Test
+    public void clear_removesAllProjects() {
+        table.add(ALICE_ON_MURAL);
+        table.clear();
+        assertTrue(table.getProjects().isEmpty());
+    }
+}
@@ -0,0 +1,86 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalProjects.ALICE_ON_MURAL;
+import static seedu.address.testutil.TypicalProjects.BENSON_ON_MURAL;
+import static seedu.address.testutil.TypicalProjects.MURAL_COMPLETE;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Project;
+
+public class SharedProjectIndexTest {
+
+    private static final Project MURAL_PAID = new Project("mural", "Incomplete", "Paid", "05 Apr 2026 1200");
+
+    private final RecordingIndex index = new RecordingIndex();
+
+    @Test
+    public void add_nullPerson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.add(null));
+        assertThrows(NullPointerException.class, () -> index.remove(null));
+    }
+
+    @Test
+    public void add_sharedProject_countedOnceUntilLastMemberRemoved() {
+        index.add(ALICE_ON_MURAL);
+        index.add(BENSON_ON_MURAL);
+        assertEquals(List.of("+mural"), index.calls);
+        assertEquals(1, index.getProjectCount());
+
+        index.remove(ALICE_ON_MURAL);
+        assertEquals(List.of("+mural"), index.calls);
+        index.remove(BENSON_ON_MURAL);
+        assertEquals(List.of("+mural", "-mural"), index.calls);
+        assertEquals(0, index.getProjectCount());
+    }
+
+    @Test
+    public void add_newerCopy_recountedOnlyIfStatusDiffers() {
+        index.add(ALICE_ON_MURAL);
+        index.add(BENSON_ON_MURAL);
+
+        // the index ignores payment, so a paid copy keeps the counted one
+        Person paidAlice = ALICE_ON_MURAL.replaceProject(MURAL_PAID);
+        index.remove(ALICE_ON_MURAL);
+        index.add(paidAlice);
+        assertEquals(List.of("+mural"), index.calls);
+
+        // a completed copy replaces it, and the copy uncounted is the one counted
+        Person completeAlice = paidAlice.replaceProject(MURAL_COMPLETE);
+        index.remove(paidAlice);
+        index.add(completeAlice);
+        assertEquals(List.of("+mural", "-mural", "+mural complete"), index.calls);
+
+        index.clear();
+        assertEquals(0, index.getProjectCount());
+        assertEquals(List.of(), index.calls);
+    }
+
+    /**
+     * Records the projects counted and uncounted, and treats copies as alike unless their progress differs.
+     */
+    private static class RecordingIndex extends SharedProjectIndex {
+        private final List<String> calls = new ArrayList<>();
+
+        @Override
+        protected void count(Project project, int delta) {
+            calls.add((delta > 0 ? "+" : "-") + project.getTagName() + (project.isComplete() ? " complete" : ""));
+        }
+
+        @Override
+        protected void clearCounts() {
+            calls.clear();
+        }
+
+        @Override
+        protected boolean hasSameStatus(Project counted, Project added) {
+            return counted.isComplete() == added.isComplete();
+        }
+    }
+}
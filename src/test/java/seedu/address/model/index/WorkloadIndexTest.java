@@ -0,0 +1,111 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalProjects.ALICE_ON_MURAL;
+import static seedu.address.testutil.TypicalProjects.APRIL_1;
+import static seedu.address.testutil.TypicalProjects.MURAL_APRIL_5;
+import static seedu.address.testutil.TypicalProjects.MURAL_APRIL_9;
+import static seedu.address.testutil.TypicalProjects.MURAL_COMPLETE;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Project;
+import seedu.address.testutil.PersonBuilder;
+
+public class WorkloadIndexTest {
+
+    // a Wednesday, in the week starting Monday 30 Mar 2026
+    private static final LocalDate MARCH_30 = LocalDate.of(2026, 3, 30);
+
+    private static final Project LOGO_APRIL_5 = new Project("logo", "Incomplete", "Paid", "05 Apr 2026 0900");
+
+    private static final Person BENSON_ON_MURAL_AND_LOGO = new PersonBuilder(BENSON).withProjects("mural", "logo")
+            .build().replaceProject(MURAL_APRIL_5).replaceProject(LOGO_APRIL_5);
+
+    private final WorkloadIndex index = new WorkloadIndex();
+
+    @Test
+    public void add_nullPerson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.add(null));
+    }
+
+    @Test
+    public void workloadFrom_invalidArguments_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, WorkloadIndex.MESSAGE_CONSTRAINTS, () ->
+                index.workloadFrom(APRIL_1.toLocalDate(), 0, 5));
+        assertThrows(IllegalArgumentException.class, WorkloadIndex.MESSAGE_CONSTRAINTS, () ->
+                index.workloadFrom(APRIL_1.toLocalDate(), 4, 0));
+    }
+
+    @Test
+    public void workloadFrom_countsEachProjectOnceByDayAndWeek() {
+        index.add(ALICE_ON_MURAL);
+        index.add(BENSON_ON_MURAL_AND_LOGO);
+
+        Workload workload = index.workloadFrom(APRIL_1.toLocalDate(), 3, 1);
+        assertEquals(3, workload.weeks().size());
+        assertEquals(2, workload.getTotalCount());
+
+        // the shared mural project is counted once, on Sunday alongside the logo
+        WeekLoad firstWeek = workload.weeks().get(0);
+        assertEquals(MARCH_30, firstWeek.weekStart());
+        assertEquals(List.of(0, 0, 0, 0, 0, 0, 2), firstWeek.dailyCounts());
+        assertEquals(2, firstWeek.count());
+        assertTrue(firstWeek.isOverloaded());
+        assertEquals(List.of(firstWeek), workload.getOverloadedWeeks());
+
+        assertEquals(0, workload.weeks().get(1).count());
+        assertFalse(index.workloadFrom(APRIL_1.toLocalDate(), 3, 2).weeks().get(0).isOverloaded());
+    }
+
+    @Test
+    public void add_rescheduledOrCompletedProject_movesCount() {
+        index.add(ALICE_ON_MURAL);
+
+        // a project's deadline is moved by replacing each of its members in turn
+        Person movedAlice = ALICE_ON_MURAL.replaceProject(MURAL_APRIL_9);
+        index.remove(ALICE_ON_MURAL);
+        index.add(movedAlice);
+        Workload workload = index.workloadFrom(APRIL_1.toLocalDate(), 2, 5);
+        assertEquals(0, workload.weeks().get(0).count());
+        assertEquals(List.of(0, 0, 0, 1, 0, 0, 0), workload.weeks().get(1).dailyCounts());
+
+        // completed projects are not counted
+        index.remove(movedAlice);
+        index.add(movedAlice.replaceProject(MURAL_COMPLETE));
+        assertEquals(0, index.workloadFrom(APRIL_1.toLocalDate(), 2, 5).getTotalCount());
+    }
+
+    @Test
+    public void remove_lastMember_uncountsProject() {
+        index.add(ALICE_ON_MURAL);
+        index.add(BENSON_ON_MURAL_AND_LOGO);
+
+        index.remove(BENSON_ON_MURAL_AND_LOGO);
+        assertEquals(1, index.workloadFrom(APRIL_1.toLocalDate(), 1, 5).getTotalCount());
+        index.remove(ALICE_ON_MURAL);
+        assertEquals(0, index.workloadFrom(APRIL_1.toLocalDate(), 1, 5).getTotalCount());
+
+        index.add(ALICE_ON_MURAL);
+        index.clear();
+        assertEquals(0, index.workloadFrom(APRIL_1.toLocalDate(), 1, 5).getTotalCount());
+    }
+
+    @Test
+    public void workloadFrom_laterWeeks_excludesEarlierDeadlines() {
+        index.add(ALICE_ON_MURAL);
+        Workload workload = index.workloadFrom(APRIL_1.toLocalDate().plusWeeks(1), 52, 5);
+        assertEquals(52, workload.weeks().size());
+        assertEquals(0, workload.getTotalCount());
+        assertEquals("0 incomplete projects due in the 52 weeks from 06 Apr 2026\n"
+                + "Overloaded weeks (more than 5 due): none", workload.toString());
+    }
+}
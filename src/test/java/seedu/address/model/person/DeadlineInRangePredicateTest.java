@@ -0,0 +1,74 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.Project;
+import seedu.address.testutil.PersonBuilder;
+
+public class DeadlineInRangePredicateTest {
+
+    private static final LocalDateTime APRIL_1 = LocalDateTime.of(2026, 4, 1, 12, 0);
+    private static final LocalDateTime APRIL_5 = LocalDateTime.of(2026, 4, 5, 12, 0);
+
+    private static final Person PERSON_DUE_APRIL_5 = new PersonBuilder().withProjects("mural").build()
+            .replaceProject(new Project("mural", "Incomplete", "Unpaid", "05 Apr 2026 1200"));
+
+    @Test
+    public void equals() {
+        DeadlineInRangePredicate firstPredicate = new DeadlineInRangePredicate(Optional.empty(), Optional.of(APRIL_1));
+        DeadlineInRangePredicate secondPredicate = new DeadlineInRangePredicate(Optional.of(APRIL_1), Optional.empty());
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new DeadlineInRangePredicate(Optional.empty(), Optional.of(APRIL_1))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different range -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_projectDueInRange_returnsTrue() {
+        // inclusive bounds
+        assertTrue(new DeadlineInRangePredicate(Optional.of(APRIL_5), Optional.of(APRIL_5))
+                .test(PERSON_DUE_APRIL_5));
+
+        // open bounds
+        assertTrue(new DeadlineInRangePredicate(Optional.empty(), Optional.of(APRIL_5)).test(PERSON_DUE_APRIL_5));
+        assertTrue(new DeadlineInRangePredicate(Optional.of(APRIL_1), Optional.empty()).test(PERSON_DUE_APRIL_5));
+        assertTrue(new DeadlineInRangePredicate(Optional.empty(), Optional.empty()).test(PERSON_DUE_APRIL_5));
+    }
+
+    @Test
+    public void test_noProjectDueInRange_returnsFalse() {
+        assertFalse(new DeadlineInRangePredicate(Optional.empty(), Optional.of(APRIL_1)).test(PERSON_DUE_APRIL_5));
+        assertFalse(new DeadlineInRangePredicate(Optional.of(APRIL_5.plusMinutes(1)), Optional.empty())
+                .test(PERSON_DUE_APRIL_5));
+
+        // no projects
+        assertFalse(new DeadlineInRangePredicate(Optional.empty(), Optional.empty())
+                .test(new PersonBuilder().build()));
+    }
+
+    @Test
+    public void toStringMethod() {
+        DeadlineInRangePredicate predicate = new DeadlineInRangePredicate(Optional.empty(), Optional.of(APRIL_1));
+        String expected = DeadlineInRangePredicate.class.getCanonicalName() + "{from=Optional.empty, to="
+                + Optional.of(APRIL_1) + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
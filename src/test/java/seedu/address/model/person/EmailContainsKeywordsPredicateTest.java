@@ -0,0 +1,65 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class EmailContainsKeywordsPredicateTest {
+
+    @Test
+    public void equals() {
+        EmailContainsKeywordsPredicate firstPredicate = new EmailContainsKeywordsPredicate(List.of("alice"));
+        EmailContainsKeywordsPredicate secondPredicate = new EmailContainsKeywordsPredicate(List.of("alice", "bob"));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new EmailContainsKeywordsPredicate(List.of("alice"))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_emailContainsKeywords_returnsTrue() {
+        // part of the email, ignoring case
+        assertTrue(new EmailContainsKeywordsPredicate(List.of("EXAMPLE.com"))
+                .test(new PersonBuilder().withEmail("alice@example.com").build()));
+
+        // only one matching keyword
+        assertTrue(new EmailContainsKeywordsPredicate(List.of("bob", "alice@"))
+                .test(new PersonBuilder().withEmail("alice@example.com").build()));
+    }
+
+    @Test
+    public void test_emailDoesNotContainKeywords_returnsFalse() {
+        assertFalse(new EmailContainsKeywordsPredicate(List.of("bob"))
+                .test(new PersonBuilder().withEmail("alice@example.com").build()));
+
+        // no email
+        assertFalse(new EmailContainsKeywordsPredicate(List.of("alice"))
+                .test(new PersonBuilder().withEmail(null).build()));
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<String> keywords = List.of("keyword1", "keyword2");
+        EmailContainsKeywordsPredicate predicate = new EmailContainsKeywordsPredicate(keywords);
+
+        String expected = EmailContainsKeywordsPredicate.class.getCanonicalName() + "{keywords=" + keywords + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
@@ -3,13 +3,21 @@ package seedu.address.model.person;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.AddressBook;
 import seedu.address.testutil.PersonBuilder;
 
 public class NameContainsKeywordsPredicateTest {
@@ -56,6 +64,20 @@ public class NameContainsKeywordsPredicateTest {
         // Mixed-case keywords
         predicate = new NameContainsKeywordsPredicate(Arrays.asList("aLIce", "bOB"));
         assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+
+        // Partial keywords
+        predicate = new NameContainsKeywordsPredicate(Arrays.asList("LIC*"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+        predicate = new NameContainsKeywordsPredicate(Arrays.asList("ce b*"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+
+        // Fuzzy keywords, within the default and a given edit distance
+        predicate = new NameContainsKeywordsPredicate(Arrays.asList("BERNISE~"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Bernice Yu").build()));
+        predicate = new NameContainsKeywordsPredicate(Arrays.asList("brenise~3"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Bernice Yu").build()));
+        predicate = new NameContainsKeywordsPredicate(Arrays.asList("yu~0"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Bernice Yu").build()));
     }
 
     @Test
@@ -68,12 +90,54 @@ public class NameContainsKeywordsPredicateTest {
         predicate = new NameContainsKeywordsPredicate(Arrays.asList("Carol"));
         assertFalse(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
 
+        // Partial word without the partial match suffix
+        predicate = new NameContainsKeywordsPredicate(Arrays.asList("Ali"));
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+
+        // Non-matching partial keyword
+        predicate = new NameContainsKeywordsPredicate(Arrays.asList("lis*"));
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+
+        // Fuzzy keyword too many edits away
+        predicate = new NameContainsKeywordsPredicate(Arrays.asList("brenise~"));
+        assertFalse(predicate.test(new PersonBuilder().withName("Bernice Yu").build()));
+        predicate = new NameContainsKeywordsPredicate(Arrays.asList("yo~0"));
+        assertFalse(predicate.test(new PersonBuilder().withName("Bernice Yu").build()));
+
         // Keywords match phone, email and address, but does not match name
         predicate = new NameContainsKeywordsPredicate(Arrays.asList("12345", "alice@email.com", "Main", "Street"));
         assertFalse(predicate.test(new PersonBuilder().withName("Alice").withPhone("91234567")
                 .build()));
     }
 
+    @Test
+    public void fuzzyKeyword_wordAndDistance() {
+        assertTrue(NameContainsKeywordsPredicate.isFuzzyKeyword("bernise~"));
+        assertTrue(NameContainsKeywordsPredicate.isFuzzyKeyword("bernise~2"));
+        assertFalse(NameContainsKeywordsPredicate.isFuzzyKeyword("bernise"));
+        assertFalse(NameContainsKeywordsPredicate.isFuzzyKeyword("bernise~12"));
+        assertFalse(NameContainsKeywordsPredicate.isFuzzyKeyword("bern~ise"));
+
+        assertEquals("bernise", NameContainsKeywordsPredicate.fuzzyWordOf("bernise~2"));
+        assertEquals(2, NameContainsKeywordsPredicate.fuzzyDistanceOf("bernise~2"));
+        assertEquals(NameContainsKeywordsPredicate.DEFAULT_FUZZY_DISTANCE,
+                NameContainsKeywordsPredicate.fuzzyDistanceOf("bernise~"));
+    }
+
+    @Test
+    public void lookup_fuzzyKeywords_matchesTest() {
+        AddressBook addressBook = getTypicalAddressBook();
+        NameContainsKeywordsPredicate predicate =
+                new NameContainsKeywordsPredicate(Arrays.asList("Meyer~", "kurtz~", "paulin*"));
+        Set<Person> matches = predicate.lookup(addressBook);
+
+        assertEquals(Set.of(ALICE, BENSON, CARL, DANIEL, ELLE), matches);
+        for (Person person : addressBook.getPersonList()) {
+            assertEquals(matches.contains(person), predicate.test(person));
+        }
+        assertTrue(predicate.estimateMatches(addressBook) >= matches.size());
+    }
+
     @Test
     public void toStringMethod() {
         List<String> keywords = List.of("keyword1", "keyword2");
@@ -0,0 +1,57 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonIdPredicateTest {
+
+    @Test
+    public void equals() {
+        PersonIdPredicate firstPredicate = new PersonIdPredicate(Set.of(1));
+        PersonIdPredicate secondPredicate = new PersonIdPredicate(Set.of(1, 2));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new PersonIdPredicate(Set.of(1))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different ids -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_editedPerson_stillMatches() {
+        PersonIdPredicate predicate = new PersonIdPredicate(Set.of(ALICE.getId()));
+        assertTrue(predicate.test(ALICE));
+        assertTrue(predicate.test(ALICE.createEditedPerson(
+                new EditPersonDescriptor().setName(new Name("Alice Renamed")))));
+        assertFalse(predicate.test(BENSON));
+        assertFalse(predicate.test(new PersonBuilder().build()));
+    }
+
+    @Test
+    public void lookup_personsInAddressBook_found() {
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
+        PersonIdPredicate predicate = new PersonIdPredicate(Set.of(ALICE.getId(), new PersonBuilder().build().getId()));
+        assertEquals(Set.of(ALICE), predicate.lookup(addressBook));
+        assertEquals(2, predicate.estimateMatches(addressBook));
+    }
+}
@@ -264,6 +264,21 @@ public class PersonTest {
         assertThrows(NullPointerException.class, () -> personWithProject.replaceProject(null));
     }
 
+    @Test
+    public void getId() {
+        // newly constructed persons -> different ids
+        Person aliceCopy = new PersonBuilder(ALICE).build();
+        assertNotEquals(ALICE.getId(), aliceCopy.getId());
+
+        // versions derived from a person -> same id
+        Set<Tag> tags = Set.of(new Tag(VALID_TAG_HUSBAND));
+        Set<Project> projects = Set.of(new Project(VALID_PROJECT_X));
+        assertEquals(ALICE.getId(), ALICE.tagPerson(tags, projects).getId());
+        assertEquals(ALICE.getId(), ALICE.unTagPerson(tags, projects).getId());
+        assertEquals(ALICE.getId(), ALICE.replaceProject(new Project(VALID_PROJECT_X)).getId());
+        assertEquals(ALICE.getId(), ALICE.createEditedPerson(new EditPersonDescriptor()).getId());
+    }
+
     @Test
     public void isSamePerson() {
         // same object -> returns true
@@ -335,6 +350,9 @@ public class PersonTest {
 
         // Different person -> different hashcode
         assertNotEquals(ALICE.hashCode(), BOB.hashCode());
+
+        // Equal persons with different ids -> same hashcode
+        assertEquals(ALICE.hashCode(), new PersonBuilder(ALICE).build().hashCode());
     }
 
     @Test
@@ -54,6 +54,12 @@ public class PhoneContainsKeywordsPredicateTest {
         // Only one matching keyword
         predicate = new PhoneContainsKeywordsPredicate(Arrays.asList("66666666", "66668888"));
         assertTrue(predicate.test(new PersonBuilder().withPhone("66668888").build()));
+
+        // Prefix and suffix keywords
+        predicate = new PhoneContainsKeywordsPredicate(Arrays.asList("9123*"));
+        assertTrue(predicate.test(new PersonBuilder().withPhone("91234567").build()));
+        predicate = new PhoneContainsKeywordsPredicate(Arrays.asList("*4567"));
+        assertTrue(predicate.test(new PersonBuilder().withPhone("91234567").build()));
     }
 
     @Test
@@ -69,6 +75,10 @@ public class PhoneContainsKeywordsPredicateTest {
         // Partially-matching keywords
         predicate = new PhoneContainsKeywordsPredicate(Arrays.asList("6666", "8888"));
         assertFalse(predicate.test(new PersonBuilder().withPhone("66666666").build()));
+
+        // Prefix and suffix keywords matching the wrong end
+        predicate = new PhoneContainsKeywordsPredicate(Arrays.asList("4567*", "*9123"));
+        assertFalse(predicate.test(new PersonBuilder().withPhone("91234567").build()));
     }
 
     @Test
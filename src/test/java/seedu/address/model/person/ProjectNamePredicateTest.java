@@ -0,0 +1,69 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.PersonBuilder;
+
+public class ProjectNamePredicateTest {
+
+    @Test
+    public void equals() {
+        ProjectNamePredicate firstPredicate = new ProjectNamePredicate(List.of("alpha"));
+        ProjectNamePredicate secondPredicate = new ProjectNamePredicate(List.of("alpha", "beta"));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new ProjectNamePredicate(List.of("alpha"))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different project names -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_hasProject_returnsTrue() {
+        assertTrue(new ProjectNamePredicate(List.of("ALPHA"))
+                .test(new PersonBuilder().withProjects("alpha").build()));
+        assertTrue(new ProjectNamePredicate(List.of("beta", "alpha"))
+                .test(new PersonBuilder().withProjects("alpha", "gamma").build()));
+    }
+
+    @Test
+    public void test_doesNotHaveProject_returnsFalse() {
+        assertFalse(new ProjectNamePredicate(List.of("alpha"))
+                .test(new PersonBuilder().withProjects("beta").build()));
+
+        // tags are not projects
+        assertFalse(new ProjectNamePredicate(List.of("alpha"))
+                .test(new PersonBuilder().withTags("alpha").withProjects().build()));
+    }
+
+    @Test
+    public void lookup_matchesTest() {
+        AddressBook addressBook = getTypicalAddressBook();
+        ProjectNamePredicate predicate = new ProjectNamePredicate(List.of("Project-X", "unknown"));
+
+        assertEquals(Set.of(BENSON, CARL, DANIEL), predicate.lookup(addressBook));
+        assertEquals(3, predicate.estimateMatches(addressBook));
+        assertEquals(0, new ProjectNamePredicate(List.of("unknown")).estimateMatches(addressBook));
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.Project;
+import seedu.address.testutil.PersonBuilder;
+
+public class SortFieldTest {
+
+    @Test
+    public void fromKeyword() {
+        assertEquals(Optional.of(SortField.NAME), SortField.fromKeyword("name"));
+        assertEquals(Optional.of(SortField.UNPAID), SortField.fromKeyword("UnPaid"));
+        assertEquals(Optional.empty(), SortField.fromKeyword("email"));
+        assertEquals("Contacts can only be sorted by name, phone, projects, deadline, unpaid.",
+                SortField.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void comparing_name_alphabeticalIgnoringCase() {
+        Person alpha = new PersonBuilder().withName("alpha").withPhone("81111111").build();
+        Person bravo = new PersonBuilder().withName("Bravo").withPhone("82222222").build();
+        Person charlie = new PersonBuilder().withName("charlie").withPhone("83333333").build();
+        assertSorted(List.of(SortField.NAME), alpha, bravo, charlie);
+        assertSorted(List.of(SortField.NAME), ALICE, BENSON, CARL, DANIEL, ELLE, FIONA, GEORGE);
+    }
+
+    @Test
+    public void comparing_phone() {
+        assertSorted(List.of(SortField.PHONE), DANIEL, ALICE, ELLE, FIONA, GEORGE, CARL, BENSON);
+    }
+
+    @Test
+    public void comparing_projectsAndUnpaid_tiesInOrderAdded() {
+        Person twoProjects = new PersonBuilder().withName("Two Projects").withPhone("81111111")
+                .withProjects("first", "second").build();
+        assertSorted(List.of(SortField.PROJECTS), twoProjects, BENSON, CARL, DANIEL, ALICE, ELLE);
+        assertSorted(List.of(SortField.UNPAID), BENSON, CARL, DANIEL, ALICE, ELLE, FIONA);
+        assertSorted(List.of(SortField.UNPAID, SortField.NAME), BENSON, CARL, DANIEL, ALICE, ELLE, FIONA);
+    }
+
+    @Test
+    public void comparing_deadline_nearestIncompleteFirst() {
+        Person dueLater = CARL.replaceProject(new Project("project-x", "Incomplete", "Paid", "01 May 2026 1200"));
+        Person dueSooner = DANIEL.replaceProject(new Project("project-x", "Incomplete", "Paid", "01 Apr 2026 1200"));
+        Person completed = BENSON.replaceProject(new Project("project-x", "Complete", "Paid", "01 Mar 2026 1200"));
+        assertSorted(List.of(SortField.DEADLINE), dueSooner, dueLater, ALICE, completed);
+        assertSorted(List.of(SortField.UNPAID, SortField.DEADLINE), dueSooner, dueLater, ALICE, completed);
+    }
+
+    @Test
+    public void getSortKey_computedOncePerVersion() {
+        assertSame(ALICE.getSortKey(), ALICE.getSortKey());
+        Person editedAlice = new PersonBuilder(ALICE).withProjects("project-y").build();
+        assertEquals(1, editedAlice.getSortKey().projectCount());
+        assertEquals(0, ALICE.getSortKey().projectCount());
+    }
+
+    /**
+     * Asserts that sorting the {@code expected} persons, given in reverse, by {@code fields} gives them back in order.
+     * Persons in {@code expected} that compare equal must be given in the order they were created.
+     */
+    private static void assertSorted(List<SortField> fields, Person... expected) {
+        List<Person> persons = new ArrayList<>(List.of(expected));
+        Collections.reverse(persons);
+        persons.sort(SortField.comparing(fields));
+        assertEquals(List.of(expected), persons);
+    }
+}
@@ -0,0 +1,89 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.Project;
+import seedu.address.testutil.PersonBuilder;
+
+public class TagAndStatusPredicateTest {
+
+    private static final Person CLIENT_WITH_PAID_PROJECT = new PersonBuilder().withTags("client")
+            .withProjects("mural", "logo").build()
+            .replaceProject(new Project("mural", "Incomplete", "Paid", "01 Jan 2030 1200"));
+
+    @Test
+    public void equals() {
+        TagAndStatusPredicate firstPredicate =
+                new TagAndStatusPredicate(List.of("client"), Optional.of(true), Optional.empty());
+        TagAndStatusPredicate secondPredicate =
+                new TagAndStatusPredicate(List.of("client"), Optional.of(false), Optional.empty());
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(
+                new TagAndStatusPredicate(List.of("client"), Optional.of(true), Optional.empty())));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different status -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_matchesAllFilters_returnsTrue() {
+        // Any of the tags, ignoring case
+        TagAndStatusPredicate predicate =
+                new TagAndStatusPredicate(List.of("friend", "CLIENT"), Optional.empty(), Optional.empty());
+        assertTrue(predicate.test(CLIENT_WITH_PAID_PROJECT));
+
+        // Some project paid, some project unpaid
+        predicate = new TagAndStatusPredicate(Collections.emptyList(), Optional.of(true), Optional.empty());
+        assertTrue(predicate.test(CLIENT_WITH_PAID_PROJECT));
+        predicate = new TagAndStatusPredicate(Collections.emptyList(), Optional.of(false), Optional.empty());
+        assertTrue(predicate.test(CLIENT_WITH_PAID_PROJECT));
+
+        // Tag and status together
+        predicate = new TagAndStatusPredicate(List.of("client"), Optional.of(true), Optional.of(false));
+        assertTrue(predicate.test(CLIENT_WITH_PAID_PROJECT));
+    }
+
+    @Test
+    public void test_failsAnyFilter_returnsFalse() {
+        // Non-matching tag
+        TagAndStatusPredicate predicate =
+                new TagAndStatusPredicate(List.of("friend"), Optional.of(true), Optional.empty());
+        assertFalse(predicate.test(CLIENT_WITH_PAID_PROJECT));
+
+        // No complete project
+        predicate = new TagAndStatusPredicate(List.of("client"), Optional.empty(), Optional.of(true));
+        assertFalse(predicate.test(CLIENT_WITH_PAID_PROJECT));
+
+        // No projects at all
+        predicate = new TagAndStatusPredicate(Collections.emptyList(), Optional.of(false), Optional.empty());
+        assertFalse(predicate.test(new PersonBuilder().withTags("client").build()));
+    }
+
+    @Test
+    public void toStringMethod() {
+        TagAndStatusPredicate predicate =
+                new TagAndStatusPredicate(List.of("client"), Optional.of(true), Optional.empty());
+
+        String expected = TagAndStatusPredicate.class.getCanonicalName() + "{tagKeywords=[client], "
+                + "isPaid=Optional[true], isComplete=Optional.empty}";
+        assertEquals(expected, predicate.toString());
+    }
+}
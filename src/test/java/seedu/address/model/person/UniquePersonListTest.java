@@ -7,10 +7,12 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
@@ -51,12 +53,35 @@ public class UniquePersonListTest {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
     }
 
+    @Test
+    public void add_atPosition_shiftsLaterPersons() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(CARL);
+        uniquePersonList.add(1, BOB);
+        assertEquals(List.of(ALICE, BOB, CARL), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(2, uniquePersonList.indexOf(CARL));
+
+        // positions stay consistent for later removals
+        uniquePersonList.remove(CARL);
+        assertEquals(List.of(ALICE, BOB), uniquePersonList.asUnmodifiableObservableList());
+        assertThrows(IndexOutOfBoundsException.class, () -> uniquePersonList.add(5, CARL));
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(0, BOB));
+    }
+
     @Test
     public void add_duplicatePerson_throwsDuplicatePersonException() {
         uniquePersonList.add(ALICE);
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(ALICE));
     }
 
+    @Test
+    public void add_otherVersionOfPersonInList_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        Person aliceWithOtherPhone = ALICE.createEditedPerson(
+                new EditPersonDescriptor().setPhone(BOB.getPhone()));
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(aliceWithOtherPhone));
+    }
+
     @Test
     public void setPerson_nullTargetPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPerson(null, ALICE));
@@ -108,6 +133,30 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, BOB));
     }
 
+    @Test
+    public void findByPhone_nullPhone_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniquePersonList.findByPhone(null));
+    }
+
+    @Test
+    public void findByPhone_personInList_returnsPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        assertEquals(Optional.of(BOB), uniquePersonList.findByPhone(BOB.getPhone()));
+    }
+
+    @Test
+    public void findByPhone_afterEditAndRemove_reflectsChanges() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertEquals(Optional.empty(), uniquePersonList.findByPhone(ALICE.getPhone()));
+        assertEquals(Optional.of(BOB), uniquePersonList.findByPhone(BOB.getPhone()));
+
+        uniquePersonList.remove(BOB);
+        assertFalse(uniquePersonList.contains(BOB));
+        assertEquals(Optional.empty(), uniquePersonList.findByPhone(BOB.getPhone()));
+    }
+
     @Test
     public void remove_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.remove(null));
@@ -126,6 +175,29 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_equalPersonWithDifferentId_removesPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(new PersonBuilder(ALICE).build());
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void remove_earlierPerson_laterPersonsCanStillBeReplaced() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(CARL);
+        uniquePersonList.remove(ALICE);
+
+        Person editedCarl = new PersonBuilder(CARL).withTags(VALID_TAG_HUSBAND).build();
+        uniquePersonList.setPerson(CARL, editedCarl);
+        uniquePersonList.remove(BOB);
+
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(editedCarl);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
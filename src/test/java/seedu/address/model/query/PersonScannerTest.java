@@ -0,0 +1,64 @@
+package seedu.address.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PhoneContainsKeywordsPredicate;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonScannerTest {
+
+    private static final List<Person> PERSONS = generatePersons(500);
+
+    @Test
+    public void constructor_nonPositiveThreshold_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, PersonScanner.MESSAGE_CONSTRAINTS, () -> new PersonScanner(0));
+    }
+
+    @Test
+    public void scan_nullArguments_throwsNullPointerException() {
+        PersonScanner scanner = new PersonScanner(1);
+        assertThrows(NullPointerException.class, () -> scanner.scan(null, person -> true));
+        assertThrows(NullPointerException.class, () -> scanner.scan(PERSONS, null));
+    }
+
+    @Test
+    public void scan_aboveThreshold_sameMatchesInListOrder() {
+        assertSameAsSequential(new NameContainsKeywordsPredicate(List.of("Person7*")));
+        assertSameAsSequential(new NameContainsKeywordsPredicate(List.of("Persn12~")));
+        assertSameAsSequential(new PhoneContainsKeywordsPredicate(List.of("*3")));
+        assertSameAsSequential(person -> true);
+        assertSameAsSequential(person -> false);
+    }
+
+    @Test
+    public void scan_belowThreshold_matchesInListOrder() {
+        PersonScanner scanner = new PersonScanner(PersonScanner.DEFAULT_PARALLEL_THRESHOLD);
+        List<Person> matches = scanner.scan(PERSONS, new PhoneContainsKeywordsPredicate(List.of("800001*")));
+        assertEquals(PERSONS.subList(100, 200), matches);
+        assertEquals(List.of(), scanner.scan(List.of(), person -> true));
+    }
+
+    private void assertSameAsSequential(Predicate<Person> predicate) {
+        List<Person> expected = PERSONS.stream().filter(predicate).toList();
+        assertEquals(expected, new PersonScanner(1).scan(PERSONS, predicate));
+        assertEquals(expected, new PersonScanner(PERSONS.size()).scan(PERSONS, predicate));
+    }
+
+    private static List<Person> generatePersons(int count) {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            persons.add(new PersonBuilder().withName("Person" + i).withPhone(String.format("8%07d", i))
+                    .withEmail("person" + i + "@example.com").build());
+        }
+        return persons;
+    }
+}
@@ -0,0 +1,134 @@
+package seedu.address.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.index.IndexedPredicate;
+import seedu.address.model.person.EmailContainsKeywordsPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PhoneContainsKeywordsPredicate;
+import seedu.address.model.person.ProjectNamePredicate;
+import seedu.address.model.person.TagAndStatusPredicate;
+
+public class QueryTest {
+
+    private static final Query FRIENDS = new TermQuery(
+            new TagAndStatusPredicate(List.of("friends"), Optional.empty(), Optional.empty()));
+    private static final Query MEIER = new TermQuery(new NameContainsKeywordsPredicate(List.of("Meier")));
+    private static final Query PROJECT_X = new TermQuery(new ProjectNamePredicate(List.of("project-x")));
+    private static final Query PHONE_948 = new TermQuery(new PhoneContainsKeywordsPredicate(List.of("948*")));
+    private static final Query EXAMPLE_EMAIL = new TermQuery(new EmailContainsKeywordsPredicate(List.of("Johnd")));
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+
+    @Test
+    public void termQuery_indexedOnlyForIndexedPredicates() {
+        assertTrue(FRIENDS.isIndexed());
+        assertFalse(EXAMPLE_EMAIL.isIndexed());
+        assertEquals(Set.of(BENSON), EXAMPLE_EMAIL.lookup(addressBook));
+        assertEquals(addressBook.getPersonList().size(), EXAMPLE_EMAIL.estimateMatches(addressBook));
+        assertEquals(3, FRIENDS.estimateMatches(addressBook));
+    }
+
+    @Test
+    public void andQuery_lookupMatchesTest() {
+        assertMatches(new AndQuery(List.of(FRIENDS, MEIER)), BENSON, DANIEL);
+        assertMatches(new AndQuery(List.of(PROJECT_X, EXAMPLE_EMAIL)), BENSON);
+        assertMatches(new AndQuery(List.of(FRIENDS, new NotQuery(PROJECT_X))), ALICE);
+        assertMatches(new AndQuery(List.of(PHONE_948, FRIENDS)));
+        assertTrue(new AndQuery(List.of(EXAMPLE_EMAIL, FRIENDS)).isIndexed());
+        assertFalse(new AndQuery(List.of(EXAMPLE_EMAIL, new NotQuery(FRIENDS))).isIndexed());
+        assertMatches(new AndQuery(List.of(EXAMPLE_EMAIL, new NotQuery(FRIENDS))));
+    }
+
+    @Test
+    public void andQuery_mostSelectiveOperandLookedUpFirst() {
+        CountingTerm broad = new CountingTerm(addressBook.getPersonList().size());
+        CountingTerm narrow = new CountingTerm(1);
+        new AndQuery(List.of(new TermQuery(broad), new TermQuery(narrow))).lookup(addressBook);
+
+        // the narrow term finds one candidate, which the broad term is then only tested on
+        assertEquals(1, narrow.lookups);
+        assertEquals(0, broad.lookups);
+        assertEquals(1, broad.tests);
+    }
+
+    @Test
+    public void orQuery_lookupMatchesTest() {
+        assertMatches(new OrQuery(List.of(PHONE_948, MEIER)), BENSON, DANIEL, ELLE, FIONA, GEORGE);
+        assertTrue(new OrQuery(List.of(PHONE_948, MEIER)).isIndexed());
+        assertFalse(new OrQuery(List.of(PHONE_948, EXAMPLE_EMAIL)).isIndexed());
+        assertMatches(new OrQuery(List.of(PHONE_948, EXAMPLE_EMAIL)), BENSON, ELLE, FIONA, GEORGE);
+    }
+
+    @Test
+    public void notQuery_lookupMatchesTest() {
+        assertMatches(new NotQuery(PROJECT_X), ALICE, ELLE, FIONA, GEORGE);
+        assertMatches(new NotQuery(EXAMPLE_EMAIL), ALICE, CARL, DANIEL, ELLE, FIONA, GEORGE);
+        assertMatches(new NotQuery(new NotQuery(FRIENDS)), ALICE, BENSON, DANIEL);
+    }
+
+    @Test
+    public void equals() {
+        assertEquals(new AndQuery(List.of(FRIENDS, MEIER)), new AndQuery(List.of(FRIENDS, MEIER)));
+        assertFalse(new AndQuery(List.of(FRIENDS, MEIER)).equals(new OrQuery(List.of(FRIENDS, MEIER))));
+        assertFalse(new NotQuery(FRIENDS).equals(new NotQuery(MEIER)));
+    }
+
+    /**
+     * Asserts that {@code query} looks up exactly the {@code expected} persons, and tests true on exactly them.
+     */
+    private void assertMatches(Query query, Person... expected) {
+        assertEquals(Set.of(expected), query.lookup(addressBook));
+        for (Person person : addressBook.getPersonList()) {
+            assertEquals(Set.of(expected).contains(person), query.test(person));
+        }
+    }
+
+    /**
+     * An indexed term matching the first few persons of the address book, which counts how it is used.
+     */
+    private static class CountingTerm implements IndexedPredicate {
+        private final int matchCount;
+        private int lookups = 0;
+        private int tests = 0;
+
+        CountingTerm(int matchCount) {
+            this.matchCount = matchCount;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            tests++;
+            return true;
+        }
+
+        @Override
+        public Set<Person> lookup(AddressBook addressBook) {
+            lookups++;
+            return Set.copyOf(addressBook.getPersonList().subList(0, matchCount));
+        }
+
+        @Override
+        public int estimateMatches(AddressBook addressBook) {
+            return matchCount;
+        }
+    }
+}
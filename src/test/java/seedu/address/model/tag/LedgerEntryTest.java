@@ -0,0 +1,54 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.LedgerEntry.Kind;
+
+public class LedgerEntryTest {
+
+    @Test
+    public void constructor_invalidAmount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, LedgerEntry.MESSAGE_CONSTRAINTS, () ->
+                new LedgerEntry(Kind.PAID, 0));
+        assertThrows(IllegalArgumentException.class, LedgerEntry.MESSAGE_CONSTRAINTS, () ->
+                new LedgerEntry(Kind.PAID, LedgerEntry.MAX_AMOUNT + 1));
+        assertThrows(NullPointerException.class, () -> new LedgerEntry(null, 100));
+    }
+
+    @Test
+    public void isValidAmount() {
+        // invalid amounts
+        assertFalse(LedgerEntry.isValidAmount("")); // empty string
+        assertFalse(LedgerEntry.isValidAmount("0")); // zero
+        assertFalse(LedgerEntry.isValidAmount("-5")); // negative
+        assertFalse(LedgerEntry.isValidAmount("1.234")); // too many decimal places
+        assertFalse(LedgerEntry.isValidAmount("1.")); // no cents after the point
+        assertFalse(LedgerEntry.isValidAmount("$12")); // currency symbol
+        assertFalse(LedgerEntry.isValidAmount("12345678901")); // too many dollars
+
+        // valid amounts
+        assertTrue(LedgerEntry.isValidAmount("0.01"));
+        assertTrue(LedgerEntry.isValidAmount("1200"));
+        assertTrue(LedgerEntry.isValidAmount("1200.5"));
+        assertTrue(LedgerEntry.isValidAmount("9999999999.99"));
+    }
+
+    @Test
+    public void toCents() {
+        assertEquals(120_000, LedgerEntry.toCents("1200"));
+        assertEquals(120_050, LedgerEntry.toCents("1200.5"));
+        assertEquals(120_005, LedgerEntry.toCents("1200.05"));
+    }
+
+    @Test
+    public void formatAmount() {
+        assertEquals("$1200.05", LedgerEntry.formatAmount(120_005));
+        assertEquals("$0.00", LedgerEntry.formatAmount(0));
+        assertEquals("-$0.50", LedgerEntry.formatAmount(-50));
+    }
+}
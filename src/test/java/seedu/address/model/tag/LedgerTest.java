@@ -0,0 +1,108 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.LedgerEntry.Kind;
+
+public class LedgerTest {
+
+    private static final LedgerEntry INVOICED_500 = new LedgerEntry(Kind.INVOICED, 50_000);
+    private static final LedgerEntry PAID_120_50 = new LedgerEntry(Kind.PAID, 12_050);
+    private static final LedgerEntry PAID_1 = new LedgerEntry(Kind.PAID, 100);
+
+    @Test
+    public void append_keepsRunningTotals() {
+        Ledger ledger = Ledger.EMPTY.append(INVOICED_500).append(PAID_120_50);
+        assertEquals(2, ledger.size());
+        assertEquals(new LedgerTotals(50_000, 12_050), ledger.getTotals());
+        assertEquals(37_950, ledger.getTotals().outstanding());
+        assertEquals(List.of(INVOICED_500, PAID_120_50), ledger.getEntries());
+
+        // the empty ledger is unchanged
+        assertTrue(Ledger.EMPTY.isEmpty());
+        assertEquals(LedgerTotals.NONE, Ledger.EMPTY.getTotals());
+    }
+
+    @Test
+    public void append_toOlderLedger_leavesNewerLedgerUnchanged() {
+        Ledger invoiced = Ledger.EMPTY.append(INVOICED_500);
+        Ledger partlyPaid = invoiced.append(PAID_120_50);
+        // appending to a ledger that has already been appended to copies its entries rather than overwriting
+        Ledger otherwisePaid = invoiced.append(PAID_1);
+
+        assertEquals(List.of(INVOICED_500, PAID_120_50), partlyPaid.getEntries());
+        assertEquals(List.of(INVOICED_500, PAID_1), otherwisePaid.getEntries());
+        assertEquals(List.of(INVOICED_500), invoiced.getEntries());
+        assertEquals(List.of(INVOICED_500, PAID_120_50, PAID_1), partlyPaid.append(PAID_1).getEntries());
+    }
+
+    @Test
+    public void append_beyondMaxTotal_throwsIllegalArgumentException() {
+        LedgerEntry invoicedMax = new LedgerEntry(Kind.INVOICED, LedgerEntry.MAX_AMOUNT);
+        LedgerEntry paidMax = new LedgerEntry(Kind.PAID, LedgerEntry.MAX_AMOUNT);
+        Ledger ledger = Ledger.EMPTY;
+        while (ledger.getTotals().invoiced() <= Ledger.MAX_TOTAL - LedgerEntry.MAX_AMOUNT) {
+            ledger = ledger.append(invoicedMax).append(paidMax);
+        }
+        Ledger full = ledger;
+        assertThrows(IllegalArgumentException.class, Ledger.MESSAGE_TOTAL_CONSTRAINTS, () -> full.append(invoicedMax));
+        assertThrows(IllegalArgumentException.class, Ledger.MESSAGE_TOTAL_CONSTRAINTS, () -> full.append(paidMax));
+
+        // a ledger that could be entered can always be loaded again
+        assertEquals(full, Ledger.fromCompactString(full.toCompactString()));
+    }
+
+    @Test
+    public void compactString_roundTrips() {
+        assertEquals("", Ledger.EMPTY.toCompactString());
+        assertEquals(Ledger.EMPTY, Ledger.fromCompactString(""));
+
+        Random random = new Random(25);
+        Ledger ledger = Ledger.EMPTY;
+        for (int i = 0; i < 1000; i++) {
+            long amount = 1 + (random.nextLong() >>> 1) % (1L << random.nextInt(40));
+            ledger = ledger.append(new LedgerEntry(random.nextBoolean() ? Kind.INVOICED : Kind.PAID, amount));
+        }
+        ledger = ledger.append(new LedgerEntry(Kind.INVOICED, LedgerEntry.MAX_AMOUNT));
+
+        Ledger loaded = Ledger.fromCompactString(ledger.toCompactString());
+        assertEquals(ledger, loaded);
+        assertEquals(ledger.getTotals(), loaded.getTotals());
+        assertEquals(ledger.getEntries(), loaded.getEntries());
+    }
+
+    @Test
+    public void fromCompactString_invalid_throwsIllegalArgumentException() {
+        // not Base64
+        assertThrows(IllegalArgumentException.class, () -> Ledger.fromCompactString("#!"));
+        // a zero amount
+        assertThrows(IllegalArgumentException.class, Ledger.MESSAGE_ENCODING_CONSTRAINTS, () ->
+                Ledger.fromCompactString("AA"));
+        // an unterminated amount
+        String invoiced = Ledger.EMPTY.append(INVOICED_500).toCompactString();
+        assertThrows(IllegalArgumentException.class, Ledger.MESSAGE_ENCODING_CONSTRAINTS, () ->
+                Ledger.fromCompactString(invoiced + "gA"));
+        // an amount too large
+        assertThrows(IllegalArgumentException.class, Ledger.MESSAGE_ENCODING_CONSTRAINTS, () ->
+                Ledger.fromCompactString("/////////wE"));
+    }
+
+    @Test
+    public void equals() {
+        Ledger ledger = Ledger.EMPTY.append(INVOICED_500).append(PAID_120_50);
+
+        assertTrue(ledger.equals(Ledger.EMPTY.append(INVOICED_500).append(PAID_120_50)));
+        assertTrue(ledger.equals(ledger));
+        assertFalse(ledger.equals(null));
+        assertFalse(ledger.equals(Ledger.EMPTY.append(PAID_120_50).append(INVOICED_500)));
+        assertFalse(ledger.equals(Ledger.EMPTY.append(INVOICED_500)));
+    }
+}
@@ -1,9 +1,16 @@
 package seedu.address.model.tag;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.time.LocalDateTime;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.tag.LedgerEntry.Kind;
+
 public class ProjectTest {
 
     @Test
@@ -16,4 +23,36 @@ public class ProjectTest {
         String invalidProjectName = "";
         assertThrows(IllegalArgumentException.class, () -> new Project(invalidProjectName));
     }
+
+    @Test
+    public void getters() {
+        Project project = new Project("mural", "Complete", "Unpaid", "01 Jan 2030 1200");
+        assertTrue(project.isComplete());
+        assertFalse(project.isPaid());
+        assertEquals(LocalDateTime.of(2030, 1, 1, 12, 0), project.getDeadline());
+
+        Project newProject = new Project("mural");
+        assertFalse(newProject.isComplete());
+        assertFalse(newProject.isPaid());
+        assertTrue(newProject.getLedger().isEmpty());
+    }
+
+    @Test
+    public void createProjectWithLedgerEntry_paidOnceNothingOutstanding() {
+        Project project = new Project("mural", "Incomplete", "Paid", "01 Jan 2030 1200");
+
+        Project invoiced = project.createProjectWithLedgerEntry(new LedgerEntry(Kind.INVOICED, 50_000));
+        assertFalse(invoiced.isPaid());
+        assertEquals(new LedgerTotals(50_000, 0), invoiced.getLedger().getTotals());
+
+        Project partlyPaid = invoiced.createProjectWithLedgerEntry(new LedgerEntry(Kind.PAID, 20_000));
+        assertFalse(partlyPaid.isPaid());
+        Project paid = partlyPaid.createProjectWithLedgerEntry(new LedgerEntry(Kind.PAID, 30_000));
+        assertTrue(paid.isPaid());
+        assertEquals(2, partlyPaid.getLedger().size());
+
+        // editing the status keeps the ledger
+        Project completed = paid.createEditedProject(new SetStatusDescriptor().setIsComplete(true));
+        assertEquals(paid.getLedger(), completed.getLedger());
+    }
 }
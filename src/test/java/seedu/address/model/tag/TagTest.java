@@ -3,6 +3,7 @@ package seedu.address.model.tag;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -28,6 +29,20 @@ public class TagTest {
         assertThrows(IllegalArgumentException.class, () -> new Tag(invalidTagName));
     }
 
+    @Test
+    public void of_equalNames_returnsSharedTag() {
+        Tag tag = Tag.of("client");
+        assertSame(tag, Tag.of("client"));
+        assertSame(tag, Tag.of("CLIENT"));
+        assertEquals(new Tag("client"), tag);
+    }
+
+    @Test
+    public void constructor_equalNames_shareTagName() {
+        assertSame(new Tag("client").getTagName(), new Tag("Client").getTagName());
+        assertSame(new Tag("client").getTagName(), new Project("client").getTagName());
+    }
+
     @Test
     public void test_getTagName() {
         assertEquals(validTag.getTagName(), "valid_tag");
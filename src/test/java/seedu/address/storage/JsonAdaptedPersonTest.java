@@ -7,6 +7,7 @@ import static seedu.address.testutil.TypicalPersons.BENSON;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
@@ -16,6 +17,7 @@ import seedu.address.logic.Messages;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Project;
 
 public class JsonAdaptedPersonTest {
     private static final String INVALID_NAME = "R@chel";
@@ -37,9 +39,25 @@ public class JsonAdaptedPersonTest {
     @Test
     public void toModelType_validPersonDetails_returnsPerson() throws Exception {
         JsonAdaptedPerson person = new JsonAdaptedPerson(BENSON);
+        Map<String, Project> projectTable = BENSON.getProjects().stream()
+                .collect(Collectors.toMap(Project::getTagName, project -> project));
+        assertEquals(BENSON, person.toModelType(projectTable));
+    }
+
+    @Test
+    public void toModelType_embeddedProjects_returnsPerson() throws Exception {
+        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, BENSON.getEmail().get().value,
+                VALID_TAGS, VALID_PROJECTS, VALID_CONTACT_METHOD);
         assertEquals(BENSON, person.toModelType());
     }
 
+    @Test
+    public void toModelType_unknownProjectName_throwsIllegalValueException() {
+        JsonAdaptedPerson person = new JsonAdaptedPerson(BENSON);
+        String expectedMessage = String.format(JsonAdaptedPerson.MESSAGE_UNKNOWN_PROJECT, "project-x");
+        assertThrows(IllegalValueException.class, expectedMessage, () -> person.toModelType(Map.of()));
+    }
+
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         JsonAdaptedPerson person =
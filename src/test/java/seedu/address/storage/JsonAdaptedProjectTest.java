@@ -0,0 +1,40 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.tag.Ledger;
+import seedu.address.model.tag.LedgerEntry;
+import seedu.address.model.tag.LedgerEntry.Kind;
+import seedu.address.model.tag.Project;
+
+public class JsonAdaptedProjectTest {
+
+    private static final Project MURAL = new Project("mural", "Incomplete", "Unpaid", "01 Jan 2030 1200")
+            .createProjectWithLedgerEntry(new LedgerEntry(Kind.INVOICED, 50_000))
+            .createProjectWithLedgerEntry(new LedgerEntry(Kind.PAID, 12_050));
+
+    @Test
+    public void toModelType_projectWithLedger_returnsProject() throws Exception {
+        Project project = new JsonAdaptedProject(MURAL).toModelType();
+        assertEquals(MURAL.toString(), project.toString());
+        assertEquals(MURAL.getLedger(), project.getLedger());
+    }
+
+    @Test
+    public void toModelType_noLedger_returnsEmptyLedger() throws Exception {
+        JsonAdaptedProject project = new JsonAdaptedProject("mural", "Incomplete", "Unpaid", "01 Jan 2030 1200",
+                null);
+        assertEquals(Ledger.EMPTY, project.toModelType().getLedger());
+    }
+
+    @Test
+    public void toModelType_invalidLedger_throwsIllegalValueException() {
+        JsonAdaptedProject project = new JsonAdaptedProject("mural", "Incomplete", "Unpaid", "01 Jan 2030 1200",
+                "AA");
+        assertThrows(IllegalValueException.class, Ledger.MESSAGE_ENCODING_CONSTRAINTS, project::toModelType);
+    }
+}
@@ -1,16 +1,21 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Project;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -19,6 +24,9 @@ public class JsonSerializableAddressBookTest {
     private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
     private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
     private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+    private static final Path SHARED_PROJECTS_FILE = TEST_DATA_FOLDER.resolve("sharedProjectsAddressBook.json");
+    private static final Path UNKNOWN_PROJECT_FILE = TEST_DATA_FOLDER.resolve("unknownProjectAddressBook.json");
+    private static final Path DUPLICATE_PROJECT_FILE = TEST_DATA_FOLDER.resolve("duplicateProjectAddressBook.json");
 
     @Test
     public void toModelType_typicalPersonsFile_success() throws Exception {
@@ -45,4 +53,42 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_sharedProjectsFile_personsShareProject() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(SHARED_PROJECTS_FILE,
+                JsonSerializableAddressBook.class).get();
+        AddressBook addressBook = dataFromFile.toModelType();
+
+        List<Person> persons = addressBook.getPersonList();
+        Project project = persons.get(0).getProjects().iterator().next();
+        assertSame(project, persons.get(1).getProjects().iterator().next());
+        assertTrue(project.isComplete());
+        assertTrue(project.isPaid());
+        assertEquals(List.of(project), addressBook.getProjectList());
+    }
+
+    @Test
+    public void toModelType_unknownProject_throwsIllegalValueException() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(UNKNOWN_PROJECT_FILE,
+                JsonSerializableAddressBook.class).get();
+        assertThrows(IllegalValueException.class, String.format(JsonAdaptedPerson.MESSAGE_UNKNOWN_PROJECT,
+                "project-x"), dataFromFile::toModelType);
+    }
+
+    @Test
+    public void toModelType_duplicateProjects_throwsIllegalValueException() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(DUPLICATE_PROJECT_FILE,
+                JsonSerializableAddressBook.class).get();
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PROJECT,
+                dataFromFile::toModelType);
+    }
+
+    @Test
+    public void toModelType_savedTypicalAddressBook_roundTrips() throws Exception {
+        AddressBook typicalPersonsAddressBook = TypicalPersons.getTypicalAddressBook();
+        AddressBook addressBook = new JsonSerializableAddressBook(typicalPersonsAddressBook).toModelType();
+        assertEquals(typicalPersonsAddressBook, addressBook);
+        assertEquals(1, addressBook.getProjectList().size());
+    }
+
 }
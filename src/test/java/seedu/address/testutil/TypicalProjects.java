@@ -0,0 +1,32 @@
+package seedu.address.testutil;
+
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.time.LocalDateTime;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Project;
+
+/**
+ * A utility class containing {@code Project} objects, and persons on them, to be used in tests of the project
+ * indexes. The deadlines fall in early April 2026.
+ */
+public class TypicalProjects {
+
+    public static final LocalDateTime APRIL_1 = LocalDateTime.of(2026, 4, 1, 12, 0);
+    public static final LocalDateTime APRIL_5 = LocalDateTime.of(2026, 4, 5, 12, 0);
+    public static final LocalDateTime APRIL_9 = LocalDateTime.of(2026, 4, 9, 12, 0);
+
+    public static final Project MURAL_APRIL_5 = new Project("mural", "Incomplete", "Unpaid", "05 Apr 2026 1200");
+    public static final Project MURAL_APRIL_9 = new Project("mural", "Incomplete", "Unpaid", "09 Apr 2026 1200");
+    public static final Project MURAL_COMPLETE = new Project("mural", "Complete", "Unpaid", "05 Apr 2026 1200");
+    public static final Project MURAL_COMPLETE_PAID = new Project("mural", "Complete", "Paid", "05 Apr 2026 1200");
+
+    public static final Person ALICE_ON_MURAL = new PersonBuilder(ALICE).withProjects("mural").build()
+            .replaceProject(MURAL_APRIL_5);
+    public static final Person BENSON_ON_MURAL = new PersonBuilder(BENSON).withProjects("mural").build()
+            .replaceProject(MURAL_APRIL_5);
+
+    private TypicalProjects() {} // prevents instantiation
+}